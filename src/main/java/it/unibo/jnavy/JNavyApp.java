@@ -2,14 +2,17 @@ package it.unibo.jnavy;
 
 import javax.swing.SwingUtilities;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jnavy.controller.selection.SelectionController;
+import it.unibo.jnavy.controller.simulation.SimulationCommand;
 import it.unibo.jnavy.view.View;
 import it.unibo.jnavy.view.ViewGUI;
 
 /**
  * The main entry point for the JNavy application.
  * This class is responsible for initializing the core components
- * of the application and starting the graphical user interface.
+ * of the application and starting the graphical user interface,
+ * or the headless simulation mode when the arguments include {@value SimulationCommand#FLAG}.
  */
 public final class JNavyApp {
 
@@ -22,10 +25,46 @@ public final class JNavyApp {
      * The main method that launches the application.
      * It ensures that the GUI creation and initialization are executed
      * safely on the Event Dispatch Thread (EDT).
+     * In simulation mode the GUI is never loaded, so AWT is not initialised and no display is needed.
      *
-     * @param args the command-line arguments (not used)
+     * @param args the command-line arguments, see {@link SimulationCommand#usage()} for the simulation mode.
      */
     public static void main(final String[] args) {
+        if (SimulationCommand.isRequested(args)) {
+            simulate(args);
+        } else {
+            launchGui();
+        }
+    }
+
+    /**
+     * Runs the simulation mode, printing its standings on the standard output.
+     * Invalid options are reported on the standard error, and the process exits with a non-zero status.
+     *
+     * @param args the command-line arguments.
+     */
+    @SuppressFBWarnings(
+        value = "DM_EXIT",
+        justification = "The exit status tells scripts running the simulation that the options were invalid."
+    )
+    private static void simulate(final String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        final SimulationCommand command;
+        try {
+            command = SimulationCommand.parse(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(SimulationCommand.usage());
+            System.exit(2);
+            return;
+        }
+        command.run(System.out);
+    }
+
+    /**
+     * Creates and shows the graphical user interface on the Event Dispatch Thread.
+     */
+    private static void launchGui() {
         SwingUtilities.invokeLater(() -> {
             final SelectionController sController = new SelectionController();
             final View view = new ViewGUI(sController);
@@ -1,11 +1,19 @@
 package it.unibo.jnavy.controller.game;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jnavy.model.bots.Deadline;
 import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridSnapshot;
 import it.unibo.jnavy.model.player.Player;
+import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.RandomSource;
 import it.unibo.jnavy.model.utilities.ShotResult;
 import it.unibo.jnavy.model.weather.WeatherManager;
 
@@ -13,12 +21,30 @@ import it.unibo.jnavy.model.weather.WeatherManager;
  * Controller responsible for managing combat actions, including firing shots
  * and using special abilities for both the human player and the bot player.
  * It coordinates interaction between the players, the weather system, and turn management.
+ * Besides the turns of a human against a bot, it can play automated turns for either side,
+ * which is how headless matches between two bots are driven.
  */
 public class CombatController {
+    private static final Duration BOT_DEADLINE = Duration.ofSeconds(1);
+
     private final Player human;
     private final Player bot;
     private final WeatherManager weather;
     private final TurnController turnController;
+    private final RandomSource random;
+
+    /**
+     * Constructs a new CombatController that replaces missing bot targets from a fresh random source.
+     *
+     * @param human the human player instance.
+     * @param bot the bot player instance.
+     * @param weather the manager for weather-related effects.
+     * @param turnController the controller that manages turn transitions.
+     */
+    public CombatController(final Player human, final Player bot,
+                            final WeatherManager weather, final TurnController turnController) {
+        this(human, bot, weather, turnController, RandomSource.create());
+    }
 
     /**
      * Constructs a new CombatController.
@@ -27,17 +53,20 @@ public class CombatController {
      * @param bot the bot player instance.
      * @param weather the manager for weather-related effects.
      * @param turnController the controller that manages turn transitions.
+     * @param random the source of the cells shot in place of a missing or invalid bot target,
+     *               so that a seeded game stays reproducible.
      */
     @SuppressFBWarnings(
         value = "EI_EXPOSE_REP2",
         justification = "The controller needs direct references to Model objects to read their updated state."
     )
-    public CombatController(final Player human, final Player bot,
-                            final WeatherManager weather, final TurnController turnController) {
+    public CombatController(final Player human, final Player bot, final WeatherManager weather,
+                            final TurnController turnController, final RandomSource random) {
         this.human = human;
         this.bot = bot;
         this.weather = weather;
         this.turnController = turnController;
+        this.random = random;
     }
 
     /**
@@ -52,7 +81,7 @@ public class CombatController {
             return;
         }
 
-        this.human.createShot(p, this.bot.getGrid());
+        this.human.createShot(p, this.bot.getGrid(), this.weather);
         this.turnController.endTurn();
     }
 
@@ -94,11 +123,92 @@ public class CombatController {
             return null;
         }
 
-        final Optional<Position> optionalTarget = this.bot.generateTarget(this.human.getGrid());
+        this.bot.receiveWeather(this.weather.getCurrentWeather());
+        return applyTarget(this.bot, this.human, this.bot.generateTarget(this.human.getGrid()));
+    }
+
+    /**
+     * Lets the bot choose the target of its turn without blocking the caller.
+     * The bot thinks on a dedicated thread, over a snapshot of the human grid, within a fixed deadline,
+     * and gives no target if it takes too long. Nothing is shot: the caller then plays the
+     * target on its own thread with {@link #playBotTurn(Position)}, which replaces a missing one.
+     *
+     * @return the future target chosen by the bot, empty if the game is over, it is the human's turn
+     *         or the bot chose no valid target in time.
+     */
+    public CompletableFuture<Optional<Position>> selectBotTargetAsync() {
+        if (this.turnController.isGameOver() || this.turnController.isHumanTurn()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        this.bot.receiveWeather(this.weather.getCurrentWeather());
+        return this.bot.generateTargetAsync(this.human.getGrid(), Deadline.after(BOT_DEADLINE));
+    }
+
+    /**
+     * Plays the bot's turn on a target chosen beforehand, as {@link #playBotTurn()} does.
+     * A missing target, or one that is no longer valid, is replaced by an available cell drawn from
+     * the random source of this controller.
+     *
+     * @param target the target chosen by the bot, or null to shoot a random cell.
+     * @return the final position targeted by the bot after weather effects,
+     *         or null if the game is over, no cell is left to shoot, or it is the human's turn.
+     */
+    public Position playBotTurn(final Position target) {
+        if (this.turnController.isGameOver() || this.turnController.isHumanTurn()) {
+            return null;
+        }
+
+        final Grid grid = this.human.getGrid();
+        if ((target == null || !grid.isTargetValid(target)) && grid.getAvailableTargetCount() > 0) {
+            return applyTarget(this.bot, this.human,
+                    Optional.of(grid.getRandomAvailableTarget(this.random)));
+        }
+        return applyTarget(this.bot, this.human, Optional.ofNullable(target));
+    }
+
+    /**
+     * Plays the turn of the current player, whichever side it is on, without any input.
+     * The player chooses its target through {@link Player#generateTarget(Grid)} and the shot is
+     * subject to the weather, as for the bot in {@link #playBotTurn()}. A player whose captain ability
+     * is recharged uses it first: an ability on its own grid is spent on a damaged cell of its fleet,
+     * one on the enemy grid is aimed at the chosen target, and the cells it shoots are reported back
+     * to the player as if they were shot one by one. A player that generates no target passes its turn.
+     *
+     * @return the final position targeted by the player after weather effects, or null if the game is over
+     *         or no cell was shot.
+     */
+    public Position playAutomatedTurn() {
+        if (this.turnController.isGameOver()) {
+            return null;
+        }
+
+        final boolean firstSide = this.turnController.isHumanTurn();
+        final Player shooter = firstSide ? this.human : this.bot;
+        final Player defender = firstSide ? this.bot : this.human;
+        shooter.receiveWeather(this.weather.getCurrentWeather());
+
+        if (shooter.isAbilityReady() && !shooter.abilityTargetsEnemyGrid() && useOwnGridAbility(shooter)
+                && shooter.doesAbilityConsumeTurn()) {
+            this.turnController.endTurn();
+            return null;
+        }
+
+        final Optional<Position> target = shooter.generateTarget(defender.getGrid());
+        if (target.isPresent() && shooter.isAbilityReady() && shooter.abilityTargetsEnemyGrid()
+                && useEnemyGridAbility(shooter, defender.getGrid(), target.get())
+                && shooter.doesAbilityConsumeTurn()) {
+            this.turnController.endTurn();
+            return target.get();
+        }
+        return applyTarget(shooter, defender, target);
+    }
+
+    private Position applyTarget(final Player shooter, final Player defender, final Optional<Position> optionalTarget) {
         if (optionalTarget.isPresent()) {
             final Position target = optionalTarget.get();
-            final ShotResult result = this.weather.applyWeatherEffects(target, this.human.getGrid());
-            this.bot.receiveFeedback(result.position(), result.hitType());
+            final ShotResult result = this.weather.applyWeatherEffects(target, defender.getGrid());
+            shooter.receiveFeedback(result.position(), result.hitType());
             this.turnController.endTurn();
             return result.position();
         }
@@ -106,4 +216,59 @@ public class CombatController {
         this.turnController.endTurn();
         return null;
     }
+
+    /**
+     * Uses an ability on the player's own grid on the first damaged cell of a ship still afloat.
+     *
+     * @param player the player using the ability.
+     * @return true if the ability was used, false if no cell needs it or it failed.
+     */
+    private boolean useOwnGridAbility(final Player player) {
+        final Grid grid = player.getGrid();
+        final GridSnapshot snapshot = grid.snapshot();
+        for (final Position p : grid.getOccupiedPositions()) {
+            if (snapshot.getCellStatus(p) == HitType.HIT) {
+                return player.useAbility(p, grid);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Uses an ability on the enemy grid and reports every cell it shot to the player, in order,
+     * as a hit, a miss or, for the last cell shot of a ship it sank, as sunk.
+     *
+     * @param player the player using the ability.
+     * @param enemyGrid the grid of the opponent.
+     * @param target the cell the ability is aimed at.
+     * @return true if the ability was used, false otherwise.
+     */
+    private boolean useEnemyGridAbility(final Player player, final Grid enemyGrid, final Position target) {
+        final GridSnapshot before = enemyGrid.snapshot();
+        final long version = enemyGrid.getVersion();
+        if (!player.useAbility(target, enemyGrid)) {
+            return false;
+        }
+        final GridSnapshot after = enemyGrid.snapshot();
+        final List<Position> shot = new ArrayList<>();
+        for (final Position p : enemyGrid.getChangesSince(version).orElse(List.of())) {
+            if (before.getCellStatus(p) == HitType.NONE && after.getCellStatus(p) != HitType.NONE) {
+                shot.add(p);
+            }
+        }
+        for (int i = 0; i < shot.size(); i++) {
+            final Position p = shot.get(i);
+            HitType result = after.getCellStatus(p);
+            if (result == HitType.SUNK) {
+                for (int j = i + 1; j < shot.size(); j++) {
+                    if (after.getShipId(shot.get(j)) == after.getShipId(p)) {
+                        result = HitType.HIT;
+                        break;
+                    }
+                }
+            }
+            player.receiveFeedback(p, result);
+        }
+        return true;
+    }
 }
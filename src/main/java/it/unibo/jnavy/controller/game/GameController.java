@@ -3,6 +3,10 @@ package it.unibo.jnavy.controller.game;
 import it.unibo.jnavy.controller.utilities.CellCondition;
 import it.unibo.jnavy.model.utilities.Position;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface representing the main controller for the game logic.
  * It manages the game flow, player turns, and interactions between the model and the view.
@@ -69,6 +73,36 @@ public interface GameController {
      */
     CellCondition getBotCellState(Position p);
 
+    /**
+     * Retrieves the version of the human player's grid, which increases whenever one of its cells changes.
+     *
+     * @return the current version of the grid.
+     */
+    long getHumanGridVersion();
+
+    /**
+     * Retrieves the version of the bot player's grid, which increases whenever one of its cells changes.
+     *
+     * @return the current version of the grid.
+     */
+    long getBotGridVersion();
+
+    /**
+     * Retrieves the cells of the human player's grid changed after the given version.
+     *
+     * @param version a version previously returned by {@link #getHumanGridVersion()}.
+     * @return the changed positions, or an empty Optional if the whole grid must be refreshed.
+     */
+    Optional<List<Position>> getHumanGridChangesSince(long version);
+
+    /**
+     * Retrieves the cells of the bot player's grid changed after the given version.
+     *
+     * @param version a version previously returned by {@link #getBotGridVersion()}.
+     * @return the changed positions, or an empty Optional if the whole grid must be refreshed.
+     */
+    Optional<List<Position>> getBotGridChangesSince(long version);
+
     /**
      * Retrieves the name of the current weather condition affecting the game.
      *
@@ -90,6 +124,24 @@ public interface GameController {
      */
     Position playBotTurn();
 
+    /**
+     * Lets the bot choose the target of its turn without blocking the caller,
+     * so that the view stays responsive while the bot is thinking.
+     * Nothing is shot until the target is passed to {@link #playBotTurn(Position)} on the caller's thread.
+     *
+     * @return the future target chosen by the bot, empty if it is not the bot's turn
+     *         or the bot chose no valid target in time.
+     */
+    CompletableFuture<Optional<Position>> selectBotTargetAsync();
+
+    /**
+     * Executes the bot's turn on a target it chose beforehand.
+     *
+     * @param target the target chosen by the bot, or null to shoot a cell drawn from the game's random source.
+     * @return the position targeted by the bot.
+     */
+    Position playBotTurn(Position target);
+
     /**
      * Retrieves the difficulty level of the opponent bot.
      *
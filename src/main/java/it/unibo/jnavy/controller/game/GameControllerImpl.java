@@ -9,6 +9,10 @@ import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.weather.WeatherManager;
 import it.unibo.jnavy.model.weather.WeatherManagerImpl;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Concrete implementation of the {@link GameController} interface.
  */
@@ -20,6 +24,7 @@ public final class GameControllerImpl implements GameController {
 
     private final Player human;
     private final Player bot;
+    private final WeatherManager weather;
 
     /**
      * Constructor for a new game.
@@ -30,12 +35,11 @@ public final class GameControllerImpl implements GameController {
     public GameControllerImpl(final Player human, final Player bot) {
         this.human = human;
         this.bot = bot;
-        final WeatherManager weather = WeatherManagerImpl.getInstance();
-        ((WeatherManagerImpl) weather).reset();
+        this.weather = new WeatherManagerImpl();
 
-        this.turnController = new TurnController(human, bot, weather, 0, true);
-        this.combatController = new CombatController(human, bot, weather, this.turnController);
-        this.gameStateController = new GameStateController(human, bot, weather);
+        this.turnController = new TurnController(human, bot, this.weather, 0, true);
+        this.combatController = new CombatController(human, bot, this.weather, this.turnController);
+        this.gameStateController = new GameStateController(human, bot, this.weather);
     }
 
     /**
@@ -46,11 +50,11 @@ public final class GameControllerImpl implements GameController {
     public GameControllerImpl(final GameState state) {
         this.human = state.getHuman();
         this.bot = state.getBot();
-        final WeatherManager weather = WeatherManagerImpl.getInstance();
+        this.weather = state.getWeather();
 
-        this.turnController = new TurnController(this.human, this.bot, weather, state.getTurnCounter(), state.isHumanTurn());
-        this.combatController = new CombatController(this.human, this.bot, weather, this.turnController);
-        this.gameStateController = new GameStateController(this.human, this.bot, weather);
+        this.turnController = new TurnController(this.human, this.bot, this.weather, state.getTurnCounter(), state.isHumanTurn());
+        this.combatController = new CombatController(this.human, this.bot, this.weather, this.turnController);
+        this.gameStateController = new GameStateController(this.human, this.bot, this.weather);
     }
 
     @Override
@@ -59,7 +63,7 @@ public final class GameControllerImpl implements GameController {
                 this.human,
                 this.bot,
                 this.turnController.getTurnCounter(),
-                this.gameStateController.getWeatherCondition(),
+                this.weather,
                 this.turnController.isHumanTurn()
         );
 
@@ -92,6 +96,26 @@ public final class GameControllerImpl implements GameController {
         return gameStateController.getBotCellState(p);
     }
 
+    @Override
+    public long getHumanGridVersion() {
+        return gameStateController.getHumanGridVersion();
+    }
+
+    @Override
+    public long getBotGridVersion() {
+        return gameStateController.getBotGridVersion();
+    }
+
+    @Override
+    public Optional<List<Position>> getHumanGridChangesSince(final long version) {
+        return gameStateController.getHumanGridChangesSince(version);
+    }
+
+    @Override
+    public Optional<List<Position>> getBotGridChangesSince(final long version) {
+        return gameStateController.getBotGridChangesSince(version);
+    }
+
     @Override
     public String getWeatherConditionName() {
         return gameStateController.getWeatherCondition().name();
@@ -127,6 +151,16 @@ public final class GameControllerImpl implements GameController {
         return combatController.playBotTurn();
     }
 
+    @Override
+    public CompletableFuture<Optional<Position>> selectBotTargetAsync() {
+        return combatController.selectBotTargetAsync();
+    }
+
+    @Override
+    public Position playBotTurn(final Position target) {
+        return combatController.playBotTurn(target);
+    }
+
     @Override
     public boolean isHumanTurn() {
         return turnController.isHumanTurn();
@@ -8,6 +8,9 @@ import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.weather.WeatherCondition;
 import it.unibo.jnavy.model.weather.WeatherManager;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Controller responsible for managing and exposing the current game state.
  * It acts as an adapter between the domain model and the view, mapping internal
@@ -124,6 +127,44 @@ public class GameStateController {
                    .orElse(CellCondition.FOG);
     }
 
+    /**
+     * Retrieves the version of the human player's grid.
+     *
+     * @return the current version of the grid.
+     */
+    public long getHumanGridVersion() {
+        return this.human.getGrid().getVersion();
+    }
+
+    /**
+     * Retrieves the version of the bot's grid.
+     *
+     * @return the current version of the grid.
+     */
+    public long getBotGridVersion() {
+        return this.bot.getGrid().getVersion();
+    }
+
+    /**
+     * Retrieves the cells of the human player's grid changed after the given version.
+     *
+     * @param version a version previously returned by {@link #getHumanGridVersion()}.
+     * @return the changed positions, or an empty Optional if the whole grid must be refreshed.
+     */
+    public Optional<List<Position>> getHumanGridChangesSince(final long version) {
+        return this.human.getGrid().getChangesSince(version);
+    }
+
+    /**
+     * Retrieves the cells of the bot's grid changed after the given version.
+     *
+     * @param version a version previously returned by {@link #getBotGridVersion()}.
+     * @return the changed positions, or an empty Optional if the whole grid must be refreshed.
+     */
+    public Optional<List<Position>> getBotGridChangesSince(final long version) {
+        return this.bot.getGrid().getChangesSince(version);
+    }
+
     /**
      * Maps an internal {@link Cell} object to a displayable {@link CellCondition}.
      * This method handles the logic for hiding occupied cells on the enemy grid
@@ -6,14 +6,19 @@ import it.unibo.jnavy.controller.setup.SetupController;
 import it.unibo.jnavy.controller.setup.SetupControllerImpl;
 import it.unibo.jnavy.model.bots.BeginnerBot;
 import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.bots.DensityBot;
+import it.unibo.jnavy.model.bots.MonteCarloBot;
 import it.unibo.jnavy.model.bots.ProBot;
 import it.unibo.jnavy.model.bots.SniperBot;
+import it.unibo.jnavy.model.bots.TreeSearchBot;
 import it.unibo.jnavy.model.captains.Captain;
 import it.unibo.jnavy.model.captains.Engineer;
 import it.unibo.jnavy.model.captains.Gunner;
 import it.unibo.jnavy.model.captains.SonarOfficer;
 import it.unibo.jnavy.model.player.Bot;
 import it.unibo.jnavy.model.player.Human;
+import it.unibo.jnavy.model.serialization.PlacementHeatmap;
+import it.unibo.jnavy.model.serialization.PlacementHeatmapImpl;
 import it.unibo.jnavy.model.serialization.SaveManager;
 import it.unibo.jnavy.model.serialization.SaveManagerImpl;
 import it.unibo.jnavy.view.View;
@@ -80,6 +85,9 @@ public class SelectionController {
         switch (level) {
             case BEGINNER -> this.selectedBotStrategy = new BeginnerBot();
             case PRO -> this.selectedBotStrategy = new ProBot();
+            case EXPERT -> this.selectedBotStrategy = new DensityBot();
+            case ADMIRAL -> this.selectedBotStrategy = new MonteCarloBot();
+            case FLEET_ADMIRAL -> this.selectedBotStrategy = new TreeSearchBot();
             case SNIPER -> {
                 this.selectedBotStrategy = new ProBot();
                 this.isSniperSelected = true;
@@ -105,7 +113,8 @@ public class SelectionController {
 
     /**
      * Transitions the game from the setup phase to the main combat phase.
-     * It finalizes the bot's strategy (specifically for Sniper mode) and
+     * It gives the bot the prior learned from the player's previous fleets, records the new fleet
+     * in the {@link PlacementHeatmap}, finalizes the bot's strategy (specifically for Sniper mode) and
      * initializes the main GameController.
      *
      * @param completedSetup the setup controller containing the finalized player configuration
@@ -113,6 +122,9 @@ public class SelectionController {
     public void setupComplete(final SetupController completedSetup) {
         final Human humanPlayer = (Human) completedSetup.getHumanPlayer();
         final Bot botPlayer = (Bot) completedSetup.getBotPlayer();
+        final PlacementHeatmap heatmap = new PlacementHeatmapImpl(humanPlayer.getGrid().getSize());
+        heatmap.weights().ifPresent(this.selectedBotStrategy::placementPrior);
+        heatmap.record(humanPlayer.getGrid().getOccupiedPositions());
         if (isSniperSelected) {
             botPlayer.setStrategy(new SniperBot(humanPlayer.getGrid().getOccupiedPositions()));
         }
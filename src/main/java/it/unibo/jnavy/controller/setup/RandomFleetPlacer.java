@@ -0,0 +1,113 @@
+package it.unibo.jnavy.controller.setup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jnavy.model.fleet.Fleet;
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.ship.Ship;
+import it.unibo.jnavy.model.ship.ShipImpl;
+import it.unibo.jnavy.model.utilities.CardinalDirection;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+
+/**
+ * Places ships at random on a grid, respecting the placement rules.
+ * It is shared by the setup phase of a game and by the headless matches, which deploy both fleets at random.
+ */
+public final class RandomFleetPlacer {
+
+    private final RandomGenerator random;
+
+    /**
+     * Creates a placer drawing its positions from the given source of randomness.
+     *
+     * @param random the source of randomness.
+     */
+    public RandomFleetPlacer(final RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * @return the sizes of the ships of a complete fleet, largest first.
+     */
+    public static List<Integer> fleetConfiguration() {
+        return Fleet.FLEET_COMPOSITION.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByKey().reversed()) // largest first
+                .flatMap(e -> Collections.nCopies(e.getValue(), e.getKey()).stream())
+                .toList();
+    }
+
+    /**
+     * Places a complete fleet at random on the grid.
+     *
+     * @param grid the grid to fill.
+     */
+    public void placeFleet(final Grid grid) {
+        place(grid, fleetConfiguration());
+    }
+
+    /**
+     * Places a list of ships randomly on a grid, around the ships it already holds.
+     * On boards covered by a {@link PlacementTable} each ship is drawn uniformly among the placements
+     * that still fit, so no attempt is wasted on positions that overlap or cross the border.
+     *
+     * @param grid the grid to fill.
+     * @param shipsToInsert the list of ship sizes to place.
+     * @throws IllegalStateException if a ship does not fit anywhere on the grid.
+     */
+    public void place(final Grid grid, final List<Integer> shipsToInsert) {
+        if (!PlacementTable.isSupported(grid.getSize())) {
+            placeByTrial(grid, shipsToInsert);
+            return;
+        }
+        final PlacementTable table = PlacementTable.of(grid.getSize());
+        final long[] occupied = table.newBitset();
+        for (final Ship placed : grid.getFleet().getShips()) {
+            for (final Position p : grid.getShipPositions(placed)) {
+                table.occupyCell(occupied, p.index(grid.getSize()));
+            }
+        }
+
+        for (final int size : shipsToInsert) {
+            if (!table.hasShipSize(size)) {
+                placeByTrial(grid, List.of(size));
+                continue;
+            }
+            final int placement = table.randomPlacement(occupied, size, this.random);
+            if (placement == PlacementTable.NONE) {
+                throw new IllegalStateException("No room left for a ship of size " + size);
+            }
+            grid.placeShip(new ShipImpl(size), table.getStart(placement), table.getDirection(placement));
+            table.occupy(occupied, placement);
+        }
+    }
+
+    /**
+     * Places ships by drawing random positions and directions until each one fits.
+     *
+     * @param grid the grid to fill.
+     * @param shipsToInsert the list of ship sizes to place.
+     */
+    private void placeByTrial(final Grid grid, final List<Integer> shipsToInsert) {
+        for (final int size : shipsToInsert) {
+            boolean placed = false;
+            final Ship ship = new ShipImpl(size);
+            while (!placed) {
+                final Position pos = Positions.of(this.random.nextInt(grid.getSize()),
+                        this.random.nextInt(grid.getSize()));
+
+                final CardinalDirection[] directions = CardinalDirection.values();
+                final CardinalDirection dir = directions[this.random.nextInt(directions.length)];
+
+                if (grid.isPlacementValid(ship, pos, dir)) {
+                    grid.placeShip(ship, pos, dir);
+                    placed = true;
+                }
+            }
+        }
+    }
+}
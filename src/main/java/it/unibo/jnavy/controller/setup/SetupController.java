@@ -75,6 +75,13 @@ public interface SetupController {
      */
     CellState getCellState(Position pos);
 
+    /**
+     * Retrieves the size of the human player's grid, so that the view can lay out the board.
+     *
+     * @return the number of rows and columns of the grid.
+     */
+    int getGridSize();
+
     /**
      * Removes all ships from the human player's grid and resets the placement list.
      */
@@ -2,8 +2,9 @@ package it.unibo.jnavy.controller.setup;
 
 import it.unibo.jnavy.controller.utilities.CellState;
 import it.unibo.jnavy.model.cell.Cell;
-import it.unibo.jnavy.model.fleet.Fleet;
 import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.Grids;
 import it.unibo.jnavy.model.player.Player;
 import it.unibo.jnavy.model.player.Bot;
 import it.unibo.jnavy.model.player.Human;
@@ -13,12 +14,11 @@ import it.unibo.jnavy.model.ship.Ship;
 import it.unibo.jnavy.model.ship.ShipImpl;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.RandomSource;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -30,7 +30,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public final class SetupControllerImpl implements SetupController {
 
     private final List<Integer> shipsToPlace;
-    private final Random random;
+    private final RandomFleetPlacer placer;
     private final Player human;
     private final Player bot;
 
@@ -50,11 +50,38 @@ public final class SetupControllerImpl implements SetupController {
      * @param selectedBotStrategy the difficulty strategy for the bot.
      */
     public SetupControllerImpl(final Captain selectedCaptain, final BotStrategy selectedBotStrategy) {
-        this.shipsToPlace = new ArrayList<>(buildFleetConfig());
-        this.random = new Random();
-        this.human = new Human(selectedCaptain);
-        this.bot = new Bot(selectedBotStrategy);
-        this.placeFleetRandomly(this.bot, new ArrayList<>(buildFleetConfig()));
+        this(selectedCaptain, selectedBotStrategy, GridImpl.DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new SetupControllerImpl whose players fight on square boards of the given size.
+     *
+     * @param selectedCaptain the captain selected by the human player.
+     * @param selectedBotStrategy the difficulty strategy for the bot.
+     * @param gridSize the number of rows and columns of both grids.
+     */
+    public SetupControllerImpl(final Captain selectedCaptain, final BotStrategy selectedBotStrategy,
+                               final int gridSize) {
+        this(selectedCaptain, selectedBotStrategy, gridSize, RandomSource.create());
+    }
+
+    /**
+     * Constructs a new SetupControllerImpl whose random choices all derive from the given source:
+     * the placements drawn for the fleets and the choices of the bot use separate splits of it.
+     *
+     * @param selectedCaptain the captain selected by the human player.
+     * @param selectedBotStrategy the difficulty strategy for the bot.
+     * @param gridSize the number of rows and columns of both grids.
+     * @param random the source of randomness of the game.
+     */
+    public SetupControllerImpl(final Captain selectedCaptain, final BotStrategy selectedBotStrategy,
+                               final int gridSize, final RandomSource random) {
+        this.shipsToPlace = new ArrayList<>(RandomFleetPlacer.fleetConfiguration());
+        this.placer = new RandomFleetPlacer(random.split());
+        selectedBotStrategy.setRandomSource(random.split());
+        this.human = new Human(selectedCaptain, Grids.create(gridSize));
+        this.bot = new Bot(selectedBotStrategy, Grids.create(gridSize));
+        this.placer.placeFleet(this.bot.getGrid());
     }
 
     @Override
@@ -111,7 +138,7 @@ public final class SetupControllerImpl implements SetupController {
         this.unsetShip();
 
         if (!shipsToPlace.isEmpty()) {
-            placeFleetRandomly(this.human, this.shipsToPlace);
+            this.placer.place(this.human.getGrid(), this.shipsToPlace);
             this.shipsToPlace.clear();
         }
     }
@@ -152,13 +179,18 @@ public final class SetupControllerImpl implements SetupController {
         return new CellState(
                 true,
                 shipId,
-                hasSameShip(grid, ship, new Position(pos.x() - 1, pos.y())),
-                hasSameShip(grid, ship, new Position(pos.x() + 1, pos.y())),
-                hasSameShip(grid, ship, new Position(pos.x(), pos.y() - 1)),
-                hasSameShip(grid, ship, new Position(pos.x(), pos.y() + 1))
+                hasSameShip(grid, ship, Positions.of(pos.x() - 1, pos.y())),
+                hasSameShip(grid, ship, Positions.of(pos.x() + 1, pos.y())),
+                hasSameShip(grid, ship, Positions.of(pos.x(), pos.y() - 1)),
+                hasSameShip(grid, ship, Positions.of(pos.x(), pos.y() + 1))
         );
     }
 
+    @Override
+    public int getGridSize() {
+        return this.human.getGrid().getSize();
+    }
+
     @Override
     public void clearFleet() {
 
@@ -170,14 +202,7 @@ public final class SetupControllerImpl implements SetupController {
         }
 
         this.shipsToPlace.clear();
-        this.shipsToPlace.addAll(buildFleetConfig());
-    }
-
-    private static List<Integer> buildFleetConfig() {
-        return Fleet.FLEET_COMPOSITION.entrySet().stream()
-                .sorted(Map.Entry.<Integer, Integer>comparingByKey().reversed()) // largest first
-                .flatMap(e -> Collections.nCopies(e.getValue(), e.getKey()).stream())
-                .toList();
+        this.shipsToPlace.addAll(RandomFleetPlacer.fleetConfiguration());
     }
 
     private boolean hasSameShip(final Grid grid, final Ship ship, final Position neighbor) {
@@ -195,30 +220,4 @@ public final class SetupControllerImpl implements SetupController {
             this.currentShipDir = null;
         }
     }
-
-    /**
-     * Internal helper to place a list of ships randomly on a player's grid.
-     *
-     * @param player The player target.
-     * @param shipsToInsert The list of ship sizes to place.
-     */
-    private void placeFleetRandomly(final Player player, final List<Integer> shipsToInsert) {
-        final Grid grid = player.getGrid();
-
-        for (final int size : shipsToInsert) {
-            boolean placed = false;
-            final Ship ship = new ShipImpl(size);
-            while (!placed) {
-                final Position pos = new Position(random.nextInt(grid.getSize()), random.nextInt(grid.getSize()));
-
-                final CardinalDirection[] directions = CardinalDirection.values();
-                final CardinalDirection dir = directions[random.nextInt(directions.length)];
-
-                if (grid.isPlacementValid(ship, pos, dir)) {
-                    grid.placeShip(ship, pos, dir);
-                    placed = true;
-                }
-            }
-        }
-    }
 }
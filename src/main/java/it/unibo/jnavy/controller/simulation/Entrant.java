@@ -0,0 +1,80 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import it.unibo.jnavy.model.bots.BeginnerBot;
+import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.bots.DensityBot;
+import it.unibo.jnavy.model.bots.MonteCarloBot;
+import it.unibo.jnavy.model.bots.ProBot;
+import it.unibo.jnavy.model.bots.SniperBot;
+import it.unibo.jnavy.model.bots.TreeSearchBot;
+import it.unibo.jnavy.model.captains.Captain;
+import it.unibo.jnavy.model.grid.Grid;
+
+/**
+ * A participant of a {@link Tournament}: a kind of bot, optionally commanding a captain.
+ * Every match needs fresh strategies and captains, so the entrant holds factories rather than instances.
+ *
+ * @param name the name of the entrant in the standings.
+ * @param strategy creates the strategy of a new bot, given the grid of the enemy fleet it will face.
+ * @param captain creates the captain of a new bot, or returns null for a bot without captain.
+ */
+public record Entrant(String name, Function<Grid, BotStrategy> strategy, Supplier<Captain> captain) {
+
+    /**
+     * Creates an entrant without captain whose strategy ignores the enemy fleet.
+     *
+     * @param name the name of the entrant.
+     * @param strategy creates the strategy of a new bot.
+     * @return the entrant.
+     */
+    public static Entrant of(final String name, final Supplier<BotStrategy> strategy) {
+        return new Entrant(name, enemy -> strategy.get(), () -> null);
+    }
+
+    /**
+     * Creates an entrant playing like this one, under the command of a captain.
+     *
+     * @param captainFactory creates the captain of a new bot.
+     * @return the entrant, named after this one and the captain.
+     */
+    public Entrant withCaptain(final Supplier<Captain> captainFactory) {
+        return new Entrant(this.name + "+" + captainFactory.get().getName(), this.strategy, captainFactory);
+    }
+
+    /**
+     * Lists the bots the player can challenge, under the names shown by the game.
+     * The Sniper is given the positions of the enemy ships, as in a game against it.
+     *
+     * @return the registered entrants, from the weakest to the strongest.
+     */
+    public static List<Entrant> registered() {
+        return List.of(
+                of("Beginner", BeginnerBot::new),
+                of("Pro", ProBot::new),
+                of("Expert", DensityBot::new),
+                of("Admiral", MonteCarloBot::new),
+                of("Fleet Admiral", TreeSearchBot::new),
+                new Entrant("Sniper", enemy -> new SniperBot(enemy.getOccupiedPositions()), () -> null));
+    }
+
+    /**
+     * Looks a registered entrant up by name, ignoring case, spaces and dashes.
+     *
+     * @param name the name of the entrant, e.g. "pro" or "fleet-admiral".
+     * @return the entrant, or an empty Optional if none has that name.
+     */
+    public static Optional<Entrant> named(final String name) {
+        final String key = normalize(name);
+        return registered().stream().filter(e -> normalize(e.name()).equals(key)).findFirst();
+    }
+
+    private static String normalize(final String name) {
+        return name.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,75 @@
+package it.unibo.jnavy.controller.simulation;
+
+import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.captains.Captain;
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.player.Player;
+
+/**
+ * Plays whole matches between two automated players without any user interface,
+ * so that bots and rule changes can be evaluated over many games.
+ * Matches follow the rules of the interactive game: turns, weather and captain cooldowns
+ * are handled by the same controllers.
+ */
+public interface MatchEngine {
+
+    /**
+     * @return the number of rows and columns of the boards of the players deployed by this engine.
+     */
+    int getGridSize();
+
+    /**
+     * @return the number of turns after which a match is stopped without a winner.
+     */
+    int getMaxTurns();
+
+    /**
+     * Creates a grid of the engine's size holding a complete fleet placed at random.
+     * It lets callers build players whose strategy depends on the enemy fleet.
+     *
+     * @return the new grid.
+     */
+    Grid deployFleet();
+
+    /**
+     * Creates a bot with the given strategy and no captain, with its fleet placed at random.
+     *
+     * @param strategy the strategy of the bot, which must not be shared with other players.
+     * @return the bot, ready to play.
+     */
+    Player deploy(BotStrategy strategy);
+
+    /**
+     * Creates a bot with the given strategy and captain, with its fleet placed at random.
+     * The strategy is given its own source of randomness, split from the engine's one,
+     * and its caches are isolated from the other bots, see {@link BotStrategy#isolateCaches()}.
+     *
+     * @param strategy the strategy of the bot, which must not be shared with other players.
+     * @param captain the captain of the bot, which must not be shared with other players.
+     * @return the bot, ready to play.
+     */
+    Player deploy(BotStrategy strategy, Captain captain);
+
+    /**
+     * Plays a match to completion, or until the turn limit if neither fleet can be sunk.
+     * Each player chooses its targets through {@link Player#generateTarget(it.unibo.jnavy.model.grid.Grid)},
+     * so a player that generates none only passes its turns.
+     *
+     * @param first the player moving first, with its fleet already placed.
+     * @param second the player moving second, with its fleet already placed.
+     * @return the outcome of the match.
+     * @throws IllegalArgumentException if both sides are the same player.
+     */
+    MatchResult play(Player first, Player second);
+
+    /**
+     * Plays a match between two bots without captains, deployed at random.
+     *
+     * @param first the strategy of the bot moving first.
+     * @param second the strategy of the bot moving second.
+     * @return the outcome of the match.
+     */
+    default MatchResult play(final BotStrategy first, final BotStrategy second) {
+        return play(deploy(first), deploy(second));
+    }
+}
@@ -0,0 +1,144 @@
+package it.unibo.jnavy.controller.simulation;
+
+import it.unibo.jnavy.controller.game.CombatController;
+import it.unibo.jnavy.controller.game.TurnController;
+import it.unibo.jnavy.controller.setup.RandomFleetPlacer;
+import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.captains.Captain;
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.Grids;
+import it.unibo.jnavy.model.player.Bot;
+import it.unibo.jnavy.model.player.Player;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.weather.WeatherManager;
+import it.unibo.jnavy.model.weather.WeatherManagerImpl;
+
+/**
+ * Implementation of the {@link MatchEngine} interface driving a {@link TurnController} and a
+ * {@link CombatController} in a plain loop, one automated turn after the other, on the calling thread.
+ * Nothing waits on timers or on the event dispatch thread, so a match takes only as long as the bots think.
+ * Every match has its own weather manager, so engines on different threads never interfere;
+ * a single engine is not thread-safe, as its matches draw from one source of randomness.
+ * Fleets, bots and weather draw from splits of the engine's {@link RandomSource}, and the bots it deploys
+ * keep their cached evaluations to themselves (see {@link BotStrategy#isolateCaches()}), so an engine created
+ * with a given seed replays the same matches, as long as the bots do not cut their search on a time budget.
+ */
+public final class MatchEngineImpl implements MatchEngine {
+
+    private static final int MAX_TURNS_PER_CELL = 4;
+
+    private final int gridSize;
+    private final int maxTurns;
+    private final RandomSource random;
+    private final RandomFleetPlacer placer;
+
+    /**
+     * Creates an engine playing on boards of the default size.
+     */
+    public MatchEngineImpl() {
+        this(GridImpl.DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates an engine playing on square boards of the given size.
+     * A match is stopped without a winner after {@link #maxTurns(int)} turns.
+     *
+     * @param gridSize the number of rows and columns of the boards.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public MatchEngineImpl(final int gridSize) {
+        this(gridSize, RandomSource.create());
+    }
+
+    /**
+     * Creates an engine playing on square boards of the given size, drawing its random choices from the given source.
+     *
+     * @param gridSize the number of rows and columns of the boards.
+     * @param random the source of randomness of the engine.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public MatchEngineImpl(final int gridSize, final RandomSource random) {
+        this.maxTurns = maxTurns(gridSize);
+        this.gridSize = gridSize;
+        this.random = random;
+        this.placer = new RandomFleetPlacer(random.split());
+    }
+
+    /**
+     * Computes the turn limit of the matches played on boards of the given size: four turns per cell
+     * of the board, which is more than any pair of players that keep shooting new cells can need.
+     *
+     * @param gridSize the number of rows and columns of the boards.
+     * @return the number of turns after which a match is stopped without a winner.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public static int maxTurns(final int gridSize) {
+        if (gridSize < 1) {
+            throw new IllegalArgumentException("Board size must be positive: " + gridSize);
+        }
+        return MAX_TURNS_PER_CELL * gridSize * gridSize;
+    }
+
+    @Override
+    public int getGridSize() {
+        return this.gridSize;
+    }
+
+    @Override
+    public int getMaxTurns() {
+        return this.maxTurns;
+    }
+
+    @Override
+    public Grid deployFleet() {
+        final Grid grid = Grids.create(this.gridSize);
+        this.placer.placeFleet(grid);
+        return grid;
+    }
+
+    @Override
+    public Player deploy(final BotStrategy strategy) {
+        return deploy(strategy, null);
+    }
+
+    @Override
+    public Player deploy(final BotStrategy strategy, final Captain captain) {
+        strategy.setRandomSource(this.random.split());
+        strategy.isolateCaches();
+        return new Bot(strategy, captain, deployFleet());
+    }
+
+    @Override
+    public MatchResult play(final Player first, final Player second) {
+        if (first == second) {
+            throw new IllegalArgumentException("A player cannot play against itself");
+        }
+        final WeatherManager weather = new WeatherManagerImpl(this.random.split());
+
+        final TurnController turns = new TurnController(first, second, weather, 0, true);
+        final CombatController combat = new CombatController(first, second, weather, turns, this.random.split());
+        int firstShots = 0;
+        int secondShots = 0;
+        while (!turns.isGameOver() && turns.getTurnCounter() < this.maxTurns) {
+            final boolean firstTurn = turns.isHumanTurn();
+            if (combat.playAutomatedTurn() != null) {
+                if (firstTurn) {
+                    firstShots++;
+                } else {
+                    secondShots++;
+                }
+            }
+        }
+
+        final MatchResult.Winner winner;
+        if (turns.isBotDefeated()) {
+            winner = MatchResult.Winner.FIRST;
+        } else if (turns.isGameOver()) {
+            winner = MatchResult.Winner.SECOND;
+        } else {
+            winner = MatchResult.Winner.NONE;
+        }
+        return new MatchResult(winner, turns.getTurnCounter(), firstShots, secondShots);
+    }
+}
@@ -0,0 +1,41 @@
+package it.unibo.jnavy.controller.simulation;
+
+/**
+ * The immutable outcome of a headless match.
+ *
+ * @param winner the side that sank the whole enemy fleet, or {@link Winner#NONE} if the match was stopped first.
+ * @param turns the number of turns played by both sides.
+ * @param firstPlayerShots the number of turns in which the first player shot a cell.
+ * @param secondPlayerShots the number of turns in which the second player shot a cell.
+ */
+public record MatchResult(Winner winner, int turns, int firstPlayerShots, int secondPlayerShots) {
+
+    /**
+     * The possible winners of a match.
+     */
+    public enum Winner {
+        /**
+         * The player who moved first won.
+         */
+        FIRST,
+        /**
+         * The player who moved second won.
+         */
+        SECOND,
+        /**
+         * Nobody won: the match reached the turn limit with both fleets afloat.
+         */
+        NONE
+    }
+
+    /**
+     * @return the number of shots fired by the winner, or 0 if nobody won.
+     */
+    public int winnerShots() {
+        return switch (this.winner) {
+            case FIRST -> this.firstPlayerShots;
+            case SECOND -> this.secondPlayerShots;
+            case NONE -> 0;
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.utilities.RandomSource;
+
+/**
+ * The command line simulation mode: two bots play a series of headless matches against each other
+ * while summary statistics are streamed to a text output as they accumulate.
+ * Nothing in this mode touches the graphical user interface, so it can run on machines without a display.
+ * A typical invocation is {@code --simulate --games 1000000 --bot1 Pro --bot2 Sniper --threads 16 --seed 42}.
+ */
+public final class SimulationCommand {
+
+    /**
+     * The argument that selects the simulation mode.
+     */
+    public static final String FLAG = "--simulate";
+
+    private static final int DEFAULT_GAMES = 10_000;
+    private static final String DEFAULT_FIRST = "Pro";
+    private static final String DEFAULT_SECOND = "Beginner";
+    private static final long REPORT_INTERVAL_MILLIS = 1000;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double PERCENT = 100;
+    private static final double MEDIAN = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+
+    private final int games;
+    private final Entrant first;
+    private final Entrant second;
+    private final int threads;
+    private final long seed;
+
+    private SimulationCommand(final int games, final Entrant first, final Entrant second, final int threads,
+                              final long seed) {
+        this.games = games;
+        this.first = first;
+        this.second = second;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * @param args the command-line arguments.
+     * @return true if the arguments select the simulation mode.
+     */
+    public static boolean isRequested(final String[] args) {
+        return Arrays.asList(args).contains(FLAG);
+    }
+
+    /**
+     * Reads the options of a simulation. Options left out take their default value:
+     * ten thousand games of Pro against Beginner, on every available processor, with a random seed.
+     *
+     * @param args the command-line arguments, including {@link #FLAG}.
+     * @return the simulation they describe.
+     * @throws IllegalArgumentException if an option is unknown, lacks its value or has an invalid one.
+     */
+    public static SimulationCommand parse(final String[] args) {
+        int games = DEFAULT_GAMES;
+        String firstName = DEFAULT_FIRST;
+        String secondName = DEFAULT_SECOND;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = RandomSource.create().nextLong();
+        for (int i = 0; i < args.length; i++) {
+            final String option = args[i];
+            if (FLAG.equals(option)) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + option);
+            }
+            final String value = args[++i];
+            switch (option) {
+                case "--games" -> games = parseInt(option, value);
+                case "--bot1" -> firstName = value;
+                case "--bot2" -> secondName = value;
+                case "--threads" -> threads = parseInt(option, value);
+                case "--seed" -> seed = parseLong(option, value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        if (games < 1 || threads < 1) {
+            throw new IllegalArgumentException("Games and threads must be positive: " + games + ", " + threads);
+        }
+        Entrant first = entrant(firstName);
+        Entrant second = entrant(secondName);
+        if (first.name().equals(second.name())) {
+            first = new Entrant(first.name() + " #1", first.strategy(), first.captain());
+            second = new Entrant(second.name() + " #2", second.strategy(), second.captain());
+        }
+        return new SimulationCommand(games, first, second, threads, seed);
+    }
+
+    /**
+     * @return a description of the options of the simulation mode.
+     */
+    public static String usage() {
+        return "Usage: " + FLAG + " [--games N] [--bot1 NAME] [--bot2 NAME] [--threads N] [--seed N]"
+                + System.lineSeparator() + "Bots: " + botNames();
+    }
+
+    /**
+     * Plays the simulation on background threads, printing the standings every second
+     * and once more when the last match has been played.
+     *
+     * @param out where the standings are printed.
+     * @return the final standings.
+     * @throws IllegalStateException if a match fails or the calling thread is interrupted while waiting.
+     */
+    public TournamentStats run(final PrintStream out) {
+        final Tournament tournament = new TournamentImpl(List.of(this.first, this.second), this.games,
+                this.threads, GridImpl.DEFAULT_SIZE, this.seed);
+        out.printf(Locale.ROOT, "Simulating %d games of %s vs %s on %d threads, seed %d%n",
+                this.games, this.first.name(), this.second.name(), this.threads, tournament.getSeed());
+
+        final long start = System.nanoTime();
+        final CompletableFuture<TournamentStats> future = tournament.start();
+        TournamentStats stats = null;
+        while (stats == null) {
+            try {
+                stats = future.get(REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException e) {
+                report(out, tournament.getStats(), start);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("The simulation failed", e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The simulation was interrupted", e);
+            }
+        }
+        report(out, stats, start);
+        return stats;
+    }
+
+    /**
+     * Prints one line of standings: the games played and their rate, then for every entrant its win rate
+     * and the mean, median, 90th and 99th percentile of the shots it needed to win.
+     */
+    private static void report(final PrintStream out, final TournamentStats stats, final long start) {
+        final double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        final long played = stats.getGames();
+        final StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "[%7.1fs] %d games, %.0f games/s",
+                seconds, played, seconds > 0 ? played / seconds : 0));
+        for (int i = 0; i < stats.getEntrants().size(); i++) {
+            line.append(String.format(Locale.ROOT,
+                    " | %s %.2f%% wins, shots to win mean %.1f p50 %d p90 %d p99 %d",
+                    stats.getEntrants().get(i), stats.getWinRate(i) * PERCENT, stats.getMeanShotsToWin(i),
+                    stats.getShotsToWinPercentile(i, MEDIAN), stats.getShotsToWinPercentile(i, P90),
+                    stats.getShotsToWinPercentile(i, P99)));
+        }
+        line.append(" | draws ").append(stats.getDraws());
+        out.println(line);
+    }
+
+    private static Entrant entrant(final String name) {
+        return Entrant.named(name).orElseThrow(() -> new IllegalArgumentException(
+                "Unknown bot " + name + ", expected one of: " + botNames()));
+    }
+
+    private static String botNames() {
+        return Entrant.registered().stream().map(Entrant::name).collect(Collectors.joining(", "));
+    }
+
+    private static int parseInt(final String option, final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for option " + option + ": " + value, e);
+        }
+    }
+
+    private static long parseLong(final String option, final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for option " + option + ": " + value, e);
+        }
+    }
+}
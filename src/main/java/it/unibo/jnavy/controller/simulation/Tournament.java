@@ -0,0 +1,39 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A round-robin tournament between bots: every pair of entrants plays the same number of headless matches,
+ * taking turns in moving first, and the outcomes are gathered in shared {@link TournamentStats}.
+ */
+public interface Tournament {
+
+    /**
+     * @return the seed from which the random choices of every match derive.
+     */
+    long getSeed();
+
+    /**
+     * @return the standings, which are updated while the tournament runs.
+     */
+    TournamentStats getStats();
+
+    /**
+     * Starts playing the matches on background threads.
+     *
+     * @return a future completed with the final standings when every match has been played,
+     *         or exceptionally if a match fails.
+     * @throws IllegalStateException if the tournament has already been started.
+     */
+    CompletableFuture<TournamentStats> start();
+
+    /**
+     * Plays every match, waiting for the tournament to end.
+     *
+     * @return the final standings.
+     * @throws IllegalStateException if the tournament has already been started.
+     */
+    default TournamentStats run() {
+        return start().join();
+    }
+}
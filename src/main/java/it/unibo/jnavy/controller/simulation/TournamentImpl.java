@@ -0,0 +1,168 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.player.Bot;
+import it.unibo.jnavy.model.player.Player;
+import it.unibo.jnavy.model.utilities.RandomSource;
+
+/**
+ * Implementation of the {@link Tournament} interface running on a dedicated work-stealing {@link ForkJoinPool}.
+ * The matches of all the pairings are numbered in a single range, which is split in halves until
+ * the pieces are small enough to be played by one worker: idle workers steal the largest pieces left,
+ * so the load stays balanced even when some pairings play much longer matches than others.
+ * Every match is played by its own {@link MatchEngine}, seeded by {@link RandomSource#of(long, long)}
+ * with the seed of the tournament and the number of the match, so whatever worker plays it the match
+ * makes the same random choices. Its bots keep their cached evaluations to themselves,
+ * so nothing but the standings is shared between threads.
+ */
+public final class TournamentImpl implements Tournament {
+
+    private static final int MATCHES_PER_TASK = 64;
+
+    private final List<Entrant> entrants;
+    private final int[][] pairings;
+    private final int gamesPerPairing;
+    private final int parallelism;
+    private final int gridSize;
+    private final long seed;
+    private final TournamentStats stats;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Creates a tournament using every available processor, on boards of the default size.
+     *
+     * @param entrants the participants, at least two.
+     * @param gamesPerPairing the number of matches played by every pair of entrants.
+     * @throws IllegalArgumentException if there are less than two entrants or the number of matches is not positive.
+     */
+    public TournamentImpl(final List<Entrant> entrants, final int gamesPerPairing) {
+        this(entrants, gamesPerPairing, Runtime.getRuntime().availableProcessors(), GridImpl.DEFAULT_SIZE,
+                RandomSource.create().nextLong());
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param entrants the participants, at least two.
+     * @param gamesPerPairing the number of matches played by every pair of entrants.
+     * @param parallelism the number of worker threads.
+     * @param gridSize the number of rows and columns of the boards.
+     * @param seed the seed from which the random choices of every match derive.
+     * @throws IllegalArgumentException if there are less than two entrants, or the number of matches,
+     *         the number of threads or the board size is not positive.
+     */
+    public TournamentImpl(final List<Entrant> entrants, final int gamesPerPairing, final int parallelism,
+                          final int gridSize, final long seed) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants: " + entrants.size());
+        }
+        if (gamesPerPairing < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Games and threads must be positive: " + gamesPerPairing
+                    + ", " + parallelism);
+        }
+        final int maxTurns = MatchEngineImpl.maxTurns(gridSize);
+        this.entrants = List.copyOf(entrants);
+        this.gamesPerPairing = gamesPerPairing;
+        this.parallelism = parallelism;
+        this.gridSize = gridSize;
+        this.seed = seed;
+        this.stats = new TournamentStats(this.entrants.stream().map(Entrant::name).toList(),
+                maxTurns, maxTurns);
+
+        final int n = this.entrants.size();
+        this.pairings = new int[n * (n - 1) / 2][];
+        int pairing = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                this.pairings[pairing++] = new int[] {i, j};
+            }
+        }
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public TournamentStats getStats() {
+        return this.stats;
+    }
+
+    @Override
+    public CompletableFuture<TournamentStats> start() {
+        if (!this.started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The tournament has already been started");
+        }
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        final long matches = (long) this.pairings.length * this.gamesPerPairing;
+        return CompletableFuture.supplyAsync(() -> {
+            new Matches(0, matches).invoke();
+            return this.stats;
+        }, pool).whenComplete((result, error) -> pool.shutdown());
+    }
+
+    /**
+     * Plays one match of the tournament and records its outcome.
+     *
+     * @param match the number of the match, in the range of all the matches of the tournament.
+     */
+    private void play(final long match) {
+        final int[] pairing = this.pairings[(int) (match / this.gamesPerPairing)];
+        final boolean swapped = match % this.gamesPerPairing % 2 == 1;
+        final int first = swapped ? pairing[1] : pairing[0];
+        final int second = swapped ? pairing[0] : pairing[1];
+
+        final RandomSource random = RandomSource.of(this.seed, match);
+        final MatchEngine engine = new MatchEngineImpl(this.gridSize, random.split());
+        final Grid firstGrid = engine.deployFleet();
+        final Grid secondGrid = engine.deployFleet();
+        final Player firstPlayer = enlist(this.entrants.get(first), firstGrid, secondGrid, random.split());
+        final Player secondPlayer = enlist(this.entrants.get(second), secondGrid, firstGrid, random.split());
+        this.stats.record(first, second, engine.play(firstPlayer, secondPlayer));
+    }
+
+    private static Player enlist(final Entrant entrant, final Grid own, final Grid enemy, final RandomSource random) {
+        final BotStrategy strategy = entrant.strategy().apply(enemy);
+        strategy.setRandomSource(random);
+        strategy.isolateCaches();
+        return new Bot(strategy, entrant.captain().get(), own);
+    }
+
+    /**
+     * A range of matches, split in halves until it is small enough to be played directly.
+     */
+    private final class Matches extends RecursiveAction {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        Matches(final long from, final long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= MATCHES_PER_TASK) {
+                for (long match = this.from; match < this.to; match++) {
+                    play(match);
+                }
+                return;
+            }
+            final long middle = (this.from + this.to) >>> 1;
+            invokeAll(new Matches(this.from, middle), new Matches(middle, this.to));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The standings of a {@link Tournament}, updated by every match as soon as it ends.
+ * Counters are {@link LongAdder}s, which spread concurrent increments over per-thread cells,
+ * and distributions are {@link AtomicLongArray} histograms, so recording a match never takes a lock
+ * and never makes the worker threads wait for each other. The standings can be read at any time,
+ * also while the tournament is running, but values read mid-run are approximate: each counter may or may not
+ * include the matches ending while it is read, so related values such as the games played and the wins
+ * need not add up. Once the tournament has completed, every value is exact.
+ */
+public final class TournamentStats {
+
+    private final List<String> entrants;
+    private final int shotBins;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder[] played;
+    private final LongAdder[] wins;
+    private final LongAdder[] shotsToWin;
+    private final AtomicLongArray shotsToWinHistogram;
+    private final AtomicLongArray turnsHistogram;
+
+    /**
+     * Creates empty standings.
+     *
+     * @param entrants the names of the entrants, in the order of their indices.
+     * @param maxShots the largest number of shots tracked by the distributions.
+     * @param maxTurns the largest number of turns tracked by the distributions.
+     */
+    TournamentStats(final List<String> entrants, final int maxShots, final int maxTurns) {
+        this.entrants = List.copyOf(entrants);
+        final int n = entrants.size();
+        this.shotBins = maxShots + 1;
+        this.played = adders(n);
+        this.wins = adders(n * n);
+        this.shotsToWin = adders(n);
+        this.shotsToWinHistogram = new AtomicLongArray(n * this.shotBins);
+        this.turnsHistogram = new AtomicLongArray(maxTurns + 1);
+    }
+
+    /**
+     * Records the outcome of a match.
+     *
+     * @param first the index of the entrant who moved first.
+     * @param second the index of the entrant who moved second.
+     * @param result the outcome of the match.
+     */
+    void record(final int first, final int second, final MatchResult result) {
+        this.games.increment();
+        this.played[first].increment();
+        this.played[second].increment();
+        this.turnsHistogram.incrementAndGet(Math.min(result.turns(), this.turnsHistogram.length() - 1));
+        switch (result.winner()) {
+            case FIRST -> recordWin(first, second, result.winnerShots());
+            case SECOND -> recordWin(second, first, result.winnerShots());
+            case NONE -> this.draws.increment();
+        }
+    }
+
+    private void recordWin(final int winner, final int loser, final int shots) {
+        this.wins[winner * this.entrants.size() + loser].increment();
+        this.shotsToWin[winner].add(shots);
+        this.shotsToWinHistogram.incrementAndGet(winner * this.shotBins + Math.min(shots, this.shotBins - 1));
+    }
+
+    /**
+     * @return the names of the entrants, in the order of their indices.
+     */
+    public List<String> getEntrants() {
+        return this.entrants;
+    }
+
+    /**
+     * @return the number of matches played.
+     */
+    public long getGames() {
+        return this.games.sum();
+    }
+
+    /**
+     * @return the number of matches stopped at the turn limit without a winner.
+     */
+    public long getDraws() {
+        return this.draws.sum();
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @return the number of matches played by the entrant.
+     */
+    public long getGames(final int entrant) {
+        return this.played[entrant].sum();
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @return the number of matches won by the entrant.
+     */
+    public long getWins(final int entrant) {
+        long total = 0;
+        for (int opponent = 0; opponent < this.entrants.size(); opponent++) {
+            total += getWins(entrant, opponent);
+        }
+        return total;
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @param opponent the index of another entrant.
+     * @return the number of matches the entrant won against the opponent.
+     */
+    public long getWins(final int entrant, final int opponent) {
+        return this.wins[entrant * this.entrants.size() + opponent].sum();
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @return the fraction of its matches won by the entrant, or 0 if it played none.
+     */
+    public double getWinRate(final int entrant) {
+        final long total = getGames(entrant);
+        return total == 0 ? 0 : (double) getWins(entrant) / total;
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @return the mean number of shots the entrant fired in the matches it won, or 0 if it won none.
+     */
+    public double getMeanShotsToWin(final int entrant) {
+        final long won = getWins(entrant);
+        return won == 0 ? 0 : (double) this.shotsToWin[entrant].sum() / won;
+    }
+
+    /**
+     * @param entrant the index of an entrant.
+     * @param fraction the fraction of the won matches, between 0 and 1.
+     * @return the least number of shots within which the entrant won at least that fraction of
+     *         the matches it won, or 0 if it won none.
+     * @throws IllegalArgumentException if the fraction is not between 0 and 1.
+     */
+    public int getShotsToWinPercentile(final int entrant, final double fraction) {
+        return percentile(this.shotsToWinHistogram, entrant * this.shotBins, this.shotBins, fraction);
+    }
+
+    /**
+     * @param fraction the fraction of the matches, between 0 and 1.
+     * @return the least number of turns within which at least that fraction of the matches ended, or 0 if none was played.
+     * @throws IllegalArgumentException if the fraction is not between 0 and 1.
+     */
+    public int getTurnsPercentile(final double fraction) {
+        return percentile(this.turnsHistogram, 0, this.turnsHistogram.length(), fraction);
+    }
+
+    /**
+     * @return how many matches lasted each number of turns; the last bin also counts the longer ones.
+     */
+    public long[] getTurnsDistribution() {
+        final long[] distribution = new long[this.turnsHistogram.length()];
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = this.turnsHistogram.get(i);
+        }
+        return distribution;
+    }
+
+    private static int percentile(final AtomicLongArray histogram, final int offset, final int bins,
+                                  final double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1: " + fraction);
+        }
+        final long[] counts = new long[bins];
+        long total = 0;
+        for (int i = 0; i < bins; i++) {
+            counts[i] = histogram.get(offset + i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < bins; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return bins - 1;
+    }
+
+    private static LongAdder[] adders(final int count) {
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
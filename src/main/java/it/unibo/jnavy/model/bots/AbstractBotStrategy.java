@@ -1,10 +1,8 @@
 package it.unibo.jnavy.model.bots;
 
-import java.util.List;
-import java.util.Random;
-
-import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridView;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.RandomSource;
 
 /**
  * This abstract class provides an implementation of the {@link BotStrategy} interface
@@ -19,42 +17,39 @@ public abstract class AbstractBotStrategy implements BotStrategy {
     @java.io.Serial
     private static final long serialVersionUID = 1L;
 
-    private final Random random = new Random();
+    private RandomSource random = RandomSource.create();
 
     /**
-     * Selects a random valid position from the available targets on the enemy grid.
-     *
-     * @param enemyGrid the grid representing the opponent's territory
-     * @return a randomly selected {@link Position} that is valid for a shot
-     * @throws IllegalStateException if there are no valid cells left to target in the grid
+     * {@inheritDoc}
      */
-    protected Position getRandomValidPosition(final Grid enemyGrid) {
-        final List<Position> cellsList = getValidCellsList(enemyGrid);
-
-        if (cellsList.isEmpty()) {
-            throw new IllegalStateException("The bot can't shoot, no valid cells in grid");
-        }
-        return cellsList.get(getRandomIndex(cellsList));
+    @Override
+    public void setRandomSource(final RandomSource random) {
+        this.random = random;
     }
 
     /**
-     * Retrieves the list of positions that are currently valid targets on the given grid.
+     * Gets the source of randomness of the strategy, which subclasses must use for all their random choices.
      *
-     * @param grid the grid to analyze
-     * @return a list of {@link Position} objects representing available targets
+     * @return the {@link RandomSource} of this strategy
      */
-    protected List<Position> getValidCellsList(final Grid grid) {
-        return grid.getAvailableTargets();
+    protected RandomSource getRandom() {
+        return this.random;
     }
 
     /**
-     * Generates a random index based on the size of the provided list.
+     * Selects a random valid position from the available targets on the enemy grid.
+     * The position is sampled from the grid's live index of untargeted cells,
+     * so no list of candidates is built.
      *
-     * @param cellsList the list of positions
-     * @return a random integer between 0 (inclusive) and the size of the list (exclusive)
+     * @param enemyGrid the grid representing the opponent's territory
+     * @return a randomly selected {@link Position} that is valid for a shot
+     * @throws IllegalStateException if there are no valid cells left to target in the grid
      */
-    protected int getRandomIndex(final List<Position> cellsList) {
-        return this.random.nextInt(cellsList.size());
+    protected Position getRandomValidPosition(final GridView enemyGrid) {
+        if (enemyGrid.getAvailableTargetCount() == 0) {
+            throw new IllegalStateException("The bot can't shoot, no valid cells in grid");
+        }
+        return enemyGrid.getRandomAvailableTarget(this.random);
     }
 
     /**
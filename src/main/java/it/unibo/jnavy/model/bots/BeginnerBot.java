@@ -1,6 +1,6 @@
 package it.unibo.jnavy.model.bots;
 
-import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridView;
 import it.unibo.jnavy.model.utilities.Position;
 
 /**
@@ -23,7 +23,7 @@ public final class BeginnerBot extends AbstractBotStrategy {
      * @return a randomly selected valid {@link Position}
      */
     @Override
-    public Position selectTarget(final Grid enemyGrid) {
+    public Position selectTarget(final GridView enemyGrid) {
         return super.getRandomValidPosition(enemyGrid);
     }
 
@@ -0,0 +1,86 @@
+package it.unibo.jnavy.model.bots;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.utilities.Position;
+
+/**
+ * The threads on which bots choose their targets asynchronously, away from the caller's thread.
+ * Each decision runs on a dedicated daemon worker. Once the deadline and a short grace period have passed,
+ * a watchdog completes the future with null and interrupts the worker,
+ * so the game goes on even if the strategy never starts, ignores the interruption or dies with an error.
+ * A decision that fails or gives no valid target is completed with null in the same way.
+ * No randomness is drawn here: the caller replaces a null target from its own seeded source,
+ * so that a seeded game plays the same whatever the timing of the threads.
+ * Since a late worker may still read the grid after the future completes,
+ * strategies are meant to be given an immutable snapshot; cancelling the future interrupts the worker.
+ * Strategies are not thread-safe, so a worker decides while holding the monitor of its strategy:
+ * a late worker keeps it until the strategy returns, the next decision of the same strategy waits for it,
+ * and so does any caller that synchronizes on the strategy to send feedback, as {@code Bot} does.
+ * A worker that gets the monitor after its future has already been completed does not decide at all.
+ */
+final class BotExecutor {
+
+    private static final Duration GRACE = Duration.ofMillis(50);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(task -> {
+        final Thread thread = new Thread(task, "bot-worker-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(task -> {
+        final Thread thread = new Thread(task, "bot-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BotExecutor() {
+    }
+
+    /**
+     * Starts a decision of a strategy on a worker thread.
+     *
+     * @param strategy the strategy choosing the target.
+     * @param enemyGrid the view of the opponent's territory, which must not change while the strategy reads it.
+     * @param deadline the instant by which the target is needed.
+     * @return the future target, or null if no valid target was chosen in time.
+     */
+    static CompletableFuture<Position> select(final BotStrategy strategy, final GridView enemyGrid,
+                                              final Deadline deadline) {
+        final CompletableFuture<Position> result = new CompletableFuture<>();
+        final Future<?> task = WORKERS.submit(() -> {
+            Position target = null;
+            try {
+                synchronized (strategy) {
+                    if (!result.isDone()) {
+                        target = strategy.selectTarget(enemyGrid, deadline);
+                    }
+                }
+            } finally {
+                final boolean interrupted = Thread.interrupted();
+                result.complete(interrupted || target == null || !enemyGrid.isTargetValid(target)
+                        ? null : target);
+            }
+        });
+        final ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> {
+            result.complete(null);
+            task.cancel(true);
+        }, deadline.remaining().plus(GRACE).toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((target, error) -> {
+            watchdog.cancel(false);
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+}
@@ -2,22 +2,59 @@ package it.unibo.jnavy.model.bots;
 
 import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
-import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.weather.WeatherCondition;
 
 import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines the contract for the Bot's decision-making algorithms.
+ * Strategies keep mutable state and are not thread-safe: callers that may overlap with an asynchronous
+ * decision must synchronize on the strategy, which the decision holds from its start to its end.
  */
 public interface BotStrategy extends Serializable {
 
     /**
      * Analyzes the enemy grid and determines the coordinates for the next shot.
      *
-     * @param enemyGrid The opponent's {@link Grid}, used to check valid moves.
+     * @param enemyGrid The opponent's {@link GridView}, used to check valid moves.
      * @return The selected target {@link Position}.
      */
-    Position selectTarget(Grid enemyGrid);
+    Position selectTarget(GridView enemyGrid);
+
+    /**
+     * Determines the coordinates for the next shot before the given deadline.
+     * Strategies that search for a while should stop at the deadline and return their best target so far;
+     * by default the deadline is ignored.
+     *
+     * @param enemyGrid The opponent's {@link GridView}, used to check valid moves.
+     * @param deadline The instant by which the target is needed.
+     * @return The selected target {@link Position}.
+     */
+    default Position selectTarget(final GridView enemyGrid, final Deadline deadline) {
+        return selectTarget(enemyGrid);
+    }
+
+    /**
+     * Determines the coordinates for the next shot on a dedicated bot thread, so that the caller is not blocked.
+     * Shortly after the deadline the future is completed with null and the strategy is interrupted;
+     * the same happens if it fails or chooses an invalid cell, and the caller picks the replacement
+     * from its own seeded source.
+     * The strategy should be given an immutable view, such as {@link it.unibo.jnavy.model.grid.Grid#snapshot()},
+     * since it may still be reading it after the future has completed.
+     * The decision holds the monitor of the strategy, so feedback sent while synchronized on the strategy,
+     * and the next decision, wait for a late decision to end instead of running alongside it.
+     *
+     * @param enemyGrid The opponent's {@link GridView}, used to check valid moves.
+     * @param deadline The instant by which the target is needed.
+     * @return The future target {@link Position}, or null if no valid target was chosen in time;
+     *         cancelling it interrupts the strategy.
+     */
+    default CompletableFuture<Position> selectTargetAsync(final GridView enemyGrid, final Deadline deadline) {
+        return BotExecutor.select(this, enemyGrid, deadline);
+    }
 
     /**
      * Receives feedback on the outcome of the last shot.
@@ -30,6 +67,39 @@ public interface BotStrategy extends Serializable {
      */
     default void lastShotFeedback(final Position target, final HitType result) { }
 
+    /**
+     * Receives the weather of the coming turn, before the target is selected.
+     * Strategies that plan ahead can use it to account for shots deflected by fog.
+     *
+     * @param condition The current {@link WeatherCondition}.
+     */
+    default void weatherUpdate(final WeatherCondition condition) { }
+
+    /**
+     * Receives a prior on where the opponent places the fleet, learned from previous games.
+     * Strategies that search for ships can favour the cells the opponent used more often.
+     *
+     * @param weights How much more often than average each cell hosted a ship, in row-major order.
+     */
+    default void placementPrior(final double[] weights) { }
+
+    /**
+     * Receives the source of randomness the strategy must draw from, split for it from the seed of the game,
+     * so that games played with the same seed make the same choices.
+     * Strategies that are not given one draw from a source of their own.
+     *
+     * @param random The {@link RandomSource} of the strategy, not shared with other components.
+     */
+    default void setRandomSource(final RandomSource random) { }
+
+    /**
+     * Makes the strategy keep the evaluations it caches to itself, instead of sharing them with every other bot
+     * of the JVM, so that its choices do not depend on the games played alongside it.
+     * Engines replaying seeded games call it together with {@link #setRandomSource(RandomSource)}.
+     * Strategies that cache nothing ignore it.
+     */
+    default void isolateCaches() { }
+
     /**
      * Return the display name of this shooting strategy,
      * providing a human-readable identifier for the difficulty level.
@@ -0,0 +1,51 @@
+package it.unibo.jnavy.model.bots;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * The instant by which a bot must have chosen its target, on the {@link System#nanoTime()} clock.
+ *
+ * @param nanoTime the value of {@link System#nanoTime()} at which the time runs out.
+ */
+public record Deadline(long nanoTime) implements Serializable {
+
+    /**
+     * Creates the deadline that expires after the given time from now.
+     *
+     * @param timeout the time left to the bot.
+     * @return the new deadline.
+     * @throws IllegalArgumentException if the timeout is negative.
+     */
+    public static Deadline after(final Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Negative timeout: " + timeout);
+        }
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * @return true if the time has run out.
+     */
+    public boolean isExpired() {
+        return System.nanoTime() - this.nanoTime >= 0;
+    }
+
+    /**
+     * @return the time left before the deadline, or {@link Duration#ZERO} if it has expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, this.nanoTime - System.nanoTime()));
+    }
+
+    /**
+     * Bounds a strategy's own time budget by this deadline.
+     *
+     * @param budget the time the strategy would like to take.
+     * @return the earlier of this deadline and the end of the budget, as a {@link System#nanoTime()} value.
+     */
+    public long within(final Duration budget) {
+        final long end = System.nanoTime() + budget.toNanos();
+        return end - this.nanoTime < 0 ? end : this.nanoTime;
+    }
+}
@@ -0,0 +1,396 @@
+package it.unibo.jnavy.model.bots;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import it.unibo.jnavy.model.fleet.Fleet;
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.weather.FogKernel;
+import it.unibo.jnavy.model.weather.WeatherCondition;
+
+/**
+ * An expert bot strategy that shoots where the remaining enemy ships are most likely to be.
+ * For every ship size still afloat it keeps, per cell, the number of legal placements
+ * (horizontal or vertical, not crossing misses or sunk ships) covering that cell.
+ * What the shots revealed is kept in a {@link ShotKnowledge}, and the counts follow it incrementally:
+ * a new miss only invalidates the few placements crossing it, so a decision never recomputes the whole board.
+ * On boards covered by a {@link PlacementTable} the crossing placements come from its inverted index
+ * and their legality is checked with bitwise operations against the blocked cells.
+ * While some hit ship is still afloat, the bot switches to a target density that only considers
+ * placements through the hit cells, weighted by how many hits each placement explains.
+ * Once few enough layouts of the remaining ships are left, the shot comes from an {@link EndgameSolver}.
+ * In the fog the scores become a map of where ships are likely, and the bot aims where a shot
+ * deviated by the {@link FogKernel} is expected to collect the most of it.
+ * When a placement prior is given, the hunting density of each cell is scaled by its weight.
+ */
+public final class DensityBot extends AbstractBotStrategy {
+
+    /**
+     * Serial version UID for serialization.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_SHIP_SIZE = ShotKnowledge.MAX_SHIP_SIZE;
+
+    private final EndgameSolver endgame = new EndgameSolver();
+    private final ShotKnowledge knowledge = new ShotKnowledge();
+    private int size;
+    private long[] blockedCells;
+    private int[] remaining;
+    private int[][] placements;
+    private long[] density;
+    private int[] candidates = new int[0];
+    private long[] candidateScores = new long[0];
+    private int candidateCount;
+    private boolean solved;
+    private boolean fog;
+    private long[] fogWeights;
+    private double[] prior;
+
+    /**
+     * Selects the cell with the highest density of possible ship placements.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @return the selected {@link Position}
+     */
+    @Override
+    public Position selectTarget(final GridView enemyGrid) {
+        this.knowledge.sync(enemyGrid);
+        if (this.density == null || this.size != this.knowledge.size()) {
+            initialize(this.knowledge.size());
+        }
+        catchUp();
+
+        final boolean deviated = this.fog && FogKernel.isSupported(this.size);
+        final Optional<Position> exact = deviated ? Optional.empty() : this.endgame.bestShot(enemyGrid);
+        this.solved = exact.isPresent();
+        if (this.solved) {
+            return exact.get();
+        }
+        final int[] openHits = this.knowledge.openHitCells();
+        final int best;
+        if (deviated) {
+            best = bestFogAim(openHits);
+        } else {
+            best = openHits.length == 0 ? bestHuntCell() : bestTargetCell(openHits);
+        }
+        if (best < 0 || !enemyGrid.isTargetValid(positionAt(best))) {
+            return getRandomValidPosition(enemyGrid);
+        }
+        return positionAt(best);
+    }
+
+    /**
+     * Records the result of the last shot, which the placement counts follow on the next decision.
+     *
+     * @param target the position that was shot at
+     * @param result the result of the shot (HIT, MISS, SUNK, etc.)
+     */
+    @Override
+    public void lastShotFeedback(final Position target, final HitType result) {
+        this.endgame.record(target, result);
+        this.knowledge.record(target, result);
+    }
+
+    /**
+     * Builds the placement counts of an empty board.
+     *
+     * @param boardSize the number of rows and columns of the enemy grid
+     */
+    private void initialize(final int boardSize) {
+        this.size = boardSize;
+        this.blockedCells = new long[(boardSize * boardSize + Long.SIZE - 1) / Long.SIZE];
+        this.remaining = new int[MAX_SHIP_SIZE + 1];
+        this.placements = new int[MAX_SHIP_SIZE + 1][];
+        this.density = new long[boardSize * boardSize];
+        Fleet.FLEET_COMPOSITION.forEach((shipSize, count) -> {
+            this.remaining[shipSize] = count;
+            this.placements[shipSize] = new int[boardSize * boardSize];
+            for (int x = 0; x < boardSize; x++) {
+                for (int y = 0; y < boardSize; y++) {
+                    final int cell = x * boardSize + y;
+                    this.placements[shipSize][cell] = spans(y, shipSize) + spans(x, shipSize);
+                    this.density[cell] += (long) count * this.placements[shipSize][cell];
+                }
+            }
+        });
+    }
+
+    /**
+     * Counts the segments of the given length, along one line of the board, containing a coordinate.
+     *
+     * @param coordinate the coordinate along the line
+     * @param length the length of the segments
+     * @return the number of segments
+     */
+    private int spans(final int coordinate, final int length) {
+        final int first = Math.max(0, coordinate - length + 1);
+        final int last = Math.min(coordinate, this.size - length);
+        return Math.max(0, last - first + 1);
+    }
+
+    /**
+     * Brings the placement counts in line with the knowledge: the misses and sunk ships found
+     * since the last decision invalidate the placements crossing them, then the sizes of the ships
+     * sunk since then are removed from the ships still afloat.
+     */
+    private void catchUp() {
+        for (int cell = 0; cell < this.density.length; cell++) {
+            if (this.knowledge.isBlocked(cell) && !isBlocked(cell)) {
+                block(cell);
+            }
+        }
+        for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+            while (this.remaining[shipSize] > this.knowledge.remaining(shipSize)) {
+                removeShipSize(shipSize);
+            }
+        }
+    }
+
+    private void removeShipSize(final int shipSize) {
+        this.remaining[shipSize]--;
+        final int[] counts = this.placements[shipSize];
+        for (int cell = 0; cell < counts.length; cell++) {
+            this.density[cell] -= counts[cell];
+        }
+    }
+
+    /**
+     * Marks a cell as unable to host ships and invalidates every placement crossing it.
+     *
+     * @param cell the row-major index of the cell
+     */
+    private void block(final int cell) {
+        if (PlacementTable.isSupported(this.size)) {
+            invalidateCovering(cell, PlacementTable.of(this.size));
+        } else {
+            final int x = cell / this.size;
+            final int y = cell % this.size;
+            for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+                if (this.remaining[shipSize] > 0) {
+                    invalidate(x, y, shipSize, 0, 1);
+                    invalidate(x, y, shipSize, 1, 0);
+                }
+            }
+        }
+        this.blockedCells[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Removes from the counts the placements covering the given cell that were legal until now,
+     * walking the inverted index of the shared placement table.
+     */
+    private void invalidateCovering(final int cell, final PlacementTable table) {
+        for (int k = 0; k < table.getCoveringCount(cell); k++) {
+            final int placement = table.getCovering(cell, k);
+            final int shipSize = table.getShipSize(placement);
+            if (this.remaining[shipSize] > 0 && table.fits(this.blockedCells, placement)) {
+                for (int i = 0; i < shipSize; i++) {
+                    final int covered = table.cellOf(placement, i);
+                    this.placements[shipSize][covered]--;
+                    this.density[covered] -= this.remaining[shipSize];
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes from the counts the placements of a ship, along one axis, that cross the given cell
+     * and were legal until now.
+     */
+    private void invalidate(final int x, final int y, final int shipSize, final int dx, final int dy) {
+        final int along = dx == 0 ? y : x;
+        final int first = Math.max(0, along - shipSize + 1);
+        final int last = Math.min(along, this.size - shipSize);
+        final int blocked = x * this.size + y;
+        for (int start = first; start <= last; start++) {
+            final int origin = dx == 0 ? x * this.size + start : start * this.size + y;
+            final int step = dx * this.size + dy;
+            if (isLegal(origin, step, shipSize, blocked)) {
+                for (int i = 0, cell = origin; i < shipSize; i++, cell += step) {
+                    this.placements[shipSize][cell]--;
+                    this.density[cell] -= this.remaining[shipSize];
+                }
+            }
+        }
+    }
+
+    private boolean isLegal(final int origin, final int step, final int shipSize, final int ignored) {
+        for (int i = 0, cell = origin; i < shipSize; i++, cell += step) {
+            if (cell != ignored && isBlocked(cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlocked(final int cell) {
+        return (this.blockedCells[cell >>> 6] & 1L << cell) != 0;
+    }
+
+    /**
+     * @return the unknown cell with the highest placement density, scaled by the prior if any,
+     *      ties broken at random, or -1 if no unknown cell is left
+     */
+    private int bestHuntCell() {
+        final boolean weighted = this.prior != null && this.prior.length == this.density.length;
+        int best = -1;
+        double bestScore = -1;
+        int ties = 0;
+        for (int cell = 0; cell < this.density.length; cell++) {
+            if (this.knowledge.state(cell) != ShotKnowledge.UNKNOWN) {
+                continue;
+            }
+            final double score = weighted ? this.density[cell] * this.prior[cell] : this.density[cell];
+            if (score > bestScore) {
+                best = cell;
+                bestScore = score;
+                ties = 1;
+            } else if (score == bestScore && getRandom().nextInt(++ties) == 0) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores the unknown cells of the legal placements through the open hits, each placement
+     * weighted by the number of hits it explains and by the number of ships of its size afloat.
+     *
+     * @param openHits the row-major indexes of the hits on ships still afloat
+     * @return the best scoring cell, or -1 if no placement goes through the open hits
+     */
+    private int bestTargetCell(final int[] openHits) {
+        this.candidateCount = 0;
+        for (final int hit : openHits) {
+            for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+                if (this.remaining[shipSize] > 0) {
+                    scorePlacements(hit, shipSize, 0, 1);
+                    scorePlacements(hit, shipSize, 1, 0);
+                }
+            }
+        }
+        int best = -1;
+        long bestScore = 0;
+        for (int i = 0; i < this.candidateCount; i++) {
+            final long score = this.candidateScores[i] * (1 + this.density[this.candidates[i]]);
+            if (score > bestScore) {
+                best = this.candidates[i];
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private void scorePlacements(final int hit, final int shipSize, final int dx, final int dy) {
+        final int hitX = hit / this.size;
+        final int hitY = hit % this.size;
+        final int along = dx == 0 ? hitY : hitX;
+        final int first = Math.max(0, along - shipSize + 1);
+        final int last = Math.min(along, this.size - shipSize);
+        final int step = dx * this.size + dy;
+        for (int start = first; start <= last; start++) {
+            final int origin = dx == 0 ? hitX * this.size + start : start * this.size + hitY;
+            if (!isLegal(origin, step, shipSize, -1)) {
+                continue;
+            }
+            int hits = 0;
+            for (int i = 0, cell = origin; i < shipSize; i++, cell += step) {
+                if (this.knowledge.state(cell) == ShotKnowledge.HIT) {
+                    hits++;
+                }
+            }
+            for (int i = 0, cell = origin; i < shipSize; i++, cell += step) {
+                if (this.knowledge.state(cell) == ShotKnowledge.UNKNOWN) {
+                    addCandidate(cell, (long) hits * hits * this.remaining[shipSize]);
+                }
+            }
+        }
+    }
+
+    private void addCandidate(final int cell, final long score) {
+        for (int i = 0; i < this.candidateCount; i++) {
+            if (this.candidates[i] == cell) {
+                this.candidateScores[i] += score;
+                return;
+            }
+        }
+        if (this.candidateCount == this.candidates.length) {
+            final int capacity = Math.max(this.candidates.length * 2, MAX_SHIP_SIZE * 4);
+            this.candidates = Arrays.copyOf(this.candidates, capacity);
+            this.candidateScores = Arrays.copyOf(this.candidateScores, capacity);
+        }
+        this.candidates[this.candidateCount] = cell;
+        this.candidateScores[this.candidateCount] = score;
+        this.candidateCount++;
+    }
+
+    /**
+     * Keeps track of the weather, so that shots in the fog account for their deviation.
+     *
+     * @param condition the weather of the coming turn
+     */
+    @Override
+    public void weatherUpdate(final WeatherCondition condition) {
+        this.fog = condition == WeatherCondition.FOG;
+    }
+
+    /**
+     * Keeps the prior on the opponent's placements, used while hunting.
+     *
+     * @param weights how much more often than average each cell hosted a ship, in row-major order
+     */
+    @Override
+    public void placementPrior(final double[] weights) {
+        this.prior = weights.clone();
+    }
+
+    /**
+     * Spreads the scores of the unknown cells, the placement density plus the target scores around open hits,
+     * over the neighbourhood a shot may deviate to, and picks the aim with the best expectation.
+     *
+     * @param openHits the row-major indexes of the hits on ships still afloat
+     * @return the cell to aim at, or -1 if no unknown cell is left
+     */
+    private int bestFogAim(final int[] openHits) {
+        if (this.fogWeights == null || this.fogWeights.length != this.density.length) {
+            this.fogWeights = new long[this.density.length];
+        }
+        System.arraycopy(this.density, 0, this.fogWeights, 0, this.density.length);
+        if (openHits.length > 0) {
+            bestTargetCell(openHits);
+            for (int i = 0; i < this.candidateCount; i++) {
+                this.fogWeights[this.candidates[i]] += this.candidateScores[i] * (1 + this.density[this.candidates[i]]);
+            }
+        }
+        final int aim = FogKernel.of(this.size).bestAim(cell -> this.fogWeights[cell],
+                cell -> this.knowledge.state(cell) == ShotKnowledge.UNKNOWN);
+        return aim == FogKernel.NONE ? -1 : aim;
+    }
+
+    /**
+     * @return true if the last target came from the {@link EndgameSolver}, so no better shot exists
+     */
+    boolean isEndgame() {
+        return this.solved;
+    }
+
+    private Position positionAt(final int cell) {
+        return Positions.fromIndex(cell, this.size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string "Expert"
+     */
+    @Override
+    protected String getStrategyName() {
+        return "Expert";
+    }
+}
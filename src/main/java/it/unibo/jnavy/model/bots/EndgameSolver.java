@@ -0,0 +1,475 @@
+package it.unibo.jnavy.model.bots;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+
+/**
+ * Exact solver for the end of a game, which any {@link BotStrategy} can consult before its own logic.
+ * It follows the same shot feedback as the bot. When the layouts of the enemy ships still afloat
+ * consistent with it are few and cover few unknown cells, it enumerates all of them as bitmasks over
+ * those cells and searches every sequence of shots, with every possible outcome (miss, hit, or which
+ * ship sinks), for the shot minimising the expected number of shots left to sink them all, each
+ * consistent layout being equally likely. Solved states are memoised. When the layouts are too many,
+ * or the search exceeds its state or time limits, no shot is proposed and the bot keeps its own choice.
+ */
+public final class EndgameSolver implements Serializable {
+
+    /**
+     * The default maximum number of consistent layouts the solver accepts to enumerate.
+     */
+    public static final int DEFAULT_MAX_LAYOUTS = 400;
+
+    /**
+     * The default time budget of a solution.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(30);
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final double MAX_ENUMERATION = 200_000;
+    private static final int MAX_STATES = 200_000;
+    private static final int MAX_CELLS = 16;
+    private static final int TIME_CHECK_INTERVAL = 64;
+    private static final double EPSILON = 1e-9;
+
+    private final int maxLayouts;
+    private final Duration budget;
+    private final ShotKnowledge knowledge = new ShotKnowledge();
+
+    /**
+     * Creates a solver with the default thresholds.
+     */
+    public EndgameSolver() {
+        this(DEFAULT_MAX_LAYOUTS, DEFAULT_BUDGET);
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param maxLayouts the largest number of consistent layouts for which a solution is searched.
+     * @param budget the wall-clock time a solution may take.
+     * @throws IllegalArgumentException if the threshold or the budget are not positive.
+     */
+    public EndgameSolver(final int maxLayouts, final Duration budget) {
+        if (maxLayouts < 1 || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Threshold and budget must be positive");
+        }
+        this.maxLayouts = maxLayouts;
+        this.budget = budget;
+    }
+
+    /**
+     * Records the result of a shot of the bot.
+     *
+     * @param target the position actually hit
+     * @param result the result of the shot
+     */
+    public void record(final Position target, final HitType result) {
+        this.knowledge.record(target, result);
+    }
+
+    /**
+     * Computes the optimal shot, if the game is close enough to its end.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @return the shot minimising the expected number of shots left,
+     *      or {@link Optional#empty()} if the position is too open to be solved within the limits
+     */
+    public Optional<Position> bestShot(final GridView enemyGrid) {
+        this.knowledge.sync(enemyGrid);
+        final int size = this.knowledge.size();
+        if (!PlacementTable.isSupported(size)) {
+            return Optional.empty();
+        }
+        if (this.knowledge.unknownShipCells() > MAX_CELLS) {
+            return Optional.empty();
+        }
+        final PlacementTable table = PlacementTable.of(size);
+        final List<int[]> layouts = enumerate(table);
+        if (layouts == null || layouts.isEmpty()) {
+            return Optional.empty();
+        }
+        final Solution solution = Solution.of(table, layouts, this.knowledge,
+                System.nanoTime() + this.budget.toNanos());
+        if (solution == null) {
+            return Optional.empty();
+        }
+        final int cell = solution.solveRoot();
+        if (cell < 0 || !enemyGrid.isTargetValid(Positions.fromIndex(cell, size))) {
+            return Optional.empty();
+        }
+        return Optional.of(Positions.fromIndex(cell, size));
+    }
+
+    /**
+     * Lists every layout of the ships afloat avoiding misses and sunk ships and covering all the open hits.
+     *
+     * @param table the placements of the board
+     * @return the placement ids of each layout, or null if they exceed the thresholds
+     */
+    private List<int[]> enumerate(final PlacementTable table) {
+        final long[] blocked = this.knowledge.blockedCells(table);
+        final int[] ships = this.knowledge.remainingShips();
+        if (ships.length == 0) {
+            return null;
+        }
+        final int[] counts = new int[ships.length];
+        double work = 1;
+        for (int s = 0; s < ships.length; s++) {
+            final int first = table.getFirstPlacement(ships[s]);
+            for (int placement = first; placement < first + table.getPlacementCount(ships[s]); placement++) {
+                if (table.fits(blocked, placement)) {
+                    counts[s]++;
+                }
+            }
+            work *= counts[s];
+        }
+        if (work > MAX_ENUMERATION) {
+            return null;
+        }
+        final int[][] candidates = new int[ships.length][];
+        for (int s = 0; s < ships.length; s++) {
+            final int first = table.getFirstPlacement(ships[s]);
+            candidates[s] = new int[counts[s]];
+            for (int placement = first, n = 0; n < counts[s]; placement++) {
+                if (table.fits(blocked, placement)) {
+                    candidates[s][n++] = placement;
+                }
+            }
+        }
+        final Enumeration enumeration = new Enumeration(table, ships, candidates, this.knowledge.openHitCells(),
+                blocked);
+        return enumeration.run(0) ? enumeration.layouts : null;
+    }
+
+    /**
+     * A depth-first enumeration of the layouts, one ship per level, with same-size ships in increasing order.
+     * It gives up as soon as the layouts are too many or cover too many unknown cells to be solved,
+     * and reuses one bitset per level instead of copying it at every node.
+     */
+    private final class Enumeration {
+
+        private final PlacementTable table;
+        private final int[] ships;
+        private final int[][] candidates;
+        private final int[] hits;
+        private final long[] known;
+        private final long[] union;
+        private final long[][] occupied;
+        private final int[] chosen;
+        private final List<int[]> layouts = new ArrayList<>();
+
+        Enumeration(final PlacementTable table, final int[] ships, final int[][] candidates, final int[] hits,
+                    final long[] blocked) {
+            this.table = table;
+            this.ships = ships;
+            this.candidates = candidates;
+            this.hits = hits;
+            this.known = blocked.clone();
+            for (final int hit : hits) {
+                table.occupyCell(this.known, hit);
+            }
+            this.union = new long[blocked.length];
+            this.occupied = new long[ships.length + 1][];
+            this.occupied[0] = blocked;
+            for (int level = 1; level <= ships.length; level++) {
+                this.occupied[level] = new long[blocked.length];
+            }
+            this.chosen = new int[ships.length];
+        }
+
+        /**
+         * @param ship the level to fill
+         * @return false if the enumeration gave up
+         */
+        boolean run(final int ship) {
+            final long[] current = this.occupied[ship];
+            if (ship == this.ships.length) {
+                return accept(current);
+            }
+            final long[] next = this.occupied[ship + 1];
+            final boolean sameAsPrevious = ship > 0 && this.ships[ship] == this.ships[ship - 1];
+            for (final int placement : this.candidates[ship]) {
+                if (sameAsPrevious && placement <= this.chosen[ship - 1] || !this.table.fits(current, placement)) {
+                    continue;
+                }
+                this.chosen[ship] = placement;
+                System.arraycopy(current, 0, next, 0, current.length);
+                this.table.occupy(next, placement);
+                if (!run(ship + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean accept(final long[] layout) {
+            for (final int hit : this.hits) {
+                if ((layout[hit >>> 6] & (1L << hit)) == 0) {
+                    return true;
+                }
+            }
+            this.layouts.add(this.chosen.clone());
+            int cells = 0;
+            for (int w = 0; w < this.union.length; w++) {
+                this.union[w] |= layout[w] & ~this.known[w];
+                cells += Long.bitCount(this.union[w]);
+            }
+            return this.layouts.size() <= EndgameSolver.this.maxLayouts && cells <= MAX_CELLS;
+        }
+    }
+
+    /**
+     * The search over the layouts of one decision. Cells that belong to some layout and are still
+     * unknown are renumbered as bits of a long; each layout keeps one mask per ship.
+     */
+    private static final class Solution {
+
+        private final int[] cellOfBit;
+        private final long[] layoutMasks;
+        private final long[][] shipMasks;
+        private final long deadline;
+        private final Map<State, Double> memo = new HashMap<>();
+        private boolean aborted;
+        private int rootBit = -1;
+
+        private Solution(final int[] cellOfBit, final long[] layoutMasks, final long[][] shipMasks,
+                         final long deadline) {
+            this.cellOfBit = cellOfBit;
+            this.layoutMasks = layoutMasks;
+            this.shipMasks = shipMasks;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return the search over the given layouts, or null if they span too many unknown cells
+         *      or none of them is consistent with the absence of a sunk report
+         */
+        static Solution of(final PlacementTable table, final List<int[]> layouts, final ShotKnowledge knowledge,
+                           final long deadline) {
+            final Map<Integer, Integer> bits = new LinkedHashMap<>();
+            for (final int[] layout : layouts) {
+                for (final int placement : layout) {
+                    for (int i = 0; i < table.getShipSize(placement); i++) {
+                        final int cell = table.cellOf(placement, i);
+                        if (knowledge.state(cell) == ShotKnowledge.UNKNOWN) {
+                            bits.putIfAbsent(cell, bits.size());
+                        }
+                    }
+                }
+            }
+            if (bits.size() > MAX_CELLS) {
+                return null;
+            }
+            final List<long[]> ships = new ArrayList<>();
+            for (final int[] layout : layouts) {
+                final long[] masks = new long[layout.length];
+                boolean consistent = true;
+                for (int s = 0; s < layout.length; s++) {
+                    for (int i = 0; i < table.getShipSize(layout[s]); i++) {
+                        final Integer bit = bits.get(table.cellOf(layout[s], i));
+                        if (bit != null) {
+                            masks[s] |= 1L << bit;
+                        }
+                    }
+                    consistent &= masks[s] != 0;
+                }
+                if (consistent) {
+                    ships.add(masks);
+                }
+            }
+            if (ships.isEmpty()) {
+                return null;
+            }
+            final int[] cellOfBit = new int[bits.size()];
+            bits.forEach((cell, bit) -> cellOfBit[bit] = cell);
+            final long[][] shipMasks = ships.toArray(long[][]::new);
+            final long[] layoutMasks = Arrays.stream(shipMasks)
+                    .mapToLong(masks -> Arrays.stream(masks).reduce(0L, (a, b) -> a | b)).toArray();
+            return new Solution(cellOfBit, layoutMasks, shipMasks, deadline);
+        }
+
+        /**
+         * @return the row-major index of the optimal shot, or -1 if the search was aborted
+         */
+        int solveRoot() {
+            final int[] all = new int[this.layoutMasks.length];
+            Arrays.setAll(all, i -> i);
+            expected(0L, all, true);
+            return this.aborted || this.rootBit < 0 ? -1 : this.cellOfBit[this.rootBit];
+        }
+
+        /**
+         * Solves a state. A sure hit is shot first, since it must be shot anyway and can only add information;
+         * otherwise cells are tried from the lowest {@link #lowerBound} after the shot, stopping when
+         * the bound reaches the best cost found.
+         *
+         * @return the expected number of shots needed to sink every ship, whatever the layout among the given ones
+         */
+        private double expected(final long shot, final int[] layouts, final boolean root) {
+            if (layouts.length == 0 || this.aborted) {
+                return 0;
+            }
+            final BitSet members = new BitSet(this.layoutMasks.length);
+            long union = 0;
+            for (final int layout : layouts) {
+                members.set(layout);
+                union |= this.layoutMasks[layout];
+            }
+            final State key = new State(shot & union, members);
+            final Double cached = this.memo.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final int states = this.memo.size();
+            if (states >= MAX_STATES
+                    || states >= TIME_CHECK_INTERVAL && states % TIME_CHECK_INTERVAL == 0
+                    && System.nanoTime() - this.deadline > 0) {
+                this.aborted = true;
+                return 0;
+            }
+            final int[] counts = new int[this.cellOfBit.length];
+            lowerBound(shot, layouts, counts);
+            final List<Integer> candidates = new ArrayList<>();
+            final Map<Integer, List<Branch>> outcomes = new HashMap<>();
+            final Map<Integer, Double> bounds = new HashMap<>();
+            for (int bit = 0; bit < counts.length; bit++) {
+                if (counts[bit] == 0) {
+                    continue;
+                }
+                final List<Branch> branches = outcomes(shot | 1L << bit, 1L << bit, layouts);
+                if (counts[bit] == layouts.length) {
+                    candidates.clear();
+                    candidates.add(bit);
+                    outcomes.put(bit, branches);
+                    break;
+                }
+                double bound = 1;
+                for (final Branch branch : branches) {
+                    bound += branch.weight() * lowerBound(shot | 1L << bit, branch.alive(), new int[counts.length]);
+                }
+                candidates.add(bit);
+                outcomes.put(bit, branches);
+                bounds.put(bit, bound);
+            }
+            candidates.sort(Comparator.comparingDouble(bit -> bounds.getOrDefault(bit, 0.0)));
+            double best = Double.POSITIVE_INFINITY;
+            for (final int bit : candidates) {
+                if (bounds.getOrDefault(bit, 0.0) >= best - EPSILON) {
+                    break;
+                }
+                double cost = 1;
+                for (final Branch branch : outcomes.get(bit)) {
+                    cost += branch.weight() * expected(shot | 1L << bit, branch.alive(), false);
+                }
+                if (this.aborted) {
+                    return 0;
+                }
+                if (cost < best) {
+                    best = cost;
+                    if (root) {
+                        this.rootBit = bit;
+                    }
+                }
+            }
+            this.memo.put(key, best);
+            return best;
+        }
+
+        /**
+         * Bounds from below the expected shots left. Each cell still hiding a ship of the actual layout
+         * must be shot exactly once, and unless some cell is a sure hit the next shot may miss.
+         *
+         * @param counts receives how many layouts occupy each cell still unknown
+         * @return the mean number of cells left, plus the probability that the best next shot misses
+         */
+        private double lowerBound(final long shot, final int[] layouts, final int[] counts) {
+            if (layouts.length == 0) {
+                return 0;
+            }
+            int cellsLeft = 0;
+            int most = 0;
+            for (final int layout : layouts) {
+                for (long rest = this.layoutMasks[layout] & ~shot; rest != 0; rest &= rest - 1) {
+                    final int bit = Long.numberOfTrailingZeros(rest);
+                    most = Math.max(most, ++counts[bit]);
+                    cellsLeft++;
+                }
+            }
+            return (double) (cellsLeft + layouts.length - most) / layouts.length;
+        }
+
+        /**
+         * Splits the layouts by what the shot reveals: a miss, a hit, or the ship it sinks.
+         * Layouts whose ships are all sunk end the game and are left out of their branch.
+         */
+        private List<Branch> outcomes(final long shot, final long target, final int[] layouts) {
+            final long[] distinct = new long[layouts.length];
+            final int[] sizes = new int[layouts.length];
+            final int[] groupOf = new int[layouts.length];
+            int groups = 0;
+            for (int i = 0; i < layouts.length; i++) {
+                long outcome = 0;
+                if ((this.layoutMasks[layouts[i]] & target) != 0) {
+                    outcome = -1;
+                    for (final long ship : this.shipMasks[layouts[i]]) {
+                        if ((ship & target) != 0 && (ship & ~shot) == 0) {
+                            outcome = ship;
+                        }
+                    }
+                }
+                int group = 0;
+                while (group < groups && distinct[group] != outcome) {
+                    group++;
+                }
+                if (group == groups) {
+                    distinct[groups++] = outcome;
+                }
+                groupOf[i] = group;
+                sizes[group]++;
+            }
+            final int[][] alive = new int[groups][];
+            final int[] filled = new int[groups];
+            for (int group = 0; group < groups; group++) {
+                alive[group] = new int[sizes[group]];
+            }
+            for (int i = 0; i < layouts.length; i++) {
+                if ((this.layoutMasks[layouts[i]] & ~shot) != 0) {
+                    alive[groupOf[i]][filled[groupOf[i]]++] = layouts[i];
+                }
+            }
+            final List<Branch> branches = new ArrayList<>(groups);
+            for (int group = 0; group < groups; group++) {
+                branches.add(new Branch((double) sizes[group] / layouts.length,
+                        Arrays.copyOf(alive[group], filled[group])));
+            }
+            return branches;
+        }
+    }
+
+    /**
+     * One outcome of a shot: its probability and the layouts still afloat consistent with it.
+     */
+    private record Branch(double weight, int[] alive) { }
+
+    /**
+     * A state of the search: the cells shot so far and the layouts still consistent.
+     */
+    private record State(long shot, BitSet layouts) { }
+}
@@ -0,0 +1,121 @@
+package it.unibo.jnavy.model.bots;
+
+import java.util.Arrays;
+
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.RandomSource;
+
+/**
+ * Draws random layouts of the enemy ships still afloat that avoid the cells known to be empty
+ * or sunk and explain every open hit. Ships are laid in random order, each one through the
+ * first hit not yet explained when possible, uniformly among the fitting placements otherwise;
+ * layouts leaving some hit unexplained are rejected.
+ * A sampler is immutable and can be shared by threads, each one using its own {@link Scratch}.
+ */
+final class LayoutSampler {
+
+    private final PlacementTable table;
+    private final long[] blocked;
+    private final int[] hits;
+    private final int[] ships;
+
+    LayoutSampler(final PlacementTable table, final long[] blocked, final int[] hits, final int[] ships) {
+        this.table = table;
+        this.blocked = blocked;
+        this.hits = hits;
+        this.ships = ships;
+    }
+
+    /**
+     * @return the placement table the layouts are made of
+     */
+    PlacementTable table() {
+        return this.table;
+    }
+
+    /**
+     * @return the number of ships in a layout
+     */
+    int shipCount() {
+        return this.ships.length;
+    }
+
+    /**
+     * @return new working memory for one thread
+     */
+    Scratch newScratch() {
+        return new Scratch(this.table.newBitset(), this.table.newBitset(), this.ships.clone());
+    }
+
+    /**
+     * Tries to draw a layout.
+     *
+     * @param random the source of randomness of the calling thread
+     * @param scratch the working memory of the calling thread
+     * @param placed receives the placement id of each ship
+     * @return true if a consistent layout was drawn
+     */
+    boolean draw(final RandomSource random, final Scratch scratch, final int[] placed) {
+        System.arraycopy(this.blocked, 0, scratch.occupied, 0, this.blocked.length);
+        Arrays.fill(scratch.covered, 0L);
+        final int[] order = scratch.order;
+        for (int i = order.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        for (int s = 0; s < order.length; s++) {
+            final int hit = firstUncovered(scratch.covered);
+            int placement = hit < 0 ? PlacementTable.NONE : throughHit(hit, order[s], scratch.occupied, random);
+            if (placement == PlacementTable.NONE) {
+                placement = this.table.randomPlacement(scratch.occupied, order[s], random);
+            }
+            if (placement == PlacementTable.NONE) {
+                return false;
+            }
+            this.table.occupy(scratch.occupied, placement);
+            this.table.occupy(scratch.covered, placement);
+            placed[s] = placement;
+        }
+        return firstUncovered(scratch.covered) < 0;
+    }
+
+    private int firstUncovered(final long[] covered) {
+        for (final int hit : this.hits) {
+            if ((covered[hit >>> 6] & (1L << hit)) == 0) {
+                return hit;
+            }
+        }
+        return -1;
+    }
+
+    private int throughHit(final int hit, final int shipSize, final long[] occupied, final RandomSource random) {
+        int chosen = PlacementTable.NONE;
+        int seen = 0;
+        for (int k = 0; k < this.table.getCoveringCount(hit); k++) {
+            final int placement = this.table.getCovering(hit, k);
+            if (this.table.getShipSize(placement) == shipSize && this.table.fits(occupied, placement)
+                    && random.nextInt(++seen) == 0) {
+                chosen = placement;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Per-thread working memory of a sampler.
+     */
+    static final class Scratch {
+
+        private final long[] occupied;
+        private final long[] covered;
+        private final int[] order;
+
+        private Scratch(final long[] occupied, final long[] covered, final int[] order) {
+            this.occupied = occupied;
+            this.covered = covered;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package it.unibo.jnavy.model.bots;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.weather.FogKernel;
+import it.unibo.jnavy.model.weather.WeatherCondition;
+
+/**
+ * A bot strategy that samples complete layouts of the enemy fleet consistent with every shot
+ * feedback received so far, and fires at the unknown cell occupied most often across the samples.
+ * Each decision splits the sampling among the workers of the common {@link ForkJoinPool},
+ * every worker with its own random generator, and stops when the time budget expires or enough
+ * samples have been drawn; the strength of the bot therefore grows with cores and time.
+ * Before sampling, the bot asks an inner {@link DensityBot} for its choice, which is kept as the
+ * answer when it comes from the exact {@link EndgameSolver}, when no consistent layout is found in time
+ * or when the board is larger than the {@link PlacementTable} used to build the layouts.
+ * In the fog the counts are convolved with the {@link FogKernel}, aiming where the deviated shot
+ * is expected to land on a sampled ship most often.
+ * Complete counts are shared by all the bots through a {@link TranspositionCache}, so a state already
+ * sampled, such as the empty board of every opening, is answered without sampling again;
+ * a bot whose caches are isolated keeps a cache of its own instead.
+ * While no hit is open, the counts are scaled by the placement prior, if one was given.
+ */
+public final class MonteCarloBot extends AbstractBotStrategy {
+
+    /**
+     * The default time budget of a decision.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(250);
+
+    /**
+     * The default maximum number of samples drawn for a decision.
+     */
+    public static final int DEFAULT_SAMPLES = 20_000;
+
+    /**
+     * Serial version UID for serialization.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final TranspositionCache<int[]> SAMPLES = new TranspositionCache<>();
+
+    private final Duration budget;
+    private final int maxSamples;
+    private final DensityBot baseline = new DensityBot();
+    private final ShotKnowledge knowledge = new ShotKnowledge();
+    private boolean fog;
+    private double[] prior;
+    private boolean isolated;
+    private transient TranspositionCache<int[]> ownSamples;
+
+    /**
+     * Creates a bot with the default time budget and sample limit.
+     */
+    public MonteCarloBot() {
+        this(DEFAULT_BUDGET, DEFAULT_SAMPLES);
+    }
+
+    /**
+     * Creates a bot with the given time budget and sample limit for each decision.
+     *
+     * @param budget the wall-clock time a decision may take.
+     * @param maxSamples the number of samples after which a decision stops before the budget expires.
+     * @throws IllegalArgumentException if the budget or the sample limit are not positive.
+     */
+    public MonteCarloBot(final Duration budget, final int maxSamples) {
+        if (budget.isNegative() || budget.isZero() || maxSamples < 1) {
+            throw new IllegalArgumentException("Budget and samples must be positive");
+        }
+        this.budget = budget;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Selects the unknown cell occupied most often by the sampled layouts.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @return the selected {@link Position}
+     */
+    @Override
+    public Position selectTarget(final GridView enemyGrid) {
+        return selectTarget(enemyGrid, Deadline.after(this.budget));
+    }
+
+    /**
+     * Selects the unknown cell occupied most often by the sampled layouts.
+     * Sampling stops at the earlier of its own budget and the given deadline.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @param deadline the instant by which the target is needed
+     * @return the selected {@link Position}
+     */
+    @Override
+    public Position selectTarget(final GridView enemyGrid, final Deadline deadline) {
+        final long end = deadline.within(this.budget);
+        final Position fallback = this.baseline.selectTarget(enemyGrid);
+        this.knowledge.sync(enemyGrid);
+        final int size = this.knowledge.size();
+        if (this.baseline.isEndgame() || !PlacementTable.isSupported(size)) {
+            return fallback;
+        }
+
+        final long key = this.knowledge.hash() ^ this.maxSamples;
+        final int[] counts = samples().get(key)
+                .orElseGet(() -> sample(this.knowledge.sampler(PlacementTable.of(size)), end, key));
+        int best = -1;
+        if (this.fog && FogKernel.isSupported(size)) {
+            best = FogKernel.of(size).bestAim(cell -> counts[cell],
+                    cell -> this.knowledge.state(cell) == ShotKnowledge.UNKNOWN);
+        } else {
+            final boolean weighted = this.prior != null && this.prior.length == counts.length
+                    && this.knowledge.openHitCells().length == 0;
+            double bestScore = 0;
+            for (int cell = 0; cell < counts.length; cell++) {
+                final double score = weighted ? counts[cell] * this.prior[cell] : counts[cell];
+                if (this.knowledge.state(cell) == ShotKnowledge.UNKNOWN && counts[cell] > 0
+                        && (best < 0 || score > bestScore)) {
+                    best = cell;
+                    bestScore = score;
+                }
+            }
+        }
+        if (best < 0 || !enemyGrid.isTargetValid(Positions.fromIndex(best, size))) {
+            return fallback;
+        }
+        return Positions.fromIndex(best, size);
+    }
+
+    /**
+     * Records the result of the last shot, so that later samples are consistent with it.
+     *
+     * @param target the position that was shot at
+     * @param result the result of the shot (HIT, MISS, SUNK, etc.)
+     */
+    @Override
+    public void lastShotFeedback(final Position target, final HitType result) {
+        this.baseline.lastShotFeedback(target, result);
+        this.knowledge.record(target, result);
+    }
+
+    /**
+     * Keeps track of the weather, so that shots in the fog account for their deviation.
+     *
+     * @param condition the weather of the coming turn
+     */
+    @Override
+    public void weatherUpdate(final WeatherCondition condition) {
+        this.baseline.weatherUpdate(condition);
+        this.fog = condition == WeatherCondition.FOG;
+    }
+
+    /**
+     * Keeps the prior on the opponent's placements, shared with the inner {@link DensityBot}.
+     *
+     * @param weights how much more often than average each cell hosted a ship, in row-major order
+     */
+    @Override
+    public void placementPrior(final double[] weights) {
+        this.baseline.placementPrior(weights);
+        this.prior = weights.clone();
+    }
+
+    /**
+     * Keeps the source of randomness, giving a split of it to the inner {@link DensityBot}.
+     *
+     * @param random the source of randomness of the strategy
+     */
+    @Override
+    public void setRandomSource(final RandomSource random) {
+        super.setRandomSource(random);
+        this.baseline.setRandomSource(random.split());
+    }
+
+    /**
+     * Keeps the counts sampled from now on in a cache of this bot, instead of the one shared by all the bots.
+     */
+    @Override
+    public void isolateCaches() {
+        this.isolated = true;
+    }
+
+    private TranspositionCache<int[]> samples() {
+        if (!this.isolated) {
+            return SAMPLES;
+        }
+        if (this.ownSamples == null) {
+            this.ownSamples = new TranspositionCache<>();
+        }
+        return this.ownSamples;
+    }
+
+    /**
+     * Draws layouts on every worker of the common pool until the deadline or the sample limit.
+     * Counts that reached the sample limit are cached, while those cut short by the deadline are not,
+     * so that a hurried decision never lowers the quality of later ones.
+     *
+     * @param sampler the sampler of layouts consistent with the knowledge
+     * @param deadline the {@link System#nanoTime()} at which sampling stops
+     * @param key the key of the knowledge in the cache
+     * @return how many accepted layouts cover each cell
+     */
+    private int[] sample(final LayoutSampler sampler, final long deadline, final long key) {
+        final int workers = ForkJoinPool.getCommonPoolParallelism();
+        final List<SamplingTask> tasks = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            tasks.add(new SamplingTask(sampler, getRandom().split(), deadline, Math.max(1, this.maxSamples / workers)));
+        }
+        final int size = sampler.table().getSize();
+        final int[] counts = new int[size * size];
+        for (final SamplingTask task : ForkJoinTask.invokeAll(tasks)) {
+            final int[] partial = task.join();
+            for (int cell = 0; cell < counts.length; cell++) {
+                counts[cell] += partial[cell];
+            }
+        }
+        if (System.nanoTime() - deadline < 0) {
+            samples().put(key, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string "Admiral"
+     */
+    @Override
+    protected String getStrategyName() {
+        return "Admiral";
+    }
+
+    /**
+     * A worker drawing layouts with its own random generator and counting the cells they cover.
+     */
+    private static final class SamplingTask extends RecursiveTask<int[]> {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient LayoutSampler sampler;
+        private final transient RandomSource random;
+        private final long deadline;
+        private final int samples;
+
+        SamplingTask(final LayoutSampler sampler, final RandomSource random, final long deadline,
+                     final int samples) {
+            this.sampler = sampler;
+            this.random = random;
+            this.deadline = deadline;
+            this.samples = samples;
+        }
+
+        @Override
+        protected int[] compute() {
+            final PlacementTable table = this.sampler.table();
+            final int[] counts = new int[table.getSize() * table.getSize()];
+            final LayoutSampler.Scratch scratch = this.sampler.newScratch();
+            final int[] placed = new int[this.sampler.shipCount()];
+            for (int drawn = 0; drawn < this.samples && System.nanoTime() - this.deadline < 0; drawn++) {
+                if (this.sampler.draw(this.random, scratch, placed)) {
+                    for (final int placement : placed) {
+                        for (int i = 0; i < table.getShipSize(placement); i++) {
+                            counts[table.cellOf(placement, i)]++;
+                        }
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+}
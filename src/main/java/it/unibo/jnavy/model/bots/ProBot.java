@@ -1,17 +1,26 @@
 package it.unibo.jnavy.model.bots;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridView;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.HitType;
 
 /**
  * An advanced bot strategy that uses a state machine to hunt, seek, and destroy enemy ships.
  * It adapts its behavior based on the feedback received from previous shots.
+ * Every hit on a ship not yet sunk is kept in a frontier, so a second ship hit while chasing the first one
+ * is chased as soon as the first sinks. Decisions walk precomputed neighbour tables of the board
+ * in a bounded loop, and the frontier lives in primitive arrays, so an ordinary turn on a live grid allocates
+ * nothing, the check of its {@link EndgameSolver} included.
+ * When only a few layouts of the enemy fleet are left, it fires the shot of the solver.
+ * A shot deviated by the fog away from the aimed cell tells nothing about the ship being chased:
+ * a miss is ignored and a hit is kept in the frontier, to be chased once the current ship is sunk.
  */
 public final class ProBot extends AbstractBotStrategy {
 
@@ -33,11 +42,26 @@ public final class ProBot extends AbstractBotStrategy {
     @java.io.Serial
     private static final long serialVersionUID = 1L;
 
+    private static final CardinalDirection[] DIRECTIONS = CardinalDirection.values();
+    private static final int NONE = -1;
+    private static final int INITIAL_HITS = 16;
+    private static final Map<Integer, Neighbours> NEIGHBOURS = new ConcurrentHashMap<>();
+
+    private final EndgameSolver endgame = new EndgameSolver();
     private State currentState = State.HUNTING;
-    private Position firstHitPosition;
-    private Position lastTargetPosition;
-    private final List<CardinalDirection> availableDirections = new ArrayList<>();
-    private CardinalDirection currentDirection;
+    private int[] hitRows = new int[INITIAL_HITS];
+    private int[] hitCols = new int[INITIAL_HITS];
+    private int hitCount;
+    private boolean sunkReported;
+    private int anchorRow = NONE;
+    private int anchorCol = NONE;
+    private int tipRow = NONE;
+    private int tipCol = NONE;
+    private int direction = NONE;
+    private int triedDirections;
+    private int aimRow = NONE;
+    private int aimCol = NONE;
+    private transient Neighbours neighbours;
 
     /**
      * Selects the next target based on the current state of the bot.
@@ -46,71 +70,117 @@ public final class ProBot extends AbstractBotStrategy {
      * @return the calculated {@link Position} to target
      */
     @Override
-    public Position selectTarget(final Grid enemyGrid) {
-
-        return switch (currentState) {
-            case SEEKING -> handleSeeking(enemyGrid);
-            case DESTROYING -> handleDestroying(enemyGrid);
-            default -> handleHunting(enemyGrid);
-        };
+    public Position selectTarget(final GridView enemyGrid) {
+        final Optional<Position> exact = this.endgame.bestShot(enemyGrid);
+        final Position target;
+        if (exact.isPresent()) {
+            target = exact.get();
+        } else {
+            if (this.neighbours == null || this.neighbours.size != enemyGrid.getSize()) {
+                this.neighbours = NEIGHBOURS.computeIfAbsent(enemyGrid.getSize(), Neighbours::new);
+            }
+            if (this.sunkReported) {
+                forgetSunkHits(enemyGrid);
+            }
+            final int cell = decide(enemyGrid);
+            target = cell == NONE ? getRandomValidPosition(enemyGrid) : this.neighbours.positions[cell];
+        }
+        this.aimRow = target.x();
+        this.aimCol = target.y();
+        return target;
     }
 
     /**
-     * Handles the hunting state by selecting a random valid position.
+     * Runs the state machine until it settles on a cell: each round either returns a target
+     * or makes progress by leaving a state or dropping a hit with no open neighbours from the frontier,
+     * so the loop ends after at most a few rounds per pending hit.
      *
      * @param enemyGrid the grid representing the opponent's territory
-     * @return the calculated {@link Position} to target
+     * @return the cell to shoot, or {@link #NONE} to shoot a random cell while hunting
      */
-    private Position handleHunting(final Grid enemyGrid) {
-        return getRandomValidPosition(enemyGrid);
+    private int decide(final GridView enemyGrid) {
+        while (true) {
+            switch (this.currentState) {
+                case HUNTING -> {
+                    if (this.hitCount == 0) {
+                        return NONE;
+                    }
+                    startChase(this.hitRows[0], this.hitCols[0]);
+                }
+                case SEEKING -> {
+                    final int anchor = cellOf(this.anchorRow, this.anchorCol);
+                    for (int d = 0; d < DIRECTIONS.length; d++) {
+                        if ((this.triedDirections & 1 << d) == 0) {
+                            final int next = this.neighbours.next(anchor, d);
+                            if (isOpen(enemyGrid, next)) {
+                                this.direction = d;
+                                return next;
+                            }
+                            this.triedDirections |= 1 << d;
+                        }
+                    }
+                    removeHit(this.anchorRow, this.anchorCol);
+                    resetToHunting();
+                }
+                case DESTROYING -> {
+                    final int next = this.neighbours.next(cellOf(this.tipRow, this.tipCol), this.direction);
+                    if (isOpen(enemyGrid, next)) {
+                        return next;
+                    }
+                    this.direction = opposite(this.direction);
+                    final int back = this.neighbours.next(cellOf(this.anchorRow, this.anchorCol), this.direction);
+                    if (isOpen(enemyGrid, back)) {
+                        this.tipRow = this.anchorRow;
+                        this.tipCol = this.anchorCol;
+                        return back;
+                    }
+                    this.currentState = State.SEEKING;
+                    this.triedDirections = 0;
+                }
+            }
+        }
     }
 
     /**
-     * Handles the seeking state to determine the direction of a hit ship.
+     * Drops from the frontier the hits on ships the game has revealed as sunk,
+     * and forgets the chase if its ship is one of them.
      *
      * @param enemyGrid the grid representing the opponent's territory
-     * @return the calculated {@link Position} to target
      */
-    private Position handleSeeking(final Grid enemyGrid) {
-        if (this.availableDirections.isEmpty() && this.firstHitPosition != null) {
-            resetAvailableDirections();
+    private void forgetSunkHits(final GridView enemyGrid) {
+        this.sunkReported = false;
+        if (this.anchorRow != NONE && isSunk(enemyGrid, this.anchorRow, this.anchorCol)) {
+            resetToHunting();
         }
-        while (!this.availableDirections.isEmpty()) {
-            currentDirection = availableDirections.getFirst();
-            final Position target = targetCalc(firstHitPosition);
-            if (enemyGrid.isTargetValid(target)) {
-                return target;
+        int kept = 0;
+        for (int i = 0; i < this.hitCount; i++) {
+            if (!isSunk(enemyGrid, this.hitRows[i], this.hitCols[i])) {
+                this.hitRows[kept] = this.hitRows[i];
+                this.hitCols[kept] = this.hitCols[i];
+                kept++;
             }
-            this.availableDirections.removeFirst();
         }
-
-        resetAvailableDirections();
-        this.currentState = State.HUNTING;
-        return getRandomValidPosition(enemyGrid);
+        this.hitCount = kept;
     }
 
     /**
-     * Handles the destroying state by continuing to shoot in a specific direction.
+     * Checks whether a hit cell belongs to a ship already sunk, which the game reveals to both players.
      *
      * @param enemyGrid the grid representing the opponent's territory
-     * @return the calculated {@link Position} to target
+     * @param row the row of a cell hit by the bot
+     * @param col the column of a cell hit by the bot
+     * @return true if the ship at that cell is sunk
      */
-    private Position handleDestroying(final Grid enemyGrid) {
-        final Position target = targetCalc(lastTargetPosition);
-        if (!enemyGrid.isTargetValid(target)) {
-            this.currentDirection = this.currentDirection.opposite();
-            final Position secondTarget = targetCalc(firstHitPosition);
+    private boolean isSunk(final GridView enemyGrid, final int row, final int col) {
+        return enemyGrid.getCellStatus(this.neighbours.positions[cellOf(row, col)]) == HitType.SUNK;
+    }
 
-            if (!enemyGrid.isTargetValid(secondTarget)) {
-                this.currentState = State.SEEKING;
-                resetAvailableDirections();
-                return this.selectTarget(enemyGrid);
-            } else {
-                this.lastTargetPosition = this.firstHitPosition;
-                return secondTarget;
-            }
-        }
-        return target;
+    private boolean isOpen(final GridView enemyGrid, final int cell) {
+        return cell != NONE && enemyGrid.isTargetValid(this.neighbours.positions[cell]);
+    }
+
+    private int cellOf(final int row, final int col) {
+        return row == NONE ? NONE : row * this.neighbours.size + col;
     }
 
     /**
@@ -121,30 +191,23 @@ public final class ProBot extends AbstractBotStrategy {
      */
     @Override
     public void lastShotFeedback(final Position target, final HitType result) {
-
+        this.endgame.record(target, result);
+        final boolean deviated = this.aimRow != NONE && (this.aimRow != target.x() || this.aimCol != target.y());
+        this.aimRow = NONE;
+        this.aimCol = NONE;
+        if (result == HitType.HIT || result == HitType.SUNK) {
+            addHit(target.x(), target.y());
+            this.sunkReported |= result == HitType.SUNK;
+        }
+        if (deviated && this.currentState != State.HUNTING) {
+            return;
+        }
         switch (result) {
-            case SUNK:
-                this.currentState = State.HUNTING;
-                resetAvailableDirections();
-                this.firstHitPosition = null;
-                this.lastTargetPosition = null;
-                this.currentDirection = null;
-                return;
-
-            case HIT:
-                handleHit(target);
-            break;
-
-            case MISS:
-                handleMiss();
-            break;
-
-            case INVALID:
-
-            case NONE:
-            break;
+            case SUNK -> resetToHunting();
+            case HIT -> handleHit(target);
+            case MISS -> handleMiss();
+            default -> { }
         }
-
     }
 
     /**
@@ -154,22 +217,19 @@ public final class ProBot extends AbstractBotStrategy {
      */
     private void handleHit(final Position target) {
         switch (this.currentState) {
-            case HUNTING:
-                this.currentState = State.SEEKING;
-                this.firstHitPosition = target;
-                resetAvailableDirections();
-                break;
-            case SEEKING:
+            case HUNTING -> startChase(target.x(), target.y());
+            case SEEKING -> {
                 this.currentState = State.DESTROYING;
-                this.lastTargetPosition = target;
-
-                if (this.currentDirection == null && this.firstHitPosition != null) {
-                    this.currentDirection = findDirection(this.firstHitPosition, target);
+                this.tipRow = target.x();
+                this.tipCol = target.y();
+                if (this.direction == NONE) {
+                    this.direction = findDirection(this.anchorRow, this.anchorCol, target);
                 }
-                break;
-            case DESTROYING:
-                this.lastTargetPosition = target;
-                break;
+            }
+            case DESTROYING -> {
+                this.tipRow = target.x();
+                this.tipCol = target.y();
+            }
         }
     }
 
@@ -178,77 +238,98 @@ public final class ProBot extends AbstractBotStrategy {
      */
     private void handleMiss() {
         if (this.currentState == State.DESTROYING) {
-            if (this.currentDirection != null) {
-                this.currentDirection = this.currentDirection.opposite();
-            }
-            this.lastTargetPosition = firstHitPosition;
-        } else if (this.currentState == State.SEEKING) {
-            if (this.availableDirections.isEmpty()) {
-                return;
-            }
-            this.availableDirections.removeFirst();
+            this.direction = opposite(this.direction);
+            this.tipRow = this.anchorRow;
+            this.tipCol = this.anchorCol;
+        } else if (this.currentState == State.SEEKING && this.direction != NONE) {
+            this.triedDirections |= 1 << this.direction;
         }
     }
 
     /**
-     * Determines the cardinal direction between two positions.
+     * Determines the cardinal direction from a cell to a position.
      * If the positions are not adjacent (e.g., deflected by weather fog)
      * or are diagonal, it calculates the dominant axis to find the closest direction.
      *
-     * @param p1 the starting position
-     * @param p2 the ending position
-     * @return the {@link CardinalDirection} connecting the two positions, or null if they are identical
+     * @param row the row of the starting cell
+     * @param col the column of the starting cell
+     * @param to the ending position
+     * @return the index in {@link CardinalDirection#values()} of the direction connecting the two,
+     *      or {@link #NONE} if they are identical
      */
-    private CardinalDirection findDirection(final Position p1, final Position p2) {
-        if (p1.equals(p2)) {
-            return null;
+    private static int findDirection(final int row, final int col, final Position to) {
+        final int rowDiff = to.x() - row;
+        final int colDiff = to.y() - col;
+        if (rowDiff == 0 && colDiff == 0) {
+            return NONE;
         }
-        final int rowDiff = p2.x() - p1.x();
-        final int colDiff = p2.y() - p1.y();
-        int targetRowOffset = 0;
-        int targetColOffset = 0;
-
-        if (Math.abs(rowDiff) > Math.abs(colDiff)) {
-            if (rowDiff > 0) {
-                targetRowOffset = 1;
-            } else {
-                targetRowOffset = -1;
-            }
-        } else {
-            if (colDiff > 0) {
-                targetColOffset = 1;
-            } else {
-                targetColOffset = -1;
+        final int rowOffset = Math.abs(rowDiff) > Math.abs(colDiff) ? Integer.signum(rowDiff) : 0;
+        final int colOffset = rowOffset == 0 ? Integer.signum(colDiff) : 0;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            if (DIRECTIONS[d].getRowOffset() == rowOffset && DIRECTIONS[d].getColOffset() == colOffset) {
+                return d;
             }
         }
+        return NONE;
+    }
 
-        for (final CardinalDirection dir : CardinalDirection.values()) {
-            if (dir.getRowOffset() == targetRowOffset && dir.getColOffset() == targetColOffset) {
-                return dir;
-            }
-        }
-        return null;
+    private static int opposite(final int d) {
+        return d == NONE ? NONE : DIRECTIONS[d].opposite().ordinal();
     }
 
     /**
-     * Resets the list of available cardinal directions to explore.
+     * Starts seeking the orientation of the ship around a hit.
+     *
+     * @param row the row of the hit
+     * @param col the column of the hit
      */
-    private void resetAvailableDirections() {
-        this.availableDirections.clear();
-        this.availableDirections.addAll(Arrays.asList(CardinalDirection.values()));
+    private void startChase(final int row, final int col) {
+        this.currentState = State.SEEKING;
+        this.anchorRow = row;
+        this.anchorCol = col;
+        this.tipRow = NONE;
+        this.tipCol = NONE;
+        this.direction = NONE;
+        this.triedDirections = 0;
     }
 
     /**
-     * Calculates a new position based on an initial target and the current direction.
-     *
-     * @param target the starting position
-     * @return the new {@link Position} shifted by the direction offsets
+     * Forgets the ship being chased and goes back to hunting, or to the next hit of the frontier.
      */
-    public Position targetCalc(final Position target) {
-        if (this.currentDirection == null) {
-            return target;
+    private void resetToHunting() {
+        this.currentState = State.HUNTING;
+        this.anchorRow = NONE;
+        this.anchorCol = NONE;
+        this.tipRow = NONE;
+        this.tipCol = NONE;
+        this.direction = NONE;
+        this.triedDirections = 0;
+    }
+
+    private void addHit(final int row, final int col) {
+        for (int i = 0; i < this.hitCount; i++) {
+            if (this.hitRows[i] == row && this.hitCols[i] == col) {
+                return;
+            }
+        }
+        if (this.hitCount == this.hitRows.length) {
+            this.hitRows = Arrays.copyOf(this.hitRows, this.hitCount * 2);
+            this.hitCols = Arrays.copyOf(this.hitCols, this.hitCount * 2);
+        }
+        this.hitRows[this.hitCount] = row;
+        this.hitCols[this.hitCount] = col;
+        this.hitCount++;
+    }
+
+    private void removeHit(final int row, final int col) {
+        for (int i = 0; i < this.hitCount; i++) {
+            if (this.hitRows[i] == row && this.hitCols[i] == col) {
+                System.arraycopy(this.hitRows, i + 1, this.hitRows, i, this.hitCount - i - 1);
+                System.arraycopy(this.hitCols, i + 1, this.hitCols, i, this.hitCount - i - 1);
+                this.hitCount--;
+                return;
+            }
         }
-        return new Position(target.x() + currentDirection.getRowOffset(), target.y() + currentDirection.getColOffset());
     }
 
     /**
@@ -260,4 +341,41 @@ public final class ProBot extends AbstractBotStrategy {
     protected String getStrategyName() {
         return "Pro";
     }
+
+    /**
+     * The neighbours of every cell of a square board in each {@link CardinalDirection}, and the positions
+     * of the cells, shared by all the bots playing on boards of that size.
+     */
+    private static final class Neighbours {
+
+        private final int size;
+        private final int[] next;
+        private final Position[] positions;
+
+        Neighbours(final int size) {
+            this.size = size;
+            this.next = new int[size * size * DIRECTIONS.length];
+            this.positions = new Position[size * size];
+            for (int cell = 0; cell < size * size; cell++) {
+                final int row = cell / size;
+                final int col = cell % size;
+                this.positions[cell] = Positions.fromIndex(cell, size);
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    final int r = row + DIRECTIONS[d].getRowOffset();
+                    final int c = col + DIRECTIONS[d].getColOffset();
+                    this.next[cell * DIRECTIONS.length + d] = r >= 0 && r < size && c >= 0 && c < size
+                            ? r * size + c : NONE;
+                }
+            }
+        }
+
+        /**
+         * @param cell a row-major cell index, or {@link #NONE}
+         * @param d the index of a direction
+         * @return the neighbour of the cell in that direction, or {@link #NONE} if it is off the board
+         */
+        int next(final int cell, final int d) {
+            return cell == NONE || d == NONE ? NONE : this.next[cell * DIRECTIONS.length + d];
+        }
+    }
 }
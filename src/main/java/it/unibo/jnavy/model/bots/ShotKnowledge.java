@@ -0,0 +1,278 @@
+package it.unibo.jnavy.model.bots;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import it.unibo.jnavy.model.fleet.Fleet;
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+
+/**
+ * What a bot has learned about the enemy board from the feedback of its shots:
+ * the state of each cell, the hits on ships still afloat and the ships left to sink.
+ * Ships reported as sunk are resolved on the next {@link #sync(GridView)}, marking all their cells,
+ * and hits repaired by the enemy go back to unknown.
+ * The knowledge keeps an incremental Zobrist hash of the cell states, so that evaluations
+ * of a state can be found again in a {@link TranspositionCache}.
+ */
+final class ShotKnowledge implements Serializable {
+
+    static final byte UNKNOWN = 0;
+    static final byte MISS = 1;
+    static final byte HIT = 2;
+    static final byte SUNK = 3;
+    static final int MAX_SHIP_SIZE = Collections.max(Fleet.FLEET_COMPOSITION.keySet());
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_FIRST = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_SECOND = 0x94d049bb133111ebL;
+    private static final int STATE_BITS = 2;
+    private static final int SIZE_SHIFT = 32;
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<Position> openHits = new ArrayList<>();
+    private final ArrayList<Position> pendingSunk = new ArrayList<>();
+    private int size;
+    private byte[] states;
+    private int[] remaining;
+    private long hash;
+    private transient int[] sunkCells;
+
+    /**
+     * Brings the knowledge up to date before a decision, resetting it if the board changed size.
+     * Apart from a reset, it allocates nothing unless a sunk ship is larger than any of the fleet.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     */
+    void sync(final GridView enemyGrid) {
+        if (this.states == null || this.size != enemyGrid.getSize()) {
+            this.size = enemyGrid.getSize();
+            this.states = new byte[this.size * this.size];
+            this.hash = mix((long) this.size << SIZE_SHIFT);
+            this.remaining = new int[MAX_SHIP_SIZE + 1];
+            Fleet.FLEET_COMPOSITION.forEach((shipSize, count) -> this.remaining[shipSize] = count);
+            this.openHits.clear();
+            this.pendingSunk.clear();
+        }
+        for (int i = 0; i < this.pendingSunk.size(); i++) {
+            final Position target = this.pendingSunk.get(i);
+            final int shipSize = sunkShip(enemyGrid, target);
+            if (shipSize == 0) {
+                sink(target.index(this.size));
+            } else {
+                for (int c = 0; c < shipSize; c++) {
+                    sink(this.sunkCells[c]);
+                }
+                if (shipSize <= MAX_SHIP_SIZE && this.remaining[shipSize] > 0) {
+                    this.remaining[shipSize]--;
+                }
+            }
+        }
+        this.pendingSunk.clear();
+        for (int i = this.openHits.size() - 1; i >= 0; i--) {
+            final Position hit = this.openHits.get(i);
+            if (enemyGrid.isTargetValid(hit)) {
+                set(hit.index(this.size), UNKNOWN);
+                this.openHits.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Fills the buffer of sunk cells with the ship sunk at a cell, growing it for ships beyond the fleet.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @param target the cell reported as sunk
+     * @return the number of cells of the ship, or 0 if the grid shows no sunk ship there
+     */
+    private int sunkShip(final GridView enemyGrid, final Position target) {
+        if (this.sunkCells == null) {
+            this.sunkCells = new int[MAX_SHIP_SIZE];
+        }
+        final int shipSize = enemyGrid.getSunkShipCells(target, this.sunkCells);
+        if (shipSize > this.sunkCells.length) {
+            this.sunkCells = new int[shipSize];
+            return enemyGrid.getSunkShipCells(target, this.sunkCells);
+        }
+        return shipSize;
+    }
+
+    /**
+     * Marks a cell as part of a sunk ship, which is no longer an open hit.
+     *
+     * @param cell the row-major index of the cell
+     */
+    private void sink(final int cell) {
+        set(cell, SUNK);
+        for (int i = 0; i < this.openHits.size(); i++) {
+            if (this.openHits.get(i).index(this.size) == cell) {
+                this.openHits.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the result of a shot; ignored before the first {@link #sync(GridView)}.
+     *
+     * @param target the position actually hit
+     * @param result the result of the shot
+     */
+    void record(final Position target, final HitType result) {
+        if (this.states == null || target.x() < 0 || target.x() >= this.size
+                || target.y() < 0 || target.y() >= this.size) {
+            return;
+        }
+        switch (result) {
+            case MISS -> set(target.index(this.size), MISS);
+            case HIT -> {
+                set(target.index(this.size), HIT);
+                this.openHits.add(target);
+            }
+            case SUNK -> {
+                set(target.index(this.size), HIT);
+                this.openHits.add(target);
+                this.pendingSunk.add(target);
+            }
+            default -> { }
+        }
+    }
+
+    /**
+     * @return the number of rows and columns of the enemy board
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @param cell the row-major index of a cell
+     * @return the known state of the cell
+     */
+    byte state(final int cell) {
+        return this.states[cell];
+    }
+
+    /**
+     * @param cell the row-major index of a cell
+     * @return true if the cell cannot host a ship afloat: a miss or a sunk ship
+     */
+    boolean isBlocked(final int cell) {
+        return this.states[cell] == MISS || this.states[cell] == SUNK;
+    }
+
+    /**
+     * @param shipSize the size of a ship of the fleet
+     * @return the number of ships of that size still afloat
+     */
+    int remaining(final int shipSize) {
+        return this.remaining[shipSize];
+    }
+
+    /**
+     * Returns the Zobrist hash of the knowledge: the XOR of a fixed key for each known cell and state,
+     * combined with the ships left to sink. Equal knowledge reached through different shots has equal hashes.
+     *
+     * @return the hash of the knowledge, or 0 before the first {@link #sync(GridView)}
+     */
+    long hash() {
+        if (this.states == null) {
+            return 0;
+        }
+        long fleet = this.hash;
+        for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+            fleet = mix(fleet + this.remaining[shipSize]);
+        }
+        return fleet;
+    }
+
+    /**
+     * @return a copy of the known state of every cell
+     */
+    byte[] states() {
+        return this.states.clone();
+    }
+
+    /**
+     * @param table the placement table of the board
+     * @return the bitset of the cells that cannot host a ship afloat: misses and sunk ships
+     */
+    long[] blockedCells(final PlacementTable table) {
+        final long[] blocked = table.newBitset();
+        for (int cell = 0; cell < this.states.length; cell++) {
+            if (isBlocked(cell)) {
+                table.occupyCell(blocked, cell);
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * @return the row-major indexes of the hits on ships still afloat
+     */
+    int[] openHitCells() {
+        final int[] cells = new int[this.openHits.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = this.openHits.get(i).index(this.size);
+        }
+        return cells;
+    }
+
+    /**
+     * @return the number of cells of the ships still afloat not hit yet, a lower bound
+     *      on the unknown cells covered by any of their layouts
+     */
+    int unknownShipCells() {
+        int cells = -this.openHits.size();
+        for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+            cells += shipSize * this.remaining[shipSize];
+        }
+        return cells;
+    }
+
+    /**
+     * @return the sizes of the ships still afloat, smallest first
+     */
+    int[] remainingShips() {
+        int count = 0;
+        for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+            count += this.remaining[shipSize];
+        }
+        final int[] fleet = new int[count];
+        int n = 0;
+        for (int shipSize = 1; shipSize <= MAX_SHIP_SIZE; shipSize++) {
+            for (int i = 0; i < this.remaining[shipSize]; i++) {
+                fleet[n++] = shipSize;
+            }
+        }
+        return fleet;
+    }
+
+    private void set(final int cell, final byte state) {
+        this.hash ^= key(cell, this.states[cell]) ^ key(cell, state);
+        this.states[cell] = state;
+    }
+
+    private long key(final int cell, final byte state) {
+        return state == UNKNOWN ? 0 : mix(((long) this.size << SIZE_SHIFT | cell) << STATE_BITS | state);
+    }
+
+    private static long mix(final long value) {
+        long z = value * GOLDEN_GAMMA;
+        z = (z ^ z >>> 30) * MIX_FIRST;
+        z = (z ^ z >>> 27) * MIX_SECOND;
+        return z ^ z >>> 31;
+    }
+
+    /**
+     * @return a sampler of enemy layouts consistent with the current knowledge
+     */
+    LayoutSampler sampler(final PlacementTable table) {
+        return new LayoutSampler(table, blockedCells(table), openHitCells(), remainingShips());
+    }
+}
@@ -2,9 +2,8 @@ package it.unibo.jnavy.model.bots;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
-import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridView;
 import it.unibo.jnavy.model.utilities.Position;
 
 /**
@@ -22,7 +21,6 @@ public final class SniperBot extends AbstractBotStrategy {
     private static final double ERROR_PERCENTAGE = 0.18;
 
     private final List<Position> knownTargets;
-    private final Random random = new Random();
 
     /**
      * Constructs a SniperBot with a list of known ship positions.
@@ -41,12 +39,12 @@ public final class SniperBot extends AbstractBotStrategy {
      * @return the selected {@link Position}
      */
     @Override
-    public Position selectTarget(final Grid enemyGrid) {
+    public Position selectTarget(final GridView enemyGrid) {
         this.knownTargets.removeIf(p -> !enemyGrid.isTargetValid(p));
-        final boolean miss = this.random.nextDouble() < ERROR_PERCENTAGE;
+        final boolean miss = getRandom().nextDouble() < ERROR_PERCENTAGE;
 
         if (!miss && !this.knownTargets.isEmpty()) {
-            final int randomIndex = this.random.nextInt(this.knownTargets.size());
+            final int randomIndex = getRandom().nextInt(this.knownTargets.size());
             return this.knownTargets.get(randomIndex);
         } else {
             return super.getRandomValidPosition(enemyGrid);
@@ -0,0 +1,141 @@
+package it.unibo.jnavy.model.bots;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A bounded cache of evaluations keyed by the Zobrist hash of a bot's knowledge, see {@link ShotKnowledge#hash()}.
+ * Since the hash only depends on what is known and not on the order of the shots, the same evaluation
+ * is found again whenever a state recurs, in a later turn or in another game sharing the same opening.
+ * Entries are spread over independently locked stripes, so that concurrent bots rarely wait for each other,
+ * and every stripe evicts with the clock policy: a hand sweeps the slots, sparing for one more round those read
+ * since its last pass. Cached values are shared and must never be modified.
+ *
+ * @param <V> the type of the cached evaluations.
+ */
+final class TranspositionCache<V> {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    private final Stripe<V>[] stripes;
+
+    /**
+     * Creates an empty cache with the default capacity.
+     */
+    TranspositionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the maximum number of entries.
+     * @throws IllegalArgumentException if the capacity is smaller than the number of stripes.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TranspositionCache(final int capacity) {
+        if (capacity < STRIPES) {
+            throw new IllegalArgumentException("Capacity must be at least " + STRIPES + ": " + capacity);
+        }
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe<>(capacity / STRIPES);
+        }
+    }
+
+    /**
+     * @param hash the hash of a knowledge state.
+     * @return the evaluation cached for that state, if any.
+     */
+    Optional<V> get(final long hash) {
+        return stripe(hash).get(hash);
+    }
+
+    /**
+     * Caches the evaluation of a knowledge state, evicting another entry of its stripe if it is full.
+     *
+     * @param hash the hash of the knowledge state.
+     * @param value the evaluation, which must not be modified afterwards.
+     */
+    void put(final long hash, final V value) {
+        stripe(hash).put(hash, value);
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    int size() {
+        int size = 0;
+        for (final Stripe<V> stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe<V> stripe(final long hash) {
+        return this.stripes[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    /**
+     * A fixed number of slots guarded by their own lock, with a clock hand choosing the next victim.
+     *
+     * @param <V> the type of the cached evaluations.
+     */
+    private static final class Stripe<V> {
+
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private final long[] keys;
+        private final Object[] values;
+        private final boolean[] referenced;
+        private int used;
+        private int hand;
+
+        Stripe(final int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.referenced = new boolean[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized Optional<V> get(final long hash) {
+            final Integer slot = this.slots.get(hash);
+            if (slot == null) {
+                return Optional.empty();
+            }
+            this.referenced[slot] = true;
+            return Optional.of((V) this.values[slot]);
+        }
+
+        synchronized void put(final long hash, final V value) {
+            final Integer existing = this.slots.get(hash);
+            if (existing != null) {
+                this.values[existing] = value;
+                this.referenced[existing] = true;
+                return;
+            }
+            final int slot;
+            if (this.used < this.keys.length) {
+                slot = this.used++;
+            } else {
+                while (this.referenced[this.hand]) {
+                    this.referenced[this.hand] = false;
+                    this.hand = (this.hand + 1) % this.keys.length;
+                }
+                slot = this.hand;
+                this.hand = (this.hand + 1) % this.keys.length;
+                this.slots.remove(this.keys[slot]);
+            }
+            this.keys[slot] = hash;
+            this.values[slot] = value;
+            this.referenced[slot] = false;
+            this.slots.put(hash, slot);
+        }
+
+        synchronized int size() {
+            return this.used;
+        }
+    }
+}
@@ -0,0 +1,656 @@
+package it.unibo.jnavy.model.bots;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.weather.WeatherCondition;
+
+/**
+ * A bot strategy running an information-set Monte Carlo tree search over its own next shots.
+ * Every iteration draws a layout of the hidden enemy ships consistent with the feedback received
+ * so far, then walks the tree of information sets: each node offers the most promising unknown
+ * cells, and each aimed cell branches on what the bot observes afterwards (the cell actually hit,
+ * which fog may move to a neighbour as {@code WeatherManagerImpl} does, and the outcome).
+ * Leaves are extended with a quick hunt-and-target rollout, and the discounted number of hits
+ * within a short horizon is propagated back.
+ * Iterations run in parallel on the common {@link ForkJoinPool} without locks: statistics are atomic
+ * and a virtual loss steers concurrent workers away from the branch another one is exploring.
+ * After the feedback of a shot the subtree matching what was observed becomes the new root,
+ * so the search effort of previous turns is kept.
+ * Once an {@link EndgameSolver} can solve the board exactly, its shot replaces the search.
+ * The ranking of the unknown cells of each state is shared by all the bots through a {@link TranspositionCache},
+ * unless the caches of the bot are isolated, in which case it keeps a cache of its own.
+ */
+public final class TreeSearchBot extends AbstractBotStrategy {
+
+    /**
+     * The default time budget of a decision.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(300);
+
+    /**
+     * The default maximum number of iterations of a decision.
+     */
+    public static final int DEFAULT_ITERATIONS = 20_000;
+
+    /**
+     * Serial version UID for serialization.
+     */
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int HORIZON = 10;
+    private static final int CANDIDATES = 12;
+    private static final int PRIOR_SAMPLES = 400;
+    private static final int ROLLOUT_CHOICES = 3;
+    private static final double DISCOUNT = 0.9;
+    private static final double EXPLORATION = 0.7;
+    private static final double REWARD_SCALE = 1 << 20;
+    private static final int MISS_CODE = 0;
+    private static final int HIT_CODE = 1;
+    private static final int SUNK_CODE = 2;
+    private static final int CODE_BITS = 2;
+    private static final TranspositionCache<int[]> RANKINGS = new TranspositionCache<>();
+
+    private final Duration budget;
+    private final int maxIterations;
+    private final DensityBot baseline = new DensityBot();
+    private final ShotKnowledge knowledge = new ShotKnowledge();
+    private WeatherCondition weather = WeatherCondition.SUNNY;
+    private boolean isolated;
+    private transient TranspositionCache<int[]> ownRankings;
+    private transient Node root;
+    private transient int lastAim;
+
+    /**
+     * Creates a bot with the default time budget and iteration limit.
+     */
+    public TreeSearchBot() {
+        this(DEFAULT_BUDGET, DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Creates a bot with the given time budget and iteration limit for each decision.
+     *
+     * @param budget the wall-clock time a decision may take.
+     * @param maxIterations the number of iterations after which a decision stops before the budget expires.
+     * @throws IllegalArgumentException if the budget or the iteration limit are not positive.
+     */
+    public TreeSearchBot(final Duration budget, final int maxIterations) {
+        if (budget.isNegative() || budget.isZero() || maxIterations < 1) {
+            throw new IllegalArgumentException("Budget and iterations must be positive");
+        }
+        this.budget = budget;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Searches until the budget expires and selects the most visited cell of the root.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @return the selected {@link Position}
+     */
+    @Override
+    public Position selectTarget(final GridView enemyGrid) {
+        return selectTarget(enemyGrid, Deadline.after(this.budget));
+    }
+
+    /**
+     * Searches until the budget or the deadline expire and selects the most visited cell of the root.
+     * The search stops at the earlier of its own budget and the given deadline.
+     *
+     * @param enemyGrid the grid representing the opponent's territory
+     * @param deadline the instant by which the target is needed
+     * @return the selected {@link Position}
+     */
+    @Override
+    public Position selectTarget(final GridView enemyGrid, final Deadline deadline) {
+        final long end = deadline.within(this.budget);
+        final Position fallback = this.baseline.selectTarget(enemyGrid);
+        this.knowledge.sync(enemyGrid);
+        final int size = this.knowledge.size();
+        if (this.baseline.isEndgame() || !PlacementTable.isSupported(size)) {
+            this.root = null;
+            return fallback;
+        }
+
+        final LayoutSampler sampler = this.knowledge.sampler(PlacementTable.of(size));
+        final byte[] states = this.knowledge.states();
+        final long key = this.knowledge.hash();
+        final TranspositionCache<int[]> rankings = rankings();
+        final int[] ranked = rankings.get(key).orElseGet(() -> {
+            final int[] fresh = rank(sampler, states);
+            rankings.put(key, fresh);
+            return fresh;
+        });
+        final Search search = new Search(sampler, states, ranked,
+                this.weather == WeatherCondition.FOG);
+        if (this.root == null) {
+            this.root = search.newNode(states, search.openHits(), search.openHits().length);
+        }
+        final int workers = ForkJoinPool.getCommonPoolParallelism();
+        final List<SearchTask> tasks = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            tasks.add(new SearchTask(search, this.root, getRandom().split(), end,
+                    Math.max(1, this.maxIterations / workers)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        final int best = this.root.mostVisited(states);
+        if (best < 0 || !enemyGrid.isTargetValid(Positions.fromIndex(best, size))) {
+            this.root = null;
+            return fallback;
+        }
+        this.lastAim = best;
+        return Positions.fromIndex(best, size);
+    }
+
+    /**
+     * Records the result of the last shot and moves the root of the tree to the matching subtree.
+     *
+     * @param target the position that was shot at
+     * @param result the result of the shot (HIT, MISS, SUNK, etc.)
+     */
+    @Override
+    public void lastShotFeedback(final Position target, final HitType result) {
+        this.baseline.lastShotFeedback(target, result);
+        this.knowledge.record(target, result);
+        final Node current = this.root;
+        this.root = null;
+        final int size = this.knowledge.size();
+        if (current == null || target.x() < 0 || target.x() >= size || target.y() < 0 || target.y() >= size) {
+            return;
+        }
+        final int pick = current.indexOf(this.lastAim);
+        final int code = switch (result) {
+            case MISS -> MISS_CODE;
+            case HIT -> HIT_CODE;
+            case SUNK -> SUNK_CODE;
+            default -> -1;
+        };
+        if (pick >= 0 && code >= 0) {
+            this.root = current.children.get(key(pick, target.index(size) << CODE_BITS | code));
+        }
+    }
+
+    /**
+     * Keeps track of the weather, so that the search knows whether shots may be deflected.
+     *
+     * @param condition the weather of the coming turn
+     */
+    @Override
+    public void weatherUpdate(final WeatherCondition condition) {
+        this.baseline.weatherUpdate(condition);
+        this.weather = condition;
+    }
+
+    /**
+     * Passes the prior on the opponent's placements to the inner {@link DensityBot}.
+     *
+     * @param weights how much more often than average each cell hosted a ship, in row-major order
+     */
+    @Override
+    public void placementPrior(final double[] weights) {
+        this.baseline.placementPrior(weights);
+    }
+
+    /**
+     * Keeps the source of randomness, giving a split of it to the inner {@link DensityBot}.
+     *
+     * @param random the source of randomness of the strategy
+     */
+    @Override
+    public void setRandomSource(final RandomSource random) {
+        super.setRandomSource(random);
+        this.baseline.setRandomSource(random.split());
+    }
+
+    /**
+     * Keeps the rankings computed from now on in a cache of this bot, instead of the one shared by all the bots.
+     */
+    @Override
+    public void isolateCaches() {
+        this.isolated = true;
+    }
+
+    private TranspositionCache<int[]> rankings() {
+        if (!this.isolated) {
+            return RANKINGS;
+        }
+        if (this.ownRankings == null) {
+            this.ownRankings = new TranspositionCache<>();
+        }
+        return this.ownRankings;
+    }
+
+    /**
+     * Orders the unknown cells by how often a quick batch of sampled layouts covers them.
+     *
+     * @param sampler the sampler of layouts consistent with the knowledge
+     * @param states the known state of every cell
+     * @return the unknown cells, most likely occupied first
+     */
+    private int[] rank(final LayoutSampler sampler, final byte[] states) {
+        final PlacementTable table = sampler.table();
+        final int[] counts = new int[states.length];
+        final LayoutSampler.Scratch scratch = sampler.newScratch();
+        final int[] placed = new int[sampler.shipCount()];
+        for (int drawn = 0, accepted = 0; drawn < PRIOR_SAMPLES * 4 && accepted < PRIOR_SAMPLES; drawn++) {
+            if (sampler.draw(getRandom(), scratch, placed)) {
+                accepted++;
+                for (final int placement : placed) {
+                    for (int i = 0; i < table.getShipSize(placement); i++) {
+                        counts[table.cellOf(placement, i)]++;
+                    }
+                }
+            }
+        }
+        final List<Integer> unknown = new ArrayList<>();
+        for (int cell = 0; cell < states.length; cell++) {
+            if (states[cell] == ShotKnowledge.UNKNOWN) {
+                unknown.add(cell);
+            }
+        }
+        unknown.sort((a, b) -> Integer.compare(counts[b], counts[a]));
+        return unknown.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static long key(final int pick, final int observation) {
+        return (long) pick << Integer.SIZE | observation;
+    }
+
+    private static boolean isHit(final int observation) {
+        return (observation & ((1 << CODE_BITS) - 1)) != MISS_CODE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string "Fleet Admiral"
+     */
+    @Override
+    protected String getStrategyName() {
+        return "Fleet Admiral";
+    }
+
+    /**
+     * What the workers of a decision share: the layout sampler, the known board,
+     * the unknown cells ranked by likelihood and the weather.
+     */
+    private static final class Search {
+
+        private final LayoutSampler sampler;
+        private final byte[] states;
+        private final int[] ranked;
+        private final boolean fog;
+        private final int size;
+        private final int[] openHits;
+
+        Search(final LayoutSampler sampler, final byte[] states, final int[] ranked, final boolean fog) {
+            this.sampler = sampler;
+            this.states = states;
+            this.ranked = ranked;
+            this.fog = fog;
+            this.size = sampler.table().getSize();
+            this.openHits = IntStream.range(0, states.length)
+                    .filter(cell -> states[cell] == ShotKnowledge.HIT).toArray();
+        }
+
+        int[] openHits() {
+            return this.openHits;
+        }
+
+        /**
+         * Creates the node of an information set: while some ship is hit but afloat, the cells next to its hits,
+         * otherwise the most likely unknown cells. Chasing an open hit pays off better than hunting elsewhere,
+         * and leaving hunting cells out of those nodes keeps the noise of a short search from preferring them.
+         */
+        Node newNode(final byte[] cells, final int[] hits, final int hitCount) {
+            final int[] actions = new int[CANDIDATES * 2];
+            int n = 0;
+            for (int h = 0; h < hitCount && n < actions.length; h++) {
+                if (cells[hits[h]] != ShotKnowledge.HIT) {
+                    continue;
+                }
+                final int x = hits[h] / this.size;
+                final int y = hits[h] % this.size;
+                n = addAction(actions, n, cells, x - 1, y);
+                n = addAction(actions, n, cells, x + 1, y);
+                n = addAction(actions, n, cells, x, y - 1);
+                n = addAction(actions, n, cells, x, y + 1);
+            }
+            if (n > 0) {
+                return new Node(Arrays.copyOf(actions, n));
+            }
+            for (int r = 0; r < this.ranked.length && n < CANDIDATES; r++) {
+                if (cells[this.ranked[r]] == ShotKnowledge.UNKNOWN) {
+                    actions[n++] = this.ranked[r];
+                }
+            }
+            return new Node(Arrays.copyOf(actions, n));
+        }
+
+        private int addAction(final int[] actions, final int n, final byte[] cells, final int x, final int y) {
+            if (n >= actions.length || x < 0 || x >= this.size || y < 0 || y >= this.size) {
+                return n;
+            }
+            final int cell = x * this.size + y;
+            if (cells[cell] != ShotKnowledge.UNKNOWN || contains(actions, n, cell)) {
+                return n;
+            }
+            actions[n] = cell;
+            return n + 1;
+        }
+
+        private static boolean contains(final int[] actions, final int n, final int cell) {
+            for (int i = 0; i < n; i++) {
+                if (actions[i] == cell) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * An information set of the search, with the statistics of each cell it may aim at
+     * and one child per aimed cell and observation.
+     */
+    private static final class Node {
+
+        private final int[] actions;
+        private final AtomicIntegerArray visits;
+        private final AtomicIntegerArray virtualLoss;
+        private final AtomicLongArray rewards;
+        private final AtomicInteger total = new AtomicInteger();
+        private final ConcurrentMap<Long, Node> children = new ConcurrentHashMap<>();
+
+        Node(final int[] actions) {
+            this.actions = actions;
+            this.visits = new AtomicIntegerArray(actions.length);
+            this.virtualLoss = new AtomicIntegerArray(actions.length);
+            this.rewards = new AtomicLongArray(actions.length);
+        }
+
+        /**
+         * Picks the action to explore with UCB1, counting the pending visits of other workers
+         * as losses; actions never tried are explored first, most likely first.
+         */
+        int select(final byte[] cells) {
+            final double logTotal = Math.log(this.total.get() + 1);
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < this.actions.length; i++) {
+                if (cells[this.actions[i]] != ShotKnowledge.UNKNOWN) {
+                    continue;
+                }
+                final int n = this.visits.get(i) + this.virtualLoss.get(i);
+                if (n == 0) {
+                    return i;
+                }
+                final double score = this.rewards.get(i) / REWARD_SCALE / n
+                        + EXPLORATION * Math.sqrt(logTotal / n);
+                if (score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        void addVirtualLoss(final int pick) {
+            this.virtualLoss.incrementAndGet(pick);
+        }
+
+        void update(final int pick, final double reward) {
+            this.rewards.addAndGet(pick, Math.round(reward * REWARD_SCALE));
+            this.visits.incrementAndGet(pick);
+            this.virtualLoss.decrementAndGet(pick);
+            this.total.incrementAndGet();
+        }
+
+        int mostVisited(final byte[] cells) {
+            int best = -1;
+            for (int i = 0; i < this.actions.length; i++) {
+                if (cells[this.actions[i]] == ShotKnowledge.UNKNOWN
+                        && (best < 0 || this.visits.get(i) > this.visits.get(best))) {
+                    best = i;
+                }
+            }
+            return best < 0 ? -1 : this.actions[best];
+        }
+
+        int indexOf(final int cell) {
+            for (int i = 0; i < this.actions.length; i++) {
+                if (this.actions[i] == cell) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A worker running iterations with its own random generator and working memory.
+     */
+    private static final class SearchTask extends RecursiveAction {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Search search;
+        private final transient Node root;
+        private final transient RandomSource random;
+        private final long deadline;
+        private final int iterations;
+        private final transient PlacementTable table;
+        private final byte[] cells;
+        private final int[] owner;
+        private final int[] health;
+        private final int[] placed;
+        private final int[] hits;
+        private int hitCount;
+        private int afloat;
+
+        SearchTask(final Search search, final Node root, final RandomSource random, final long deadline,
+                   final int iterations) {
+            this.search = search;
+            this.root = root;
+            this.random = random;
+            this.deadline = deadline;
+            this.iterations = iterations;
+            this.table = search.sampler.table();
+            this.cells = new byte[search.states.length];
+            this.owner = new int[search.states.length];
+            this.health = new int[search.sampler.shipCount()];
+            this.placed = new int[search.sampler.shipCount()];
+            this.hits = new int[search.states.length];
+            Arrays.fill(this.owner, -1);
+        }
+
+        @Override
+        protected void compute() {
+            final LayoutSampler.Scratch scratch = this.search.sampler.newScratch();
+            final Node[] nodes = new Node[HORIZON];
+            final int[] picks = new int[HORIZON];
+            final double[] rewards = new double[HORIZON];
+            for (int i = 0; i < this.iterations && System.nanoTime() - this.deadline < 0; i++) {
+                if (this.search.sampler.draw(this.random, scratch, this.placed)) {
+                    determinize();
+                    iterate(nodes, picks, rewards);
+                    for (final int placement : this.placed) {
+                        for (int k = 0; k < this.table.getShipSize(placement); k++) {
+                            this.owner[this.table.cellOf(placement, k)] = -1;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void determinize() {
+            System.arraycopy(this.search.states, 0, this.cells, 0, this.cells.length);
+            System.arraycopy(this.search.openHits, 0, this.hits, 0, this.search.openHits.length);
+            this.hitCount = this.search.openHits.length;
+            this.afloat = this.placed.length;
+            for (int ship = 0; ship < this.placed.length; ship++) {
+                this.health[ship] = this.table.getShipSize(this.placed[ship]);
+                for (int k = 0; k < this.table.getShipSize(this.placed[ship]); k++) {
+                    final int cell = this.table.cellOf(this.placed[ship], k);
+                    this.owner[cell] = ship;
+                    if (this.cells[cell] == ShotKnowledge.HIT) {
+                        this.health[ship]--;
+                    }
+                }
+            }
+        }
+
+        private void iterate(final Node[] nodes, final int[] picks, final double[] rewards) {
+            int depth = 0;
+            int pathLength = 0;
+            Node node = this.root;
+            while (node != null && depth < HORIZON && this.afloat > 0) {
+                final int pick = node.select(this.cells);
+                if (pick < 0) {
+                    break;
+                }
+                node.addVirtualLoss(pick);
+                nodes[pathLength] = node;
+                picks[pathLength] = pick;
+                pathLength++;
+                final int observation = shoot(node.actions[pick]);
+                rewards[depth++] = isHit(observation) ? 1 : 0;
+
+                final long childKey = key(pick, observation);
+                final Node child = node.children.get(childKey);
+                if (child == null) {
+                    node.children.putIfAbsent(childKey, this.search.newNode(this.cells, this.hits, this.hitCount));
+                    node = null;
+                } else {
+                    node = child;
+                }
+            }
+            while (depth < HORIZON && this.afloat > 0) {
+                final int cell = rolloutCell();
+                if (cell < 0) {
+                    break;
+                }
+                rewards[depth++] = isHit(shoot(cell)) ? 1 : 0;
+            }
+            double ret = 0;
+            for (int t = depth - 1; t >= 0; t--) {
+                ret = rewards[t] + DISCOUNT * ret;
+                if (t < pathLength) {
+                    nodes[t].update(picks[t], ret);
+                }
+            }
+        }
+
+        /**
+         * Fires at a cell of the sampled layout, deflecting the shot like fog does.
+         *
+         * @return the observation: the cell actually hit and the outcome code
+         */
+        private int shoot(final int aimed) {
+            final int cell = this.search.fog ? deflect(aimed) : aimed;
+            final int ship = this.owner[cell];
+            if (ship < 0) {
+                this.cells[cell] = ShotKnowledge.MISS;
+                return cell << CODE_BITS | MISS_CODE;
+            }
+            if (--this.health[ship] == 0) {
+                for (int k = 0; k < this.table.getShipSize(this.placed[ship]); k++) {
+                    this.cells[this.table.cellOf(this.placed[ship], k)] = ShotKnowledge.SUNK;
+                }
+                this.afloat--;
+                return cell << CODE_BITS | SUNK_CODE;
+            }
+            this.cells[cell] = ShotKnowledge.HIT;
+            this.hits[this.hitCount++] = cell;
+            return cell << CODE_BITS | HIT_CODE;
+        }
+
+        private int deflect(final int aimed) {
+            final int size = this.search.size;
+            final int x = aimed / size;
+            final int y = aimed % size;
+            int free = 0;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (isUnknown(x + dx, y + dy)) {
+                        free++;
+                    }
+                }
+            }
+            if (free == 0) {
+                return aimed;
+            }
+            int chosen = this.random.nextInt(free);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (isUnknown(x + dx, y + dy) && chosen-- == 0) {
+                        return (x + dx) * size + y + dy;
+                    }
+                }
+            }
+            return aimed;
+        }
+
+        private boolean isUnknown(final int x, final int y) {
+            final int size = this.search.size;
+            return x >= 0 && x < size && y >= 0 && y < size && this.cells[x * size + y] == ShotKnowledge.UNKNOWN;
+        }
+
+        /**
+         * The rollout policy: a free cell next to the latest hit of a ship afloat,
+         * otherwise one of the few most likely unknown cells.
+         */
+        private int rolloutCell() {
+            final int size = this.search.size;
+            for (int h = this.hitCount - 1; h >= 0; h--) {
+                final int hit = this.hits[h];
+                if (this.cells[hit] != ShotKnowledge.HIT) {
+                    continue;
+                }
+                final int x = hit / size;
+                final int y = hit % size;
+                int chosen = -1;
+                int seen = 0;
+                final int[][] around = {{x - 1, y}, {x + 1, y}, {x, y - 1}, {x, y + 1}};
+                for (final int[] p : around) {
+                    if (isUnknown(p[0], p[1]) && this.random.nextInt(++seen) == 0) {
+                        chosen = p[0] * size + p[1];
+                    }
+                }
+                if (chosen >= 0) {
+                    return chosen;
+                }
+            }
+            int chosen = -1;
+            int seen = 0;
+            for (int r = 0; r < this.search.ranked.length && seen < ROLLOUT_CHOICES; r++) {
+                final int cell = this.search.ranked[r];
+                if (this.cells[cell] == ShotKnowledge.UNKNOWN && this.random.nextInt(++seen) == 0) {
+                    chosen = cell;
+                }
+            }
+            return chosen;
+        }
+    }
+}
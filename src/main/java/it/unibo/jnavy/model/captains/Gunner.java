@@ -4,6 +4,7 @@ import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.shots.AreaShot;
 import it.unibo.jnavy.model.shots.HitStrategy;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
 /**
  * Represents the Gunner captain.
@@ -26,8 +27,8 @@ public final class Gunner extends AbstractCaptain {
 
     @Override
     public boolean executeEffect(final Grid grid, final Position p) {
-        final HitStrategy areaShot = new AreaShot(true);
-        areaShot.execute(p, grid);
+        final HitStrategy areaShot = new AreaShot();
+        areaShot.execute(p, grid, ShotResultSink.DISCARD);
         return true;
     }
 
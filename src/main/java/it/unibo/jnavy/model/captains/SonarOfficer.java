@@ -6,6 +6,7 @@ import java.util.List;
 import it.unibo.jnavy.model.cell.Cell;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 
 /**
  * Represents the Sonar Officer captain.
@@ -33,7 +34,7 @@ public final class SonarOfficer extends AbstractCaptain {
         final List<Cell> targetCells = new ArrayList<>();
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
-                final Position candidate = new Position(effectiveX + dx, effectiveY + dy);
+                final Position candidate = Positions.of(effectiveX + dx, effectiveY + dy);
                 grid.getCell(candidate).ifPresent(targetCells::add);
             }
         }
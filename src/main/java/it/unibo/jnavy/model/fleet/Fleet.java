@@ -64,4 +64,12 @@ public interface Fleet extends Serializable {
      * @param ship the ship to remove.
      */
     void removeShip(Ship ship);
+
+    /**
+     * Retrieves a read-only view of the live counters of this fleet
+     * (ships alive and sunk, ships per size, remaining hull points).
+     *
+     * @return the statistics of the fleet.
+     */
+    FleetStats getStats();
 }
@@ -1,25 +1,39 @@
 package it.unibo.jnavy.model.fleet;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import it.unibo.jnavy.model.observer.ShipObserver;
 import it.unibo.jnavy.model.ship.Ship;
 
 /**
  * Concrete implementation of the Fleet interface.
+ * The fleet observes its ships and keeps live counters of their status,
+ * so that checks such as {@link #isDefeated()} take constant time.
  */
-public final class FleetImpl implements Fleet {
+public final class FleetImpl implements Fleet, ShipObserver {
 
     @java.io.Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private final List<Ship> ships;
+    private static final int MAX_SIZE = Collections.max(FLEET_COMPOSITION.keySet());
+
+    private final ArrayList<Ship> ships;
+    private final int[] shipsPerSize;
+    private final int[] alivePerSize;
+    private final Stats stats;
+    private int shipsAlive;
+    private int remainingHull;
 
     /**
      * Constructs a new FleetImpl with an empty list of ships.
      */
     public FleetImpl() {
         this.ships = new ArrayList<>();
+        this.shipsPerSize = new int[MAX_SIZE + 1];
+        this.alivePerSize = new int[MAX_SIZE + 1];
+        this.stats = new Stats();
     }
 
     @Override
@@ -29,18 +43,22 @@ public final class FleetImpl implements Fleet {
             throw new IllegalArgumentException("Ship of size " + s.getSize() + " is not allowed.");
         }
 
-        final long currentCount = ships.stream()
-                .filter(ship -> ship.getSize() == s.getSize())
-                .count();
-        if (currentCount >= allowedMax) {
+        if (this.shipsPerSize[s.getSize()] >= allowedMax) {
             throw new IllegalStateException("Cannot add more ships of size " + s.getSize());
         }
         this.ships.add(s);
+        this.shipsPerSize[s.getSize()]++;
+        this.remainingHull += s.getHealth();
+        if (!s.isSunk()) {
+            this.shipsAlive++;
+            this.alivePerSize[s.getSize()]++;
+        }
+        s.setObserver(this);
     }
 
     @Override
     public boolean isDefeated() {
-        return !this.ships.isEmpty() && this.ships.stream().allMatch(Ship::isSunk);
+        return !this.ships.isEmpty() && this.shipsAlive == 0;
     }
 
     @Override
@@ -50,15 +68,73 @@ public final class FleetImpl implements Fleet {
 
     @Override
     public boolean isTopologyValid() {
-        return FLEET_COMPOSITION.entrySet().stream().allMatch(entry -> {
-            final long actual = ships.stream().filter(s -> s.getSize() == entry.getKey()).count();
-            return actual == entry.getValue();
-        });
+        return FLEET_COMPOSITION.entrySet().stream()
+                .allMatch(entry -> this.shipsPerSize[entry.getKey()] == entry.getValue());
     }
 
     @Override
     public void removeShip(final Ship ship) {
-        this.ships.remove(ship);
+        if (this.ships.remove(ship)) {
+            this.shipsPerSize[ship.getSize()]--;
+            this.remainingHull -= ship.getHealth();
+            if (!ship.isSunk()) {
+                this.shipsAlive--;
+                this.alivePerSize[ship.getSize()]--;
+            }
+            ship.setObserver(null);
+        }
+    }
+
+    @Override
+    public FleetStats getStats() {
+        return this.stats;
+    }
+
+    @Override
+    public void onShipHit(final Ship ship) {
+        this.remainingHull--;
+        if (ship.isSunk()) {
+            this.shipsAlive--;
+            this.alivePerSize[ship.getSize()]--;
+        }
     }
 
+    @Override
+    public void onShipRepaired(final Ship ship) {
+        this.remainingHull++;
+    }
+
+    /**
+     * Read-only view over the counters of the enclosing fleet.
+     */
+    private final class Stats implements FleetStats, java.io.Serializable {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int getShipsAlive() {
+            return shipsAlive;
+        }
+
+        @Override
+        public int getShipsSunk() {
+            return ships.size() - shipsAlive;
+        }
+
+        @Override
+        public int getShipCount(final int size) {
+            return size >= 0 && size <= MAX_SIZE ? shipsPerSize[size] : 0;
+        }
+
+        @Override
+        public int getShipsAlive(final int size) {
+            return size >= 0 && size <= MAX_SIZE ? alivePerSize[size] : 0;
+        }
+
+        @Override
+        public int getRemainingHullPoints() {
+            return remainingHull;
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package it.unibo.jnavy.model.fleet;
+
+/**
+ * A read-only view of the live counters of a {@link Fleet}.
+ * The counters are kept up to date as ships are added, removed, hit and repaired,
+ * so every query takes constant time.
+ */
+public interface FleetStats {
+
+    /**
+     * @return the number of ships in the fleet that are still afloat.
+     */
+    int getShipsAlive();
+
+    /**
+     * @return the number of ships in the fleet that have been sunk.
+     */
+    int getShipsSunk();
+
+    /**
+     * Retrieves how many ships of the given size are in the fleet.
+     *
+     * @param size the size of the ships to count.
+     * @return the number of ships of that size, sunk or not.
+     */
+    int getShipCount(int size);
+
+    /**
+     * Retrieves how many ships of the given size are still afloat.
+     *
+     * @param size the size of the ships to count.
+     * @return the number of ships of that size that have not been sunk.
+     */
+    int getShipsAlive(int size);
+
+    /**
+     * @return the total health points left across all the ships of the fleet.
+     */
+    int getRemainingHullPoints();
+}
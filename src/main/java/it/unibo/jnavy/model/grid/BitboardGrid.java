@@ -0,0 +1,527 @@
+package it.unibo.jnavy.model.grid;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.jnavy.model.cell.Cell;
+import it.unibo.jnavy.model.fleet.Fleet;
+import it.unibo.jnavy.model.fleet.FleetImpl;
+import it.unibo.jnavy.model.ship.Ship;
+import it.unibo.jnavy.model.utilities.CardinalDirection;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the Grid interface specialised for the standard 10x10 board.
+ * Instead of one {@link Cell} object per square, the board state is kept in 128-bit masks
+ * (two longs per plane, one bit per cell in row-major order) for shots, occupancy, sunk ships
+ * and sonar scans, plus a small ship-id table mapping each placed ship to its own occupancy mask.
+ * Cells returned by {@link #getCell(Position)} are lightweight views over these masks.
+ */
+public final class BitboardGrid implements Grid {
+
+    /**
+     * The only board size supported by this implementation.
+     */
+    public static final int SIZE = 10;
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int CELLS = SIZE * SIZE;
+    private static final int WORDS = 2;
+    private static final int NO_SHIP = ShipRegistry.NO_SHIP;
+
+    private final long[] shot = new long[WORDS];
+    private final long[] occupied = new long[WORDS];
+    private final long[] sunk = new long[WORDS];
+    private final long[] scanned = new long[WORDS];
+    private final long[] scanFound = new long[WORDS];
+    private final ShipRegistry registry = new ShipRegistry();
+    private long[][] shipMasks = new long[0][];
+    private final TargetIndex targets = new TargetIndex(CELLS);
+    private final Fleet fleet;
+    private final ChangeLog changes = new ChangeLog();
+    private transient SnapshotCache snapshot;
+    private transient int[] batchCells;
+    private transient int[] lastBatchHit;
+
+    /**
+     * Constructs a new empty 10x10 bitboard grid.
+     */
+    public BitboardGrid() {
+        this.fleet = new FleetImpl();
+    }
+
+    @Override
+    public void placeShip(final Ship ship, final Position startPos, final CardinalDirection dir) {
+        if (!isPlacementValid(ship, startPos, dir)) {
+            throw new IllegalArgumentException("Invalid ship placement!");
+        }
+
+        final int id = shipId(ship);
+        final int[] footprint = new int[ship.getSize()];
+        for (int i = 0; i < ship.getSize(); i++) {
+            final int x = startPos.x() + (i * dir.getRowOffset());
+            final int y = startPos.y() + (i * dir.getColOffset());
+            footprint[i] = index(x, y);
+            set(this.shipMasks[id], footprint[i]);
+            set(this.occupied, footprint[i]);
+        }
+
+        this.fleet.addShip(ship);
+        this.registry.assign(id, footprint);
+        this.changes.recordAll(footprint);
+    }
+
+    @Override
+    public boolean isPlacementValid(final Ship ship, final Position startPos, final CardinalDirection dir) {
+        final PlacementTable table = PlacementTable.of(SIZE);
+        if (table.hasShipSize(ship.getSize())) {
+            final int placement = table.find(ship.getSize(), startPos, dir);
+            return placement != PlacementTable.NONE && table.fits(this.occupied, placement);
+        }
+        for (int i = 0; i < ship.getSize(); i++) {
+            final int x = startPos.x() + (i * dir.getRowOffset());
+            final int y = startPos.y() + (i * dir.getColOffset());
+
+            if (!inBounds(x, y) || get(this.occupied, index(x, y))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ShotResult receiveShot(final Position p) {
+        if (!isTargetValid(p)) {
+            return ShotResult.failure(p, HitType.INVALID);
+        }
+        final int index = index(p.x(), p.y());
+        final HitType cellResult = shootCell(index);
+
+        if (cellResult == HitType.SUNK) {
+            return ShotResult.sunk(p, this.registry.shipOf(shipAt(index)));
+        }
+        return new ShotResult(cellResult, p, Optional.empty());
+    }
+
+    @Override
+    public void receiveShot(final Position p, final ShotResultSink sink) {
+        final int packed = ShotResultSink.pack(p.x(), p.y());
+        if (!isTargetValid(p)) {
+            sink.accept(HitType.INVALID, packed, ShotResultSink.NO_SHIP);
+            return;
+        }
+        final int index = index(p.x(), p.y());
+        final HitType cellResult = shootCell(index);
+        sink.accept(cellResult, packed, cellResult == HitType.MISS ? ShotResultSink.NO_SHIP : shipAt(index));
+    }
+
+    @Override
+    public void receiveShots(final int[] packedPositions, final ShotResultSink sink) {
+        final int[] cells = batchScratch(packedPositions.length);
+        for (int i = 0; i < packedPositions.length; i++) {
+            final int x = ShotResultSink.unpackX(packedPositions[i]);
+            final int y = ShotResultSink.unpackY(packedPositions[i]);
+            if (!inBounds(x, y) || get(this.shot, index(x, y))) {
+                cells[i] = NO_SHIP;
+                continue;
+            }
+            final int index = index(x, y);
+            cells[i] = index;
+            set(this.shot, index);
+            this.targets.remove(index);
+            this.changes.record(index);
+            final int id = shipAt(index);
+            if (id != NO_SHIP) {
+                this.registry.shipOf(id).hit();
+                this.lastBatchHit[id] = i;
+            }
+        }
+        for (int i = 0; i < packedPositions.length; i++) {
+            final int index = cells[i];
+            if (index == NO_SHIP) {
+                continue;
+            }
+            final int id = shipAt(index);
+            if (id == NO_SHIP) {
+                sink.accept(HitType.MISS, packedPositions[i], ShotResultSink.NO_SHIP);
+            } else if (this.lastBatchHit[id] == i && this.registry.shipOf(id).isSunk()) {
+                this.sunk[0] |= this.shipMasks[id][0];
+                this.sunk[1] |= this.shipMasks[id][1];
+                this.changes.recordAll(this.registry.footprint(id));
+                sink.accept(HitType.SUNK, packedPositions[i], id);
+            } else {
+                sink.accept(HitType.HIT, packedPositions[i], id);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDefeated() {
+        return this.fleet.isDefeated();
+    }
+
+    @Override
+    public boolean repair(final Position p) {
+        if (!isPositionValid(p)) {
+            return false;
+        }
+        final int index = index(p.x(), p.y());
+        return get(this.occupied, index) && get(this.shot, index) && repairCell(index);
+    }
+
+    @Override
+    public Optional<Cell> getCell(final Position p) {
+        if (!isPositionValid(p)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BitboardCell(p, index(p.x(), p.y())));
+    }
+
+    @Override
+    public int getSize() {
+        return SIZE;
+    }
+
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The game logic requires direct access to the fleet to manage ship statuses."
+    )
+    @Override
+    public Fleet getFleet() {
+        return this.fleet;
+    }
+
+    @Override
+    public List<Position> getAvailableTargets() {
+        return Arrays.stream(this.targets.toArray())
+                .mapToObj(BitboardGrid::positionAt)
+                .toList();
+    }
+
+    @Override
+    public int getAvailableTargetCount() {
+        return this.targets.count();
+    }
+
+    @Override
+    public Position getRandomAvailableTarget(final RandomGenerator random) {
+        return positionAt(this.targets.sample(random));
+    }
+
+    @Override
+    public boolean isTargetValid(final Position target) {
+        return inBounds(target.x(), target.y()) && !get(this.shot, index(target.x(), target.y()));
+    }
+
+    @Override
+    public boolean isPositionValid(final Position p) {
+        return inBounds(p.x(), p.y());
+    }
+
+    @Override
+    public HitType getCellStatus(final Position p) {
+        if (!isPositionValid(p)) {
+            return HitType.INVALID;
+        }
+        final int index = index(p.x(), p.y());
+        if (!get(this.shot, index)) {
+            return HitType.NONE;
+        }
+        if (!get(this.occupied, index)) {
+            return HitType.MISS;
+        }
+        return get(this.sunk, index) ? HitType.SUNK : HitType.HIT;
+    }
+
+    @Override
+    public List<Position> getSunkShipPositions(final Position p) {
+        if (!isPositionValid(p) || !get(this.sunk, index(p.x(), p.y()))) {
+            return List.of();
+        }
+        return getShipPositions(this.registry.shipOf(shipAt(index(p.x(), p.y()))));
+    }
+
+    @Override
+    public int getSunkShipCells(final Position p, final int[] cells) {
+        if (!isPositionValid(p) || !get(this.sunk, index(p.x(), p.y()))) {
+            return 0;
+        }
+        return this.registry.copyFootprint(shipAt(index(p.x(), p.y())), cells);
+    }
+
+    @Override
+    public void removeShip(final Ship ship) {
+        final int id = this.registry.idOf(ship);
+        if (id != NO_SHIP) {
+            for (int w = 0; w < WORDS; w++) {
+                this.occupied[w] &= ~this.shipMasks[id][w];
+                this.sunk[w] &= ~this.shipMasks[id][w];
+                this.shipMasks[id][w] = 0L;
+            }
+            this.changes.recordAll(this.registry.footprint(id));
+            this.registry.unregister(id);
+        }
+        this.fleet.removeShip(ship);
+    }
+
+    @Override
+    public List<Position> getShipPositions(final Ship ship) {
+        final int id = this.registry.idOf(ship);
+        if (id == NO_SHIP) {
+            return List.of();
+        }
+        return Arrays.stream(this.registry.footprint(id))
+                .mapToObj(BitboardGrid::positionAt)
+                .toList();
+    }
+
+    @Override
+    public Optional<Ship> getShipById(final int shipId) {
+        return Optional.ofNullable(this.registry.find(shipId));
+    }
+
+    @Override
+    public List<Position> getOccupiedPositions() {
+        return collect(this.occupied[0], this.occupied[1]);
+    }
+
+    @Override
+    public GridSnapshot snapshot() {
+        if (this.snapshot == null) {
+            this.snapshot = new SnapshotCache(SIZE);
+        }
+        return this.snapshot.get(this.changes, cell -> get(this.shot, cell), this::shipAt, this.registry);
+    }
+
+    @Override
+    public long getVersion() {
+        return this.changes.version();
+    }
+
+    @Override
+    public Optional<List<Position>> getChangesSince(final long version) {
+        return this.changes.since(version).map(cells -> Arrays.stream(cells)
+                .mapToObj(BitboardGrid::positionAt)
+                .toList());
+    }
+
+    private HitType shootCell(final int index) {
+        if (get(this.shot, index)) {
+            throw new IllegalStateException("Cannot shoot the same cell twice!");
+        }
+        set(this.shot, index);
+        this.targets.remove(index);
+        this.changes.record(index);
+        final int id = shipAt(index);
+        if (id == NO_SHIP) {
+            return HitType.MISS;
+        }
+        final Ship ship = this.registry.shipOf(id);
+        ship.hit();
+        if (ship.isSunk()) {
+            this.sunk[0] |= this.shipMasks[id][0];
+            this.sunk[1] |= this.shipMasks[id][1];
+            this.changes.recordAll(this.registry.footprint(id));
+            return HitType.SUNK;
+        }
+        return HitType.HIT;
+    }
+
+    private boolean repairCell(final int index) {
+        final int id = shipAt(index);
+        if (id != NO_SHIP && !this.registry.shipOf(id).isSunk() && this.registry.shipOf(id).repair()) {
+            clear(this.shot, index);
+            this.targets.add(index);
+            this.changes.record(index);
+            return true;
+        }
+        return false;
+    }
+
+    private void assignCell(final int index, final Ship ship) {
+        this.changes.record(index);
+        final int previous = shipAt(index);
+        if (previous != NO_SHIP) {
+            clear(this.shipMasks[previous], index);
+            this.registry.removeCell(previous, index);
+        }
+        if (ship == null) {
+            clear(this.occupied, index);
+            clear(this.sunk, index);
+        } else {
+            final int id = shipId(ship);
+            set(this.shipMasks[id], index);
+            set(this.occupied, index);
+            this.registry.addCell(id, index);
+        }
+    }
+
+    /**
+     * Returns the id of the given ship, registering it and its occupancy mask if needed.
+     *
+     * @param ship the ship to look up.
+     * @return the id of the ship.
+     */
+    private int shipId(final Ship ship) {
+        final int id = this.registry.register(ship);
+        if (this.shipMasks.length < this.registry.capacity()) {
+            final int old = this.shipMasks.length;
+            this.shipMasks = Arrays.copyOf(this.shipMasks, this.registry.capacity());
+            for (int i = old; i < this.shipMasks.length; i++) {
+                this.shipMasks[i] = new long[WORDS];
+            }
+        }
+        return id;
+    }
+
+    private int shipAt(final int index) {
+        if (!get(this.occupied, index)) {
+            return NO_SHIP;
+        }
+        for (int id = 0; id < this.shipMasks.length; id++) {
+            if (get(this.shipMasks[id], index) && this.registry.shipOf(id) != null) {
+                return id;
+            }
+        }
+        return NO_SHIP;
+    }
+
+    /**
+     * Returns the scratch array of cell indexes for a batch of the given length,
+     * making sure the per-ship scratch array covers every registered id.
+     *
+     * @param length the number of shots in the batch.
+     * @return an array of at least the given length.
+     */
+    private int[] batchScratch(final int length) {
+        if (this.batchCells == null || this.batchCells.length < length) {
+            this.batchCells = new int[length];
+        }
+        if (this.lastBatchHit == null || this.lastBatchHit.length < this.registry.capacity()) {
+            this.lastBatchHit = new int[this.registry.capacity()];
+        }
+        return this.batchCells;
+    }
+
+    private List<Position> collect(final long low, final long high) {
+        final List<Position> positions = new ArrayList<>(Long.bitCount(low) + Long.bitCount(high));
+        final long[] words = {low, high & ((1L << (CELLS - Long.SIZE)) - 1)};
+        for (int w = 0; w < WORDS; w++) {
+            long bits = words[w];
+            while (bits != 0) {
+                final int index = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                positions.add(positionAt(index));
+                bits &= bits - 1;
+            }
+        }
+        return List.copyOf(positions);
+    }
+
+    private static boolean inBounds(final int x, final int y) {
+        return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
+    }
+
+    private static int index(final int x, final int y) {
+        return x * SIZE + y;
+    }
+
+    private static Position positionAt(final int index) {
+        return Positions.fromIndex(index, SIZE);
+    }
+
+    private static boolean get(final long[] plane, final int index) {
+        return (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(final long[] plane, final int index) {
+        plane[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(final long[] plane, final int index) {
+        plane[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * A {@link Cell} view reading and writing a single bit of each plane of the enclosing grid.
+     */
+    private final class BitboardCell implements Cell {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Position position;
+        private final int index;
+
+        BitboardCell(final Position position, final int index) {
+            this.position = position;
+            this.index = index;
+        }
+
+        @Override
+        public HitType receiveShot() {
+            return shootCell(this.index);
+        }
+
+        @Override
+        public void setShip(final Ship ship) {
+            assignCell(this.index, ship);
+        }
+
+        @Override
+        public Optional<Ship> getShip() {
+            final int id = shipAt(this.index);
+            return id == NO_SHIP ? Optional.empty() : Optional.of(registry.shipOf(id));
+        }
+
+        @Override
+        public boolean isOccupied() {
+            return get(occupied, this.index);
+        }
+
+        @Override
+        public Position getPosition() {
+            return this.position;
+        }
+
+        @Override
+        public boolean isHit() {
+            return get(shot, this.index);
+        }
+
+        @Override
+        public boolean repair() {
+            return repairCell(this.index);
+        }
+
+        @Override
+        public void setScanResult(final boolean shipFound) {
+            changes.record(this.index);
+            set(scanned, this.index);
+            if (shipFound) {
+                set(scanFound, this.index);
+            } else {
+                clear(scanFound, this.index);
+            }
+        }
+
+        @Override
+        public Optional<Boolean> getScanResult() {
+            return get(scanned, this.index) ? Optional.of(get(scanFound, this.index)) : Optional.empty();
+        }
+
+        @Override
+        public boolean isDetectable() {
+            return isOccupied() && !isHit() && !get(sunk, this.index);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package it.unibo.jnavy.model.grid;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Bounded log of the cells of a grid changed by each mutation.
+ * The version of the grid is the number of cell changes recorded so far; the most recent ones
+ * are kept in a ring buffer of row-major cell indexes, so that a consumer that remembers the
+ * version it last processed can ask for the cells changed since then in time proportional
+ * to the number of changes, without rescanning the board.
+ */
+final class ChangeLog implements Serializable {
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final int[] cells;
+    private long version;
+
+    /**
+     * Creates an empty log keeping the default number of changes.
+     */
+    ChangeLog() {
+        this.cells = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Records a change of a cell, bumping the version.
+     *
+     * @param cell the row-major index of the cell.
+     */
+    void record(final int cell) {
+        this.cells[(int) (this.version % this.cells.length)] = cell;
+        this.version++;
+    }
+
+    /**
+     * Records a change of every cell of a footprint.
+     *
+     * @param footprint the row-major indexes of the cells.
+     */
+    void recordAll(final int[] footprint) {
+        for (final int cell : footprint) {
+            record(cell);
+        }
+    }
+
+    /**
+     * @return the number of changes recorded so far.
+     */
+    long version() {
+        return this.version;
+    }
+
+    /**
+     * Retrieves the cells changed after the given version.
+     *
+     * @param since a version previously returned by {@link #version()}.
+     * @return the distinct indexes of the changed cells, or an empty Optional if some of these
+     *      changes have already been overwritten and the consumer must resynchronise completely.
+     * @throws IllegalArgumentException if the version is negative or newer than the current one.
+     */
+    Optional<int[]> since(final long since) {
+        if (since < 0 || since > this.version) {
+            throw new IllegalArgumentException("Unknown grid version: " + since);
+        }
+        if (this.version - since > this.cells.length) {
+            return Optional.empty();
+        }
+        final int[] changed = new int[(int) (this.version - since)];
+        for (long v = since; v < this.version; v++) {
+            changed[(int) (v - since)] = this.cells[(int) (v % this.cells.length)];
+        }
+        return Optional.of(Arrays.stream(changed).distinct().toArray());
+    }
+}
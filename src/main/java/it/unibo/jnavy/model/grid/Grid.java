@@ -4,6 +4,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 import it.unibo.jnavy.model.cell.Cell;
 import it.unibo.jnavy.model.fleet.Fleet;
@@ -11,12 +12,13 @@ import it.unibo.jnavy.model.ship.Ship;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
 /**
- * Represents the game board (10x10).
+ * Represents the square game board (10x10 in a standard match).
  * Manages the placement of ships and the processing of shots.
  */
-public interface Grid extends Serializable {
+public interface Grid extends GridView, Serializable {
 
     /**
      * Serial version ID for backward compatibility in serialization.
@@ -53,6 +55,28 @@ public interface Grid extends Serializable {
      */
     ShotResult receiveShot(Position p);
 
+    /**
+     * Processes a shot fired at the given position, writing its outcome into a sink
+     * instead of building a {@link ShotResult}. Invalid targets are reported as
+     * {@link it.unibo.jnavy.model.utilities.HitType#INVALID}.
+     *
+     * @param p the target position.
+     * @param sink the receiver of the outcome, with the id of the ship hit or sunk, if any.
+     */
+    void receiveShot(Position p, ShotResultSink sink);
+
+    /**
+     * Processes a batch of shots fired together (e.g., the footprint of an area attack).
+     * The whole footprint is validated and applied at once: positions out of bounds, already hit
+     * or repeated in the batch are skipped, every other cell reports one outcome, in input order.
+     * Sinking is checked once per ship touched by the batch, so a ship sunk by the batch is
+     * reported as {@link it.unibo.jnavy.model.utilities.HitType#SUNK} only on its last cell.
+     *
+     * @param packedPositions the targets, packed with {@link ShotResultSink#pack(int, int)}.
+     * @param sink the receiver of the outcomes.
+     */
+    void receiveShots(int[] packedPositions, ShotResultSink sink);
+
     /**
      * Checks if the entire fleet on this grid has been defeated.
      *
@@ -78,13 +102,6 @@ public interface Grid extends Serializable {
      */
     Optional<Cell> getCell(Position p);
 
-    /**
-     * Retrieves the size of the grid.
-     *
-     * @return the size of the grid.
-     */
-    int getSize();
-
     /**
      * Retrieves the fleet placed on this grid.
      *
@@ -100,27 +117,41 @@ public interface Grid extends Serializable {
     List<Position> getAvailableTargets();
 
     /**
-     * Checks if a specific position is a valid target (within bounds and not already hit).
+     * Picks a random position among the ones that have not been hit yet.
+     * The grid keeps a live index of these positions, so the choice takes constant time
+     * and does not build the list returned by {@link #getAvailableTargets()}.
      *
-     * @param target the position to check.
-     * @return true if the target is valid and hasn't been hit, false otherwise.
+     * @param random the random generator used to pick the position.
+     * @return a random available target position.
+     * @throws IllegalStateException if every position of the grid has already been hit.
      */
-    boolean isTargetValid(Position target);
+    @Override
+    Position getRandomAvailableTarget(RandomGenerator random);
 
     /**
-     * Checks if a given position is within the grid's boundaries.
+     * Removes a specific ship from the grid.
      *
-     * @param p the position to verify.
-     * @return true if the position is within bounds, false otherwise.
+     * @param ship the ship to remove.
      */
-    boolean isPositionValid(Position p);
+    void removeShip(Ship ship);
 
     /**
-     * Removes a specific ship from the grid.
+     * Retrieves the positions occupied by a ship placed on this grid.
+     * The grid keeps a registry of the cells assigned to each ship by {@link #placeShip},
+     * so the lookup only depends on the ship's length (e.g., to outline a sunk ship).
      *
-     * @param ship the ship to remove.
+     * @param ship the ship to look up.
+     * @return the positions of the ship, or an empty list if the ship is not on this grid.
      */
-    void removeShip(Ship ship);
+    List<Position> getShipPositions(Ship ship);
+
+    /**
+     * Retrieves a ship placed on this grid from the id reported to a {@link ShotResultSink}.
+     *
+     * @param shipId the id of the ship.
+     * @return the ship, or an empty Optional if no ship has the given id.
+     */
+    Optional<Ship> getShipById(int shipId);
 
     /**
      * Retrieves all positions on the grid currently occupied by a ship.
@@ -128,4 +159,35 @@ public interface Grid extends Serializable {
      * @return a list of occupied positions.
      */
     List<Position> getOccupiedPositions();
+
+    /**
+     * Retrieves an immutable snapshot of the current state of the grid.
+     * The snapshot is derived lazily, patching the previous one with the cells changed since it was taken,
+     * so shots never pay for it and repeated calls without changes return the same instance;
+     * hypothetical shots can then be explored with {@link GridSnapshot#withShot(Position)}
+     * without touching the grid.
+     *
+     * @return the snapshot of the grid.
+     */
+    GridSnapshot snapshot();
+
+    /**
+     * Retrieves the version of the grid, which increases with every change of a cell
+     * (shot, repair, scan, ship placed or removed, ship sunk).
+     *
+     * @return the current version.
+     */
+    long getVersion();
+
+    /**
+     * Retrieves the cells changed after the given version, so that consumers (e.g., the view)
+     * can process only the deltas instead of the whole board.
+     * The grid only keeps a bounded log of the latest changes.
+     *
+     * @param version a version previously returned by {@link #getVersion()}.
+     * @return the distinct positions changed since that version, or an empty Optional if the log
+     *      no longer covers it and the whole grid must be read again.
+     * @throws IllegalArgumentException if the version was never returned by this grid.
+     */
+    Optional<List<Position>> getChangesSince(long version);
 }
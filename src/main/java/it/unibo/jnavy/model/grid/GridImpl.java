@@ -2,46 +2,93 @@ package it.unibo.jnavy.model.grid;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jnavy.model.cell.Cell;
-import it.unibo.jnavy.model.cell.CellImpl;
 import it.unibo.jnavy.model.fleet.Fleet;
 import it.unibo.jnavy.model.fleet.FleetImpl;
 import it.unibo.jnavy.model.ship.Ship;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.random.RandomGenerator;
 
 /**
- * Concrete implementation of the Grid interface.
+ * Concrete implementation of the Grid interface for square boards of any size.
+ * The state of the cells is stored as a structure of primitive arrays indexed in row-major order:
+ * a byte plane with the shot status, a short plane with the id of the ship occupying each cell,
+ * an occupancy bitset and two bitsets for sonar scans. No object is allocated per cell, so large boards only cost a
+ * few bytes per square; cells returned by {@link #getCell(Position)} are lightweight views.
  */
 public final class GridImpl implements Grid {
 
+    /**
+     * The size of the standard board.
+     */
+    public static final int DEFAULT_SIZE = 10;
+
+    /**
+     * The largest supported size, so that every coordinate fits in the signed 16-bit fields
+     * of {@link ShotResultSink#pack(int, int)}, together with the off-board cells next to the edges.
+     */
+    public static final int MAX_SIZE = Short.MAX_VALUE + 1;
+
     @java.io.Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    private static final byte STATUS_NONE = 0;
+    private static final byte STATUS_MISS = 1;
+    private static final byte STATUS_HIT = 2;
+    private static final byte STATUS_SUNK = 3;
+    private static final short NO_SHIP = (short) ShipRegistry.NO_SHIP;
 
-    private static final int SIZE = 10;
-    private final Cell[][] cells;
+    private final int size;
+    private final byte[] status;
+    private final short[] shipIds;
+    private final long[] occupied;
+    private final long[] scanned;
+    private final long[] scanFound;
     private final Fleet fleet;
+    private final TargetIndex targets;
+    private final ShipRegistry registry;
+    private final ChangeLog changes = new ChangeLog();
+    private transient SnapshotCache snapshot;
+    private transient int[] batchCells;
+    private transient int[] lastBatchHit;
 
     /**
      * Constructs a new Grid with a 10x10 grid.
      */
     public GridImpl() {
-        this.cells = new Cell[SIZE][SIZE];
-        this.fleet = new FleetImpl();
-        initializeGrid();
+        this(DEFAULT_SIZE);
     }
 
-    private void initializeGrid() {
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                cells[i][j] = new CellImpl(new Position(i, j));
-            }
+    /**
+     * Constructs a new empty square grid of the given size.
+     *
+     * @param size the number of rows and columns of the grid.
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_SIZE}.
+     */
+    public GridImpl(final int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Grid size must be between 1 and " + MAX_SIZE);
         }
+        final int cells = size * size;
+        this.size = size;
+        this.status = new byte[cells];
+        this.shipIds = new short[cells];
+        this.occupied = new long[(cells + Long.SIZE - 1) / Long.SIZE];
+        this.scanned = new long[this.occupied.length];
+        this.scanFound = new long[this.occupied.length];
+        this.fleet = new FleetImpl();
+        this.targets = new TargetIndex(cells);
+        this.registry = new ShipRegistry();
+        Arrays.fill(this.shipIds, NO_SHIP);
     }
 
     @Override
@@ -50,27 +97,36 @@ public final class GridImpl implements Grid {
             throw new IllegalArgumentException("Invalid ship placement!");
         }
 
+        final short id = shipId(ship);
+        final int[] footprint = new int[ship.getSize()];
         for (int i = 0; i < ship.getSize(); i++) {
             final int x = startPos.x() + (i * dir.getRowOffset());
             final int y = startPos.y() + (i * dir.getColOffset());
 
-            cells[x][y].setShip(ship);
+            footprint[i] = index(x, y);
+            this.shipIds[footprint[i]] = id;
+            set(this.occupied, footprint[i]);
         }
 
         this.fleet.addShip(ship);
+        this.registry.assign(id, footprint);
+        this.changes.recordAll(footprint);
     }
 
     @Override
     public boolean isPlacementValid(final Ship ship, final Position startPos, final CardinalDirection dir) {
+        if (PlacementTable.isSupported(this.size)) {
+            final PlacementTable table = PlacementTable.of(this.size);
+            if (table.hasShipSize(ship.getSize())) {
+                final int placement = table.find(ship.getSize(), startPos, dir);
+                return placement != PlacementTable.NONE && table.fits(this.occupied, placement);
+            }
+        }
         for (int i = 0; i < ship.getSize(); i++) {
             final int x = startPos.x() + (i * dir.getRowOffset());
             final int y = startPos.y() + (i * dir.getColOffset());
 
-            if (!isPositionValid(new Position(x, y))) {
-                return false;
-            }
-
-            if (cells[x][y].isOccupied()) {
+            if (!inBounds(x, y) || this.shipIds[index(x, y)] != NO_SHIP) {
                 return false;
             }
         }
@@ -79,25 +135,68 @@ public final class GridImpl implements Grid {
 
     @Override
     public ShotResult receiveShot(final Position p) {
-        if (!isPositionValid(p)) {
+        if (!isTargetValid(p)) {
             return ShotResult.failure(p, HitType.INVALID);
         }
-        final var targetCell = cells[p.x()][p.y()];
+        final int index = index(p.x(), p.y());
+        final HitType cellResult = shootCell(index);
 
-        if (targetCell.isHit()) {
-            return ShotResult.failure(p, HitType.INVALID);
+        if (cellResult == HitType.SUNK) {
+            return ShotResult.sunk(p, this.registry.shipOf(this.shipIds[index]));
         }
+        return new ShotResult(cellResult, p, Optional.empty());
+    }
 
-        final HitType cellResult = targetCell.receiveShot();
-        final Ship ship = targetCell.getShip().orElse(null);
+    @Override
+    public void receiveShot(final Position p, final ShotResultSink sink) {
+        final int packed = ShotResultSink.pack(p.x(), p.y());
+        if (!isTargetValid(p)) {
+            sink.accept(HitType.INVALID, packed, ShotResultSink.NO_SHIP);
+            return;
+        }
+        final int index = index(p.x(), p.y());
+        final HitType cellResult = shootCell(index);
+        sink.accept(cellResult, packed, cellResult == HitType.MISS ? ShotResultSink.NO_SHIP : this.shipIds[index]);
+    }
 
-        if (cellResult == HitType.SUNK) {
-            if (ship == null) {
-                throw new IllegalArgumentException("Sunk ship is null!");
+    @Override
+    public void receiveShots(final int[] packedPositions, final ShotResultSink sink) {
+        final int[] cells = batchScratch(packedPositions.length);
+        for (int i = 0; i < packedPositions.length; i++) {
+            final int x = ShotResultSink.unpackX(packedPositions[i]);
+            final int y = ShotResultSink.unpackY(packedPositions[i]);
+            if (!inBounds(x, y) || this.status[index(x, y)] != STATUS_NONE) {
+                cells[i] = ShotResultSink.NO_SHIP;
+                continue;
+            }
+            final int index = index(x, y);
+            cells[i] = index;
+            this.targets.remove(index);
+            this.changes.record(index);
+            final short id = this.shipIds[index];
+            if (id == NO_SHIP) {
+                this.status[index] = STATUS_MISS;
+            } else {
+                this.status[index] = STATUS_HIT;
+                this.registry.shipOf(id).hit();
+                this.lastBatchHit[id] = i;
+            }
+        }
+        for (int i = 0; i < packedPositions.length; i++) {
+            final int index = cells[i];
+            if (index == ShotResultSink.NO_SHIP) {
+                continue;
+            }
+            final short id = this.shipIds[index];
+            if (id == NO_SHIP) {
+                sink.accept(HitType.MISS, packedPositions[i], ShotResultSink.NO_SHIP);
+            } else if (this.lastBatchHit[id] == i && this.registry.shipOf(id).isSunk()) {
+                this.status[index] = STATUS_SUNK;
+                this.changes.recordAll(this.registry.footprint(id));
+                sink.accept(HitType.SUNK, packedPositions[i], id);
+            } else {
+                sink.accept(HitType.HIT, packedPositions[i], id);
             }
-            return ShotResult.sunk(p, ship);
-        } else {
-            return new ShotResult(cellResult, p, Optional.empty());
         }
     }
 
@@ -108,12 +207,11 @@ public final class GridImpl implements Grid {
 
     @Override
     public boolean repair(final Position p) {
-        return getCell(p).map(c -> {
-            if (c.isOccupied() && c.isHit()) {
-                    return c.repair();
-                }
+        if (!isPositionValid(p)) {
             return false;
-        }).orElse(false);
+        }
+        final int index = index(p.x(), p.y());
+        return this.shipIds[index] != NO_SHIP && this.status[index] != STATUS_NONE && repairCell(index);
     }
 
     @Override
@@ -121,12 +219,12 @@ public final class GridImpl implements Grid {
         if (!isPositionValid(p)) {
             return Optional.empty();
         }
-        return Optional.of(cells[p.x()][p.y()]);
+        return Optional.of(new GridCell(p, index(p.x(), p.y())));
     }
 
     @Override
     public int getSize() {
-        return SIZE;
+        return this.size;
     }
 
     @SuppressFBWarnings(
@@ -140,48 +238,307 @@ public final class GridImpl implements Grid {
 
     @Override
     public List<Position> getAvailableTargets() {
-        return Arrays.stream(this.cells)
-                .flatMap(Arrays::stream)
-                .filter(c -> !c.isHit())
-                .map(Cell::getPosition)
+        return Arrays.stream(this.targets.toArray())
+                .mapToObj(this::positionAt)
                 .toList();
     }
 
+    @Override
+    public int getAvailableTargetCount() {
+        return this.targets.count();
+    }
+
+    @Override
+    public Position getRandomAvailableTarget(final RandomGenerator random) {
+        return positionAt(this.targets.sample(random));
+    }
+
     @Override
     public boolean isTargetValid(final Position target) {
-        final Cell[][] matrix = this.cells;
-        final int x = target.x();
-        final int y = target.y();
-        return x >= 0
-                && x < matrix.length
-                && y >= 0
-                && y < matrix[0].length
-                && this.getCell(target)
-                .map(c -> !c.isHit())
-                .orElse(false);
+        return isPositionValid(target) && this.status[index(target.x(), target.y())] == STATUS_NONE;
     }
 
     @Override
     public boolean isPositionValid(final Position p) {
-        return p.x() >= 0 && p.x() < SIZE && p.y() >= 0 && p.y() < SIZE;
+        return inBounds(p.x(), p.y());
+    }
+
+    @Override
+    public HitType getCellStatus(final Position p) {
+        if (!isPositionValid(p)) {
+            return HitType.INVALID;
+        }
+        final int index = index(p.x(), p.y());
+        if (this.status[index] == STATUS_NONE) {
+            return HitType.NONE;
+        }
+        final short id = this.shipIds[index];
+        if (id == NO_SHIP) {
+            return HitType.MISS;
+        }
+        return this.registry.shipOf(id).isSunk() ? HitType.SUNK : HitType.HIT;
+    }
+
+    @Override
+    public List<Position> getSunkShipPositions(final Position p) {
+        if (!isPositionValid(p)) {
+            return List.of();
+        }
+        final short id = this.shipIds[index(p.x(), p.y())];
+        return id == NO_SHIP || !this.registry.shipOf(id).isSunk() ? List.of()
+                : getShipPositions(this.registry.shipOf(id));
+    }
+
+    @Override
+    public int getSunkShipCells(final Position p, final int[] cells) {
+        if (!isPositionValid(p)) {
+            return 0;
+        }
+        final short id = this.shipIds[index(p.x(), p.y())];
+        return id == NO_SHIP || !this.registry.shipOf(id).isSunk() ? 0 : this.registry.copyFootprint(id, cells);
     }
 
     @Override
     public void removeShip(final Ship ship) {
-        Arrays.stream(this.cells)
-          .flatMap(Arrays::stream)
-          .filter(c -> c.isOccupied() && c.getShip().map(s -> s.equals(ship)).orElse(false))
-          .forEach(c -> c.setShip(null));
+        final int id = this.registry.idOf(ship);
+        if (id != ShipRegistry.NO_SHIP) {
+            for (final int index : this.registry.footprint(id)) {
+                this.shipIds[index] = NO_SHIP;
+                clear(this.occupied, index);
+            }
+            this.changes.recordAll(this.registry.footprint(id));
+            this.registry.unregister(id);
+        }
 
         this.fleet.removeShip(ship);
     }
 
     @Override
-    public List<Position> getOccupiedPositions() {
-        return Arrays.stream(this.cells)
-                .flatMap(Arrays::stream)
-                .filter(Cell::isOccupied)
-                .map(Cell::getPosition)
+    public List<Position> getShipPositions(final Ship ship) {
+        final int id = this.registry.idOf(ship);
+        if (id == ShipRegistry.NO_SHIP) {
+            return List.of();
+        }
+        return Arrays.stream(this.registry.footprint(id))
+                .mapToObj(this::positionAt)
                 .toList();
     }
+
+    @Override
+    public Optional<Ship> getShipById(final int shipId) {
+        return Optional.ofNullable(this.registry.find(shipId));
+    }
+
+    @Override
+    public List<Position> getOccupiedPositions() {
+        final List<Position> positions = new ArrayList<>();
+        for (int index = 0; index < this.shipIds.length; index++) {
+            if (this.shipIds[index] != NO_SHIP) {
+                positions.add(positionAt(index));
+            }
+        }
+        return List.copyOf(positions);
+    }
+
+    @Override
+    public GridSnapshot snapshot() {
+        if (this.snapshot == null) {
+            this.snapshot = new SnapshotCache(this.size);
+        }
+        return this.snapshot.get(this.changes, cell -> this.status[cell] != STATUS_NONE, cell -> this.shipIds[cell],
+                this.registry);
+    }
+
+    @Override
+    public long getVersion() {
+        return this.changes.version();
+    }
+
+    @Override
+    public Optional<List<Position>> getChangesSince(final long version) {
+        return this.changes.since(version).map(cells -> Arrays.stream(cells)
+                .mapToObj(this::positionAt)
+                .toList());
+    }
+
+    private HitType shootCell(final int index) {
+        if (this.status[index] != STATUS_NONE) {
+            throw new IllegalStateException("Cannot shoot the same cell twice!");
+        }
+        this.targets.remove(index);
+        this.changes.record(index);
+        final short id = this.shipIds[index];
+        if (id == NO_SHIP) {
+            this.status[index] = STATUS_MISS;
+            return HitType.MISS;
+        }
+        final Ship ship = this.registry.shipOf(id);
+        ship.hit();
+        if (ship.isSunk()) {
+            this.status[index] = STATUS_SUNK;
+            this.changes.recordAll(this.registry.footprint(id));
+            return HitType.SUNK;
+        }
+        this.status[index] = STATUS_HIT;
+        return HitType.HIT;
+    }
+
+    private boolean repairCell(final int index) {
+        final short id = this.shipIds[index];
+        if (id != NO_SHIP && !this.registry.shipOf(id).isSunk() && this.registry.shipOf(id).repair()) {
+            this.status[index] = STATUS_NONE;
+            this.targets.add(index);
+            this.changes.record(index);
+            return true;
+        }
+        return false;
+    }
+
+    private void assignCell(final int index, final Ship ship) {
+        this.changes.record(index);
+        final short previous = this.shipIds[index];
+        if (previous != NO_SHIP) {
+            this.registry.removeCell(previous, index);
+        }
+        if (ship == null) {
+            this.shipIds[index] = NO_SHIP;
+            clear(this.occupied, index);
+        } else {
+            final short id = shipId(ship);
+            this.shipIds[index] = id;
+            set(this.occupied, index);
+            this.registry.addCell(id, index);
+        }
+    }
+
+    /**
+     * Returns the id of the given ship, registering it if needed.
+     *
+     * @param ship the ship to look up.
+     * @return the id of the ship, which fits in the ship-id plane.
+     * @throws IllegalStateException if too many ships are placed on the grid.
+     */
+    private short shipId(final Ship ship) {
+        final int id = this.registry.register(ship);
+        if (id > Short.MAX_VALUE) {
+            this.registry.unregister(id);
+            throw new IllegalStateException("Too many ships on the grid!");
+        }
+        return (short) id;
+    }
+
+    /**
+     * Returns the scratch array of cell indexes for a batch of the given length,
+     * making sure the per-ship scratch array covers every registered id.
+     *
+     * @param length the number of shots in the batch.
+     * @return an array of at least the given length.
+     */
+    private int[] batchScratch(final int length) {
+        if (this.batchCells == null || this.batchCells.length < length) {
+            this.batchCells = new int[length];
+        }
+        if (this.lastBatchHit == null || this.lastBatchHit.length < this.registry.capacity()) {
+            this.lastBatchHit = new int[this.registry.capacity()];
+        }
+        return this.batchCells;
+    }
+
+    private boolean inBounds(final int x, final int y) {
+        return x >= 0 && x < this.size && y >= 0 && y < this.size;
+    }
+
+    private int index(final int x, final int y) {
+        return x * this.size + y;
+    }
+
+    private Position positionAt(final int index) {
+        return Positions.fromIndex(index, this.size);
+    }
+
+    private static boolean get(final long[] plane, final int index) {
+        return (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(final long[] plane, final int index) {
+        plane[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(final long[] plane, final int index) {
+        plane[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * A {@link Cell} view reading and writing a single slot of each array of the enclosing grid.
+     */
+    private final class GridCell implements Cell {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Position position;
+        private final int index;
+
+        GridCell(final Position position, final int index) {
+            this.position = position;
+            this.index = index;
+        }
+
+        @Override
+        public HitType receiveShot() {
+            return shootCell(this.index);
+        }
+
+        @Override
+        public void setShip(final Ship ship) {
+            assignCell(this.index, ship);
+        }
+
+        @Override
+        public Optional<Ship> getShip() {
+            final short id = shipIds[this.index];
+            return id == NO_SHIP ? Optional.empty() : Optional.of(registry.shipOf(id));
+        }
+
+        @Override
+        public boolean isOccupied() {
+            return shipIds[this.index] != NO_SHIP;
+        }
+
+        @Override
+        public Position getPosition() {
+            return this.position;
+        }
+
+        @Override
+        public boolean isHit() {
+            return status[this.index] != STATUS_NONE;
+        }
+
+        @Override
+        public boolean repair() {
+            return repairCell(this.index);
+        }
+
+        @Override
+        public void setScanResult(final boolean shipFound) {
+            changes.record(this.index);
+            set(scanned, this.index);
+            if (shipFound) {
+                set(scanFound, this.index);
+            } else {
+                clear(scanFound, this.index);
+            }
+        }
+
+        @Override
+        public Optional<Boolean> getScanResult() {
+            return get(scanned, this.index) ? Optional.of(get(scanFound, this.index)) : Optional.empty();
+        }
+
+        @Override
+        public boolean isDetectable() {
+            return getShip().map(s -> !s.isSunk() && !isHit()).orElse(false);
+        }
+    }
 }
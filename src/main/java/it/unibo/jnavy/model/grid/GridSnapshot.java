@@ -0,0 +1,348 @@
+package it.unibo.jnavy.model.grid;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+
+/**
+ * Immutable view of the state of a grid at a given moment: which cells have been shot,
+ * which ship occupies each cell, which cells every ship covers and how much health it has left.
+ * Snapshots are persistent: cells are grouped in leaves of 64 (one long bitmask per leaf
+ * for shots and occupancy), the leaves are the bottom of a 32-way radix trie, and deriving a new
+ * snapshot with {@link #withShot(Position)} only copies the path from the root to the changed leaf,
+ * sharing everything else. The cells of each ship are the footprint arrays of the grid's registry, which are
+ * replaced rather than modified, so a sunk ship is found without scanning the board. Live grids derive a new snapshot only when one is asked for, patching the cells
+ * changed since the previous one, and snapshots can be read and derived from any number of threads.
+ */
+public final class GridSnapshot implements GridView, Serializable {
+
+    /**
+     * The ship id reported for cells that are not occupied.
+     */
+    public static final int NO_SHIP = ShipRegistry.NO_SHIP;
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int LEAF_BITS = 6;
+    private static final int LEAF_CELLS = 1 << LEAF_BITS;
+    private static final int BRANCH_BITS = 5;
+    private static final int BRANCH = 1 << BRANCH_BITS;
+    private static final int BRANCH_MASK = BRANCH - 1;
+    private static final int UNUSED = -1;
+    private static final int[] NO_CELLS = new int[0];
+    private static final Leaf EMPTY_LEAF = new Leaf(0L, 0L, null);
+
+    private final int size;
+    private final int shift;
+    private final Serializable[] root;
+    private final int[] health;
+    private final int[][] footprints;
+    private final int available;
+    private final int shipsAfloat;
+    private final int ships;
+
+    private GridSnapshot(final int size, final int shift, final Serializable[] root, final int[] health,
+                         final int[][] footprints, final int available, final int shipsAfloat, final int ships) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.health = health;
+        this.footprints = footprints;
+        this.available = available;
+        this.shipsAfloat = shipsAfloat;
+        this.ships = ships;
+    }
+
+    /**
+     * Creates the snapshot of an empty grid.
+     *
+     * @param size the number of rows and columns of the grid.
+     * @return a snapshot in which no cell is occupied or shot.
+     */
+    static GridSnapshot empty(final int size) {
+        final int leaves = (size * size + LEAF_CELLS - 1) / LEAF_CELLS;
+        int shift = 0;
+        Serializable node = EMPTY_LEAF;
+        do {
+            final Serializable[] branch = new Serializable[BRANCH];
+            Arrays.fill(branch, node);
+            node = branch;
+            shift += BRANCH_BITS;
+        } while (leaves > 1L << shift);
+        return new GridSnapshot(size, shift - BRANCH_BITS, (Serializable[]) node, new int[0], new int[0][],
+                size * size, 0, 0);
+    }
+
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isPositionValid(final Position p) {
+        return p.x() >= 0 && p.x() < this.size && p.y() >= 0 && p.y() < this.size;
+    }
+
+    @Override
+    public boolean isTargetValid(final Position p) {
+        return isPositionValid(p) && !isShot(index(p));
+    }
+
+    @Override
+    public HitType getCellStatus(final Position p) {
+        if (!isPositionValid(p)) {
+            return HitType.INVALID;
+        }
+        final int index = index(p);
+        if (!isShot(index)) {
+            return HitType.NONE;
+        }
+        final int id = shipAt(index);
+        if (id == NO_SHIP) {
+            return HitType.MISS;
+        }
+        return this.health[id] == 0 ? HitType.SUNK : HitType.HIT;
+    }
+
+    /**
+     * @param p the position of the cell.
+     * @return the id of the ship occupying the cell, or {@link #NO_SHIP}.
+     */
+    public int getShipId(final Position p) {
+        return isPositionValid(p) ? shipAt(index(p)) : NO_SHIP;
+    }
+
+    /**
+     * @param shipId the id of a ship, as returned by {@link #getShipId(Position)}.
+     * @return the health left to the ship, or 0 if no ship has the given id.
+     */
+    public int getShipHealth(final int shipId) {
+        return shipId >= 0 && shipId < this.health.length ? Math.max(this.health[shipId], 0) : 0;
+    }
+
+    @Override
+    public int getAvailableTargetCount() {
+        return this.available;
+    }
+
+    @Override
+    public Position getRandomAvailableTarget(final RandomGenerator random) {
+        if (this.available == 0) {
+            throw new IllegalStateException("No target left on the grid");
+        }
+        int rank = random.nextInt(this.available);
+        final int cells = this.size * this.size;
+        for (int first = 0; first < cells; first += LEAF_CELLS) {
+            final int inLeaf = Math.min(LEAF_CELLS, cells - first);
+            long free = ~leaf(first).shot & (inLeaf == LEAF_CELLS ? -1L : (1L << inLeaf) - 1);
+            final int count = Long.bitCount(free);
+            if (rank < count) {
+                for (; rank > 0; rank--) {
+                    free &= free - 1;
+                }
+                return Positions.fromIndex(first + Long.numberOfTrailingZeros(free), this.size);
+            }
+            rank -= count;
+        }
+        throw new IllegalStateException("No target left on the grid");
+    }
+
+    @Override
+    public List<Position> getSunkShipPositions(final Position p) {
+        if (getCellStatus(p) != HitType.SUNK) {
+            return List.of();
+        }
+        return Arrays.stream(footprint(shipAt(index(p))))
+                .mapToObj(cell -> Positions.fromIndex(cell, this.size))
+                .toList();
+    }
+
+    @Override
+    public int getSunkShipCells(final Position p, final int[] cells) {
+        if (getCellStatus(p) != HitType.SUNK) {
+            return 0;
+        }
+        final int[] footprint = footprint(shipAt(index(p)));
+        System.arraycopy(footprint, 0, cells, 0, Math.min(footprint.length, cells.length));
+        return footprint.length;
+    }
+
+    /**
+     * @return the number of ships on the grid that are not sunk.
+     */
+    public int getShipsAfloat() {
+        return this.shipsAfloat;
+    }
+
+    /**
+     * @return true if the grid holds at least one ship and all of them are sunk.
+     */
+    public boolean isDefeated() {
+        return this.ships > 0 && this.shipsAfloat == 0;
+    }
+
+    /**
+     * Derives the snapshot obtained by shooting a cell, sharing all the unchanged state.
+     *
+     * @param p the target position.
+     * @return the new snapshot; this one is not modified.
+     * @throws IllegalArgumentException if the position is out of bounds or already shot.
+     */
+    public GridSnapshot withShot(final Position p) {
+        if (!isTargetValid(p)) {
+            throw new IllegalArgumentException("Invalid target: " + p);
+        }
+        final int index = index(p);
+        final int id = shipAt(index);
+        final GridSnapshot shot = withShotAt(index, true);
+        return id == NO_SHIP ? shot : shot.withHealth(id, Math.max(this.health[id] - 1, 0));
+    }
+
+    /**
+     * Derives the snapshot in which a cell is marked as shot or not shot.
+     *
+     * @param cell the row-major index of the cell.
+     * @param shot the new shot state of the cell.
+     * @return the new snapshot, or this one if nothing changes.
+     */
+    GridSnapshot withShotAt(final int cell, final boolean shot) {
+        final Leaf leaf = leaf(cell);
+        final long bit = 1L << cell;
+        if (((leaf.shot & bit) != 0) == shot) {
+            return this;
+        }
+        final Leaf updated = new Leaf(shot ? leaf.shot | bit : leaf.shot & ~bit, leaf.occupied, leaf.ids);
+        return new GridSnapshot(this.size, this.shift, assoc(this.root, this.shift, cell >>> LEAF_BITS, updated),
+                this.health, this.footprints, this.available + (shot ? -1 : 1), this.shipsAfloat, this.ships);
+    }
+
+    /**
+     * Derives the snapshot in which a cell is occupied by the given ship (or by none).
+     *
+     * @param cell the row-major index of the cell.
+     * @param shipId the id of the ship, or {@link #NO_SHIP} to free the cell.
+     * @return the new snapshot, or this one if nothing changes.
+     */
+    GridSnapshot withOwner(final int cell, final int shipId) {
+        if (shipAt(cell) == shipId) {
+            return this;
+        }
+        final Leaf leaf = leaf(cell);
+        final long bit = 1L << cell;
+        final short[] ids = leaf.ids == null ? emptyIds() : leaf.ids.clone();
+        ids[cell & (LEAF_CELLS - 1)] = (short) shipId;
+        final long occupied = shipId == NO_SHIP ? leaf.occupied & ~bit : leaf.occupied | bit;
+        final Leaf updated = new Leaf(leaf.shot, occupied, occupied == 0 ? null : ids);
+        return new GridSnapshot(this.size, this.shift, assoc(this.root, this.shift, cell >>> LEAF_BITS, updated),
+                this.health, this.footprints, this.available, this.shipsAfloat, this.ships);
+    }
+
+    /**
+     * Derives the snapshot in which a ship has the given health.
+     *
+     * @param shipId the id of the ship.
+     * @param shipHealth the new health of the ship, or a negative value if the ship left the grid.
+     * @return the new snapshot, or this one if nothing changes.
+     */
+    GridSnapshot withHealth(final int shipId, final int shipHealth) {
+        final int newHealth = Math.max(shipHealth, UNUSED);
+        final int oldHealth = shipId < this.health.length ? this.health[shipId] : UNUSED;
+        if (oldHealth == newHealth) {
+            return this;
+        }
+        final int[] updated = Arrays.copyOf(this.health, Math.max(this.health.length, shipId + 1));
+        if (shipId >= this.health.length) {
+            Arrays.fill(updated, this.health.length, updated.length, UNUSED);
+        }
+        updated[shipId] = newHealth;
+        final int afloat = this.shipsAfloat - (oldHealth > 0 ? 1 : 0) + (newHealth > 0 ? 1 : 0);
+        final int placed = this.ships - (oldHealth != UNUSED ? 1 : 0) + (newHealth != UNUSED ? 1 : 0);
+        return new GridSnapshot(this.size, this.shift, this.root, updated, this.footprints,
+                this.available, afloat, placed);
+    }
+
+    /**
+     * Derives the snapshot in which a ship covers the given cells.
+     *
+     * @param shipId the id of the ship.
+     * @param cells the row-major indexes of the cells of the ship, or null if the ship left the grid;
+     *              the array is kept and must never be modified.
+     * @return the new snapshot, or this one if the ship already has the same array of cells.
+     */
+    GridSnapshot withFootprint(final int shipId, final int[] cells) {
+        final int[] old = shipId < this.footprints.length ? this.footprints[shipId] : null;
+        if (old == cells) {
+            return this;
+        }
+        final int[][] updated = Arrays.copyOf(this.footprints, Math.max(this.footprints.length, shipId + 1));
+        updated[shipId] = cells;
+        return new GridSnapshot(this.size, this.shift, this.root, this.health, updated,
+                this.available, this.shipsAfloat, this.ships);
+    }
+
+    private boolean isShot(final int cell) {
+        return (leaf(cell).shot & (1L << cell)) != 0;
+    }
+
+    private int[] footprint(final int shipId) {
+        final int[] cells = shipId >= 0 && shipId < this.footprints.length ? this.footprints[shipId] : null;
+        return cells == null ? NO_CELLS : cells;
+    }
+
+    private int shipAt(final int cell) {
+        final Leaf leaf = leaf(cell);
+        return (leaf.occupied & (1L << cell)) == 0 ? NO_SHIP : leaf.ids[cell & (LEAF_CELLS - 1)];
+    }
+
+    private Leaf leaf(final int cell) {
+        final int leafIndex = cell >>> LEAF_BITS;
+        Serializable[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BRANCH_BITS) {
+            node = (Serializable[]) node[(leafIndex >>> level) & BRANCH_MASK];
+        }
+        return (Leaf) node[leafIndex & BRANCH_MASK];
+    }
+
+    private int index(final Position p) {
+        return p.x() * this.size + p.y();
+    }
+
+    private static Serializable[] assoc(final Serializable[] node, final int level, final int leafIndex,
+                                        final Leaf leaf) {
+        final Serializable[] copy = node.clone();
+        final int slot = (leafIndex >>> level) & BRANCH_MASK;
+        copy[slot] = level == 0 ? leaf : assoc((Serializable[]) node[slot], level - BRANCH_BITS, leafIndex, leaf);
+        return copy;
+    }
+
+    private static short[] emptyIds() {
+        final short[] ids = new short[LEAF_CELLS];
+        Arrays.fill(ids, (short) NO_SHIP);
+        return ids;
+    }
+
+    /**
+     * A group of 64 consecutive cells. Leaves are never modified once built.
+     */
+    private static final class Leaf implements Serializable {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long shot;
+        private final long occupied;
+        private final short[] ids;
+
+        Leaf(final long shot, final long occupied, final short[] ids) {
+            this.shot = shot;
+            this.occupied = occupied;
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package it.unibo.jnavy.model.grid;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+
+/**
+ * Read-only view of a board, as seen by whoever is shooting at it: which cells are still to be shot,
+ * what each shot revealed and where the ships sunk so far lie.
+ * It is implemented both by live {@link Grid}s and by immutable {@link GridSnapshot}s,
+ * so that the bots can choose their targets on another thread while the game goes on.
+ */
+public interface GridView {
+
+    /**
+     * Retrieves the size of the grid.
+     *
+     * @return the size of the grid.
+     */
+    int getSize();
+
+    /**
+     * Checks if a given position is within the grid's boundaries.
+     *
+     * @param p the position to verify.
+     * @return true if the position is within bounds, false otherwise.
+     */
+    boolean isPositionValid(Position p);
+
+    /**
+     * Checks if a specific position is a valid target (within bounds and not already hit).
+     *
+     * @param target the position to check.
+     * @return true if the target is valid and hasn't been hit, false otherwise.
+     */
+    boolean isTargetValid(Position target);
+
+    /**
+     * Retrieves the number of positions on the grid that have not been hit yet.
+     *
+     * @return the number of available target positions.
+     */
+    int getAvailableTargetCount();
+
+    /**
+     * Picks a random position among the ones that have not been hit yet.
+     *
+     * @param random the random generator used to pick the position.
+     * @return a random available target position.
+     * @throws IllegalStateException if every position of the grid has already been hit.
+     */
+    Position getRandomAvailableTarget(RandomGenerator random);
+
+    /**
+     * Retrieves the status of a cell as seen by the shooter.
+     *
+     * @param p the position of the cell.
+     * @return {@link HitType#NONE} if the cell has not been shot, {@link HitType#MISS},
+     *      {@link HitType#HIT} or {@link HitType#SUNK} (for every cell of a sunk ship) otherwise,
+     *      {@link HitType#INVALID} if out of bounds.
+     */
+    HitType getCellStatus(Position p);
+
+    /**
+     * Retrieves the positions of the sunk ship occupying a cell, which the shooter is entitled to know.
+     *
+     * @param p the position of a cell.
+     * @return the positions of the ship, or an empty list if the cell does not hold a sunk ship.
+     */
+    List<Position> getSunkShipPositions(Position p);
+
+    /**
+     * Copies the row-major indexes of the cells of the sunk ship occupying a cell into a buffer,
+     * so that a shooter can resolve a sink without allocating.
+     *
+     * @param p the position of a cell.
+     * @param cells the buffer receiving the indexes of the ship's cells, as many as it can hold.
+     * @return the number of cells of the ship, or 0 if the cell does not hold a sunk ship.
+     */
+    default int getSunkShipCells(final Position p, final int[] cells) {
+        final List<Position> ship = getSunkShipPositions(p);
+        for (int i = 0; i < Math.min(ship.size(), cells.length); i++) {
+            cells[i] = ship.get(i).index(getSize());
+        }
+        return ship.size();
+    }
+}
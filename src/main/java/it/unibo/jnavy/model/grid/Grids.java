@@ -0,0 +1,23 @@
+package it.unibo.jnavy.model.grid;
+
+/**
+ * Factory of empty {@link Grid}s, choosing the fastest implementation for the requested size.
+ * The standard board is backed by a {@link BitboardGrid}, boards of any other size by a {@link GridImpl}.
+ */
+public final class Grids {
+
+    private Grids() {
+        // Utility classes should not be instantiated.
+    }
+
+    /**
+     * Creates an empty square grid.
+     *
+     * @param size the number of rows and columns of the grid.
+     * @return a {@link BitboardGrid} if the size is {@link BitboardGrid#SIZE}, a {@link GridImpl} otherwise.
+     * @throws IllegalArgumentException if the size is not supported by {@link GridImpl}.
+     */
+    public static Grid create(final int size) {
+        return size == BitboardGrid.SIZE ? new BitboardGrid() : new GridImpl(size);
+    }
+}
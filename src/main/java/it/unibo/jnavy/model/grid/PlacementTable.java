@@ -0,0 +1,394 @@
+package it.unibo.jnavy.model.grid;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+import it.unibo.jnavy.model.fleet.Fleet;
+import it.unibo.jnavy.model.utilities.CardinalDirection;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+
+/**
+ * Precomputed catalogue of every placement that fits an empty square board, for each ship size
+ * of a fleet composition. A placement is identified by an int id and stored as a sparse bitmask
+ * over the row-major cell bitset of the board (the few non-zero words and their bits), so checking
+ * whether it fits among the occupied cells is a handful of bitwise operations.
+ * An inverted index lists, for each cell, the placements covering it.
+ * Placements are only stored in the {@link CardinalDirection#RIGHT} and {@link CardinalDirection#DOWN}
+ * orientations: the other two cover exactly the same cells starting from the opposite end.
+ * Ids of the same ship size are contiguous.
+ * Tables are immutable, built lazily on first use and shared by the whole JVM.
+ */
+public final class PlacementTable {
+
+    /**
+     * The id returned when a placement does not fit the board.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * The largest board size for which a table can be built.
+     */
+    public static final int MAX_SIZE = 64;
+
+    private static final AtomicReferenceArray<PlacementTable> STANDARD = new AtomicReferenceArray<>(MAX_SIZE + 1);
+    private static final ConcurrentMap<Key, PlacementTable> CUSTOM = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final Map<Integer, Integer> composition;
+    private final int maxShipSize;
+    private final int[] firstOfSize;
+    private final int[] countOfSize;
+    private final int[] origins;
+    private final int[] lengths;
+    private final int[] steps;
+    private final int[] maskStart;
+    private final int[] maskWords;
+    private final long[] maskBits;
+    private final int[] coveringStart;
+    private final int[] covering;
+
+    private PlacementTable(final int size, final Map<Integer, Integer> composition) {
+        this.size = size;
+        this.composition = Map.copyOf(composition);
+        this.maxShipSize = composition.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        this.firstOfSize = new int[this.maxShipSize + 1];
+        this.countOfSize = new int[this.maxShipSize + 1];
+
+        int total = 0;
+        for (final int shipSize : new TreeMap<>(composition).keySet()) {
+            final int fits = Math.max(0, size - shipSize + 1);
+            this.firstOfSize[shipSize] = total;
+            this.countOfSize[shipSize] = 2 * fits * size;
+            total += this.countOfSize[shipSize];
+        }
+        this.origins = new int[total];
+        this.lengths = new int[total];
+        this.steps = new int[total];
+        this.maskStart = new int[total + 1];
+
+        int words = 0;
+        final int[] coverage = new int[size * size + 1];
+        for (final int shipSize : composition.keySet()) {
+            final int fits = Math.max(0, size - shipSize + 1);
+            int id = this.firstOfSize[shipSize];
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < fits; y++, id++) {
+                    this.origins[id] = x * size + y;
+                    this.steps[id] = 1;
+                }
+            }
+            for (int x = 0; x < fits; x++) {
+                for (int y = 0; y < size; y++, id++) {
+                    this.origins[id] = x * size + y;
+                    this.steps[id] = size;
+                }
+            }
+        }
+        for (int id = 0; id < total; id++) {
+            this.lengths[id] = shipSizeOf(id);
+            this.maskStart[id] = words;
+            int lastWord = -1;
+            for (int i = 0; i < this.lengths[id]; i++) {
+                final int cell = cellOf(id, i);
+                coverage[cell + 1]++;
+                if (cell >>> 6 != lastWord) {
+                    lastWord = cell >>> 6;
+                    words++;
+                }
+            }
+        }
+        this.maskStart[total] = words;
+
+        this.maskWords = new int[words];
+        this.maskBits = new long[words];
+        for (int id = 0; id < total; id++) {
+            int slot = this.maskStart[id] - 1;
+            int lastWord = -1;
+            for (int i = 0; i < this.lengths[id]; i++) {
+                final int cell = cellOf(id, i);
+                if (cell >>> 6 != lastWord) {
+                    lastWord = cell >>> 6;
+                    slot++;
+                    this.maskWords[slot] = lastWord;
+                }
+                this.maskBits[slot] |= 1L << cell;
+            }
+        }
+
+        for (int cell = 0; cell < size * size; cell++) {
+            coverage[cell + 1] += coverage[cell];
+        }
+        this.coveringStart = coverage.clone();
+        this.covering = new int[coverage[size * size]];
+        for (int id = 0; id < total; id++) {
+            for (int i = 0; i < this.lengths[id]; i++) {
+                this.covering[coverage[cellOf(id, i)]++] = id;
+            }
+        }
+    }
+
+    /**
+     * @param size the number of rows and columns of a board.
+     * @return true if a table can be built for boards of that size.
+     */
+    public static boolean isSupported(final int size) {
+        return size >= 1 && size <= MAX_SIZE;
+    }
+
+    /**
+     * Returns the shared table of the standard fleet for boards of the given size.
+     *
+     * @param size the number of rows and columns of the board.
+     * @return the table for {@link Fleet#FLEET_COMPOSITION}.
+     * @throws IllegalArgumentException if the size is not supported.
+     */
+    public static PlacementTable of(final int size) {
+        checkSize(size);
+        final PlacementTable cached = STANDARD.get(size);
+        if (cached != null) {
+            return cached;
+        }
+        final PlacementTable built = new PlacementTable(size, Fleet.FLEET_COMPOSITION);
+        return STANDARD.compareAndSet(size, null, built) ? built : STANDARD.get(size);
+    }
+
+    /**
+     * Returns the shared table of a fleet composition for boards of the given size.
+     *
+     * @param size the number of rows and columns of the board.
+     * @param composition the number of ships of each size.
+     * @return the table for the given composition.
+     * @throws IllegalArgumentException if the size is not supported or the composition has non positive sizes.
+     */
+    public static PlacementTable of(final int size, final Map<Integer, Integer> composition) {
+        if (composition.equals(Fleet.FLEET_COMPOSITION)) {
+            return of(size);
+        }
+        checkSize(size);
+        if (composition.keySet().stream().anyMatch(shipSize -> shipSize < 1)) {
+            throw new IllegalArgumentException("Ship sizes must be positive: " + composition);
+        }
+        final Map<Integer, Integer> key = Map.copyOf(composition);
+        return CUSTOM.computeIfAbsent(new Key(size, key), k -> new PlacementTable(size, key));
+    }
+
+    /**
+     * @return the number of rows and columns of the board.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return the fleet composition the table was built for.
+     */
+    public Map<Integer, Integer> getComposition() {
+        return this.composition;
+    }
+
+    /**
+     * @return the total number of placements in the table.
+     */
+    public int getPlacementCount() {
+        return this.origins.length;
+    }
+
+    /**
+     * @param shipSize a ship size.
+     * @return true if the composition has ships of that size.
+     */
+    public boolean hasShipSize(final int shipSize) {
+        return shipSize >= 1 && shipSize <= this.maxShipSize && this.composition.containsKey(shipSize);
+    }
+
+    /**
+     * @param shipSize a ship size of the composition.
+     * @return the first id of the placements of that size.
+     */
+    public int getFirstPlacement(final int shipSize) {
+        return hasShipSize(shipSize) ? this.firstOfSize[shipSize] : 0;
+    }
+
+    /**
+     * @param shipSize a ship size.
+     * @return the number of placements of that size, 0 if the composition has no such ships.
+     */
+    public int getPlacementCount(final int shipSize) {
+        return hasShipSize(shipSize) ? this.countOfSize[shipSize] : 0;
+    }
+
+    /**
+     * Looks up the placement covering the same cells as a ship laid from a start cell in a direction.
+     *
+     * @param shipSize the size of the ship.
+     * @param start the first cell of the ship.
+     * @param dir the direction the ship extends to.
+     * @return the id of the placement, or {@link #NONE} if the ship does not fit the board
+     *      or the composition has no ships of that size.
+     */
+    public int find(final int shipSize, final Position start, final CardinalDirection dir) {
+        if (!hasShipSize(shipSize)) {
+            return NONE;
+        }
+        final int reach = shipSize - 1;
+        int x = start.x();
+        int y = start.y();
+        if (dir == CardinalDirection.UP) {
+            x -= reach;
+        } else if (dir == CardinalDirection.LEFT) {
+            y -= reach;
+        }
+        final boolean horizontal = dir.getRowOffset() == 0;
+        final int fits = this.size - reach;
+        if (x < 0 || y < 0 || (horizontal ? x >= this.size || y >= fits : x >= fits || y >= this.size)) {
+            return NONE;
+        }
+        return horizontal
+                ? this.firstOfSize[shipSize] + x * fits + y
+                : this.firstOfSize[shipSize] + this.countOfSize[shipSize] / 2 + x * this.size + y;
+    }
+
+    /**
+     * @param id a placement id.
+     * @return the size of the ship of the placement.
+     */
+    public int getShipSize(final int id) {
+        return this.lengths[id];
+    }
+
+    /**
+     * @param id a placement id.
+     * @return the first cell of the placement.
+     */
+    public Position getStart(final int id) {
+        return Positions.fromIndex(this.origins[id], this.size);
+    }
+
+    /**
+     * @param id a placement id.
+     * @return {@link CardinalDirection#RIGHT} or {@link CardinalDirection#DOWN}.
+     */
+    public CardinalDirection getDirection(final int id) {
+        return this.steps[id] == 1 ? CardinalDirection.RIGHT : CardinalDirection.DOWN;
+    }
+
+    /**
+     * @param id a placement id.
+     * @param i the index of a cell of the ship, from 0 to its size excluded.
+     * @return the row-major index of the i-th cell covered by the placement.
+     */
+    public int cellOf(final int id, final int i) {
+        return this.origins[id] + i * this.steps[id];
+    }
+
+    /**
+     * @param cell the row-major index of a cell.
+     * @return the number of placements covering the cell.
+     */
+    public int getCoveringCount(final int cell) {
+        return this.coveringStart[cell + 1] - this.coveringStart[cell];
+    }
+
+    /**
+     * @param cell the row-major index of a cell.
+     * @param k the index of a covering placement, from 0 to {@link #getCoveringCount(int)} excluded.
+     * @return the id of the k-th placement covering the cell.
+     */
+    public int getCovering(final int cell, final int k) {
+        return this.covering[this.coveringStart[cell] + k];
+    }
+
+    /**
+     * @return a new empty cell bitset for the board, one bit per cell in row-major order.
+     */
+    public long[] newBitset() {
+        return new long[(this.size * this.size + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * @param bitset a cell bitset of the board.
+     * @param id a placement id.
+     * @return true if none of the cells of the placement is set in the bitset.
+     */
+    public boolean fits(final long[] bitset, final int id) {
+        for (int slot = this.maskStart[id]; slot < this.maskStart[id + 1]; slot++) {
+            if ((bitset[this.maskWords[slot]] & this.maskBits[slot]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the cells of a placement in a bitset.
+     *
+     * @param bitset a cell bitset of the board.
+     * @param id a placement id.
+     */
+    public void occupy(final long[] bitset, final int id) {
+        for (int slot = this.maskStart[id]; slot < this.maskStart[id + 1]; slot++) {
+            bitset[this.maskWords[slot]] |= this.maskBits[slot];
+        }
+    }
+
+    /**
+     * Sets a single cell in a bitset.
+     *
+     * @param bitset a cell bitset of the board.
+     * @param cell the row-major index of the cell.
+     */
+    public void occupyCell(final long[] bitset, final int cell) {
+        bitset[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Picks uniformly one of the placements of a ship size that fit among the occupied cells.
+     *
+     * @param occupied the cell bitset of the occupied cells.
+     * @param shipSize the size of the ship to place.
+     * @param random the source of randomness.
+     * @return the id of the chosen placement, or {@link #NONE} if no placement fits.
+     */
+    public int randomPlacement(final long[] occupied, final int shipSize, final RandomGenerator random) {
+        final int first = getFirstPlacement(shipSize);
+        final int end = first + getPlacementCount(shipSize);
+        int free = 0;
+        for (int id = first; id < end; id++) {
+            if (fits(occupied, id)) {
+                free++;
+            }
+        }
+        if (free == 0) {
+            return NONE;
+        }
+        int chosen = random.nextInt(free);
+        for (int id = first; id < end; id++) {
+            if (fits(occupied, id) && chosen-- == 0) {
+                return id;
+            }
+        }
+        return NONE;
+    }
+
+    private int shipSizeOf(final int id) {
+        int shipSize = 1;
+        while (shipSize < this.maxShipSize
+                && (this.countOfSize[shipSize] == 0 || id >= this.firstOfSize[shipSize] + this.countOfSize[shipSize])) {
+            shipSize++;
+        }
+        return shipSize;
+    }
+
+    private static void checkSize(final int size) {
+        if (!isSupported(size)) {
+            throw new IllegalArgumentException("Placement tables support boards from 1 to " + MAX_SIZE);
+        }
+    }
+
+    private record Key(int size, Map<Integer, Integer> composition) { }
+}
@@ -0,0 +1,169 @@
+package it.unibo.jnavy.model.grid;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import it.unibo.jnavy.model.ship.Ship;
+
+/**
+ * Per-grid registry of the ships placed on a board.
+ * Each ship receives a compact integer id (reused after the ship is removed) and the registry
+ * records the cells, as row-major indexes, that were assigned to it. This gives constant time
+ * lookups from a ship to its id and from an id to its footprint, without scanning the board.
+ * Ships are looked up by identity, so their {@code equals}/{@code hashCode} are never invoked;
+ * the identity index is not serialized, but rebuilt from the ships when the registry is read back.
+ */
+final class ShipRegistry implements Serializable {
+
+    /**
+     * The id reported for ships that are not registered.
+     */
+    static final int NO_SHIP = -1;
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_SLOTS = 8;
+    private static final int[] EMPTY = new int[0];
+
+    private transient Map<Ship, Integer> ids = new IdentityHashMap<>();
+    private Ship[] ships = new Ship[INITIAL_SLOTS];
+    private int[][] footprints = new int[INITIAL_SLOTS][];
+
+    /**
+     * Registers a ship, or returns its id if it is already registered.
+     *
+     * @param ship the ship to register.
+     * @return the id of the ship.
+     */
+    int register(final Ship ship) {
+        final Integer known = this.ids.get(ship);
+        if (known != null) {
+            return known;
+        }
+        int id = 0;
+        while (id < this.ships.length && this.ships[id] != null) {
+            id++;
+        }
+        if (id == this.ships.length) {
+            this.ships = Arrays.copyOf(this.ships, id * 2);
+            this.footprints = Arrays.copyOf(this.footprints, id * 2);
+        }
+        this.ships[id] = ship;
+        this.footprints[id] = EMPTY;
+        this.ids.put(ship, id);
+        return id;
+    }
+
+    /**
+     * Removes a ship from the registry, freeing its id.
+     *
+     * @param id the id of the ship.
+     */
+    void unregister(final int id) {
+        this.ids.remove(this.ships[id]);
+        this.ships[id] = null;
+        this.footprints[id] = null;
+    }
+
+    /**
+     * @param ship the ship to look up.
+     * @return the id of the ship, or {@link #NO_SHIP} if it is not registered.
+     */
+    int idOf(final Ship ship) {
+        final Integer id = this.ids.get(ship);
+        return id == null ? NO_SHIP : id;
+    }
+
+    /**
+     * @param id the id of a registered ship.
+     * @return the ship with the given id.
+     */
+    Ship shipOf(final int id) {
+        return this.ships[id];
+    }
+
+    /**
+     * @param id any id.
+     * @return the ship with the given id, or null if the id is not in use.
+     */
+    Ship find(final int id) {
+        return id >= 0 && id < this.ships.length ? this.ships[id] : null;
+    }
+
+    /**
+     * @return the number of id slots, some of which may be free.
+     */
+    int capacity() {
+        return this.ships.length;
+    }
+
+    /**
+     * @param id the id of a registered ship.
+     * @return the cells assigned to the ship. The returned array must not be modified.
+     */
+    int[] footprint(final int id) {
+        return this.footprints[id];
+    }
+
+    /**
+     * Copies the footprint of a ship into a buffer, as many cells as it can hold.
+     *
+     * @param id the id of a registered ship.
+     * @param cells the buffer receiving the row-major indexes of the cells.
+     * @return the number of cells of the ship.
+     */
+    int copyFootprint(final int id, final int[] cells) {
+        final int[] footprint = this.footprints[id];
+        System.arraycopy(footprint, 0, cells, 0, Math.min(footprint.length, cells.length));
+        return footprint.length;
+    }
+
+    /**
+     * Records the cells assigned to a ship, replacing its previous footprint.
+     *
+     * @param id the id of the ship.
+     * @param cells the row-major indexes of the cells.
+     */
+    void assign(final int id, final int[] cells) {
+        this.footprints[id] = cells.clone();
+    }
+
+    /**
+     * Adds a cell to the footprint of a ship.
+     *
+     * @param id the id of the ship.
+     * @param cell the row-major index of the cell.
+     */
+    void addCell(final int id, final int cell) {
+        final int[] old = this.footprints[id];
+        final int[] updated = Arrays.copyOf(old, old.length + 1);
+        updated[old.length] = cell;
+        this.footprints[id] = updated;
+    }
+
+    /**
+     * Removes a cell from the footprint of a ship.
+     *
+     * @param id the id of the ship.
+     * @param cell the row-major index of the cell.
+     */
+    void removeCell(final int id, final int cell) {
+        this.footprints[id] = Arrays.stream(this.footprints[id]).filter(c -> c != cell).toArray();
+    }
+
+    @java.io.Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.ids = new IdentityHashMap<>();
+        for (int id = 0; id < this.ships.length; id++) {
+            if (this.ships[id] != null) {
+                this.ids.put(this.ships[id], id);
+            }
+        }
+    }
+}
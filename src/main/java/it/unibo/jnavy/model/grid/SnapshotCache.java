@@ -0,0 +1,61 @@
+package it.unibo.jnavy.model.grid;
+
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import it.unibo.jnavy.model.ship.Ship;
+
+/**
+ * The last {@link GridSnapshot} taken of a live grid, together with the grid version it reflects.
+ * Mutations of the grid only bump its {@link ChangeLog}: the snapshot is brought up to date when it is
+ * asked for, by patching the cells changed since the previous one, so shooting never allocates
+ * and grids whose snapshot is never read pay nothing for it.
+ */
+final class SnapshotCache {
+
+    private final int size;
+    private GridSnapshot snapshot;
+    private long version;
+
+    /**
+     * Creates the cache of an empty grid.
+     *
+     * @param size the number of rows and columns of the grid.
+     */
+    SnapshotCache(final int size) {
+        this.size = size;
+        this.snapshot = GridSnapshot.empty(size);
+    }
+
+    /**
+     * Returns the snapshot of the grid in its current state, patching the cached one if the grid changed.
+     * If the change log no longer covers the cached version, the snapshot is rebuilt from every cell.
+     *
+     * @param changes the change log of the grid.
+     * @param shot tells whether the cell with a given row-major index has been shot.
+     * @param owner gives the id of the ship occupying the cell with a given row-major index, or {@link GridSnapshot#NO_SHIP}.
+     * @param registry the ships of the grid, read for their health and their cells.
+     * @return the up-to-date snapshot.
+     */
+    GridSnapshot get(final ChangeLog changes, final IntPredicate shot, final IntUnaryOperator owner,
+                     final ShipRegistry registry) {
+        final long current = changes.version();
+        if (current != this.version) {
+            final Optional<int[]> changed = changes.since(this.version);
+            GridSnapshot updated = changed.isPresent() ? this.snapshot : GridSnapshot.empty(this.size);
+            for (final int cell : changed.orElseGet(() -> IntStream.range(0, this.size * this.size).toArray())) {
+                updated = updated.withOwner(cell, owner.applyAsInt(cell)).withShotAt(cell, shot.test(cell));
+            }
+            for (int id = 0; id < registry.capacity(); id++) {
+                final Ship ship = registry.find(id);
+                updated = updated.withHealth(id, ship == null ? GridSnapshot.NO_SHIP : ship.getHealth())
+                        .withFootprint(id, ship == null ? null : registry.footprint(id));
+            }
+            this.snapshot = updated;
+            this.version = current;
+        }
+        return this.snapshot;
+    }
+}
@@ -0,0 +1,103 @@
+package it.unibo.jnavy.model.grid;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Live index of the cells of a grid that have not been shot yet.
+ * Cells are identified by their row-major index. The available cells are kept in a dense array,
+ * and a second array maps each cell to its slot in it, so that removing a cell (by swapping it with
+ * the last slot), adding it back and sampling a random one all take constant time.
+ */
+final class TargetIndex implements Serializable {
+
+    @java.io.Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int ABSENT = -1;
+
+    private final int[] targets;
+    private final int[] slots;
+    private int count;
+
+    /**
+     * Creates an index in which every cell of the grid is available.
+     *
+     * @param cells the total number of cells of the grid.
+     */
+    TargetIndex(final int cells) {
+        this.targets = new int[cells];
+        this.slots = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            this.targets[i] = i;
+            this.slots[i] = i;
+        }
+        this.count = cells;
+    }
+
+    /**
+     * Marks a cell as no longer available.
+     *
+     * @param cell the index of the cell.
+     */
+    void remove(final int cell) {
+        final int slot = this.slots[cell];
+        if (slot == ABSENT) {
+            return;
+        }
+        final int last = this.targets[--this.count];
+        this.targets[slot] = last;
+        this.slots[last] = slot;
+        this.slots[cell] = ABSENT;
+    }
+
+    /**
+     * Marks a cell as available again.
+     *
+     * @param cell the index of the cell.
+     */
+    void add(final int cell) {
+        if (this.slots[cell] != ABSENT) {
+            return;
+        }
+        this.targets[this.count] = cell;
+        this.slots[cell] = this.count++;
+    }
+
+    /**
+     * @param cell the index of the cell.
+     * @return true if the cell is available.
+     */
+    boolean contains(final int cell) {
+        return this.slots[cell] != ABSENT;
+    }
+
+    /**
+     * @return the number of available cells.
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * Picks a random available cell.
+     *
+     * @param random the generator used to pick the cell.
+     * @return the index of the chosen cell.
+     * @throws IllegalStateException if no cell is available.
+     */
+    int sample(final RandomGenerator random) {
+        if (this.count == 0) {
+            throw new IllegalStateException("No available targets left in the grid");
+        }
+        return this.targets[random.nextInt(this.count)];
+    }
+
+    /**
+     * @return a copy of the indexes of the available cells, in no particular order.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(this.targets, this.count);
+    }
+}
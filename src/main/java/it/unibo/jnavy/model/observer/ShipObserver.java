@@ -0,0 +1,29 @@
+package it.unibo.jnavy.model.observer;
+
+import java.io.Serializable;
+
+import it.unibo.jnavy.model.ship.Ship;
+
+/**
+ * An observer interface for tracking changes in the hull of a ship.
+ * The fleet owning a ship registers itself as its observer, so that it can keep
+ * its aggregate counters (ships alive, ships sunk, remaining hull points) up to date
+ * without scanning all of its ships.
+ */
+public interface ShipObserver extends Serializable {
+
+    /**
+     * Called by a ship right after it has been hit.
+     * The ship may have been sunk by this hit.
+     *
+     * @param ship the ship that was hit.
+     */
+    void onShipHit(Ship ship);
+
+    /**
+     * Called by a ship right after one of its damaged parts has been repaired.
+     *
+     * @param ship the ship that was repaired.
+     */
+    void onShipRepaired(Ship ship);
+}
@@ -2,17 +2,23 @@ package it.unibo.jnavy.model.player;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jnavy.model.bots.BotStrategy;
+import it.unibo.jnavy.model.bots.Deadline;
+import it.unibo.jnavy.model.captains.Captain;
 import it.unibo.jnavy.model.fleet.Fleet;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.Grids;
 import it.unibo.jnavy.model.shots.HitStrategy;
 import it.unibo.jnavy.model.shots.StandardShot;
 import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.weather.WeatherCondition;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 /**
  * Represents a computer-controlled player (Bot) in the game.
@@ -21,6 +27,7 @@ import it.unibo.jnavy.model.utilities.ShotResult;
  * The Bot manages its own {@link Fleet} and utilizes a {@link BotStrategy}
  * to determine its moves and target selection logic during the match.
  * It also listens to turn events to handle time-dependent logic.
+ * A bot may command a {@link Captain} too, whose ability is then used by the automated matches.
  */
 public final class Bot implements Player {
 
@@ -28,6 +35,7 @@ public final class Bot implements Player {
     private static final long serialVersionUID = 1L;
 
     private final Grid grid;
+    private final Captain captain;
     private BotStrategy strategy;
 
     /**
@@ -40,7 +48,41 @@ public final class Bot implements Player {
      * @param strategy The {@link BotStrategy} that defines the bot's behavior and difficulty.
      */
     public Bot(final BotStrategy strategy) {
-        this.grid = new GridImpl();
+        this(strategy, Grids.create(GridImpl.DEFAULT_SIZE));
+    }
+
+    /**
+     * Constructs a new Bot with a specific strategy, playing on the given grid.
+     *
+     * <p>
+     * This allows choosing a different {@link Grid} implementation, such as a
+     * {@link it.unibo.jnavy.model.grid.BitboardGrid} for the standard board.
+     *
+     * @param strategy The {@link BotStrategy} that defines the bot's behavior and difficulty.
+     * @param grid The empty {@link Grid} the bot's fleet will be placed on.
+     */
+    @SuppressFBWarnings(
+    value = "EI_EXPOSE_REP2",
+    justification = "The player owns the grid it is given, which is created empty for it by the caller."
+    )
+    public Bot(final BotStrategy strategy, final Grid grid) {
+        this(strategy, null, grid);
+    }
+
+    /**
+     * Constructs a new Bot with a specific strategy and captain, playing on the given grid.
+     *
+     * @param strategy The {@link BotStrategy} that defines the bot's behavior and difficulty.
+     * @param captain The {@link Captain} whose ability the bot may use, or null for none.
+     * @param grid The empty {@link Grid} the bot's fleet will be placed on.
+     */
+    @SuppressFBWarnings(
+    value = "EI_EXPOSE_REP2",
+    justification = "The player owns the grid and the captain it is given, which are created for it by the caller."
+    )
+    public Bot(final BotStrategy strategy, final Captain captain, final Grid grid) {
+        this.grid = grid;
+        this.captain = captain;
         this.strategy = strategy;
     }
 
@@ -61,11 +103,50 @@ public final class Bot implements Player {
      * For a Bot, this typically creates a standard shot at the specified target.
      */
     @Override
-    public List<ShotResult> createShot(final Position target, final Grid targetGrid) {
-        final HitStrategy shot = new StandardShot();
+    public List<ShotResult> createShot(final Position target, final Grid targetGrid, final WeatherManager weather) {
+        final HitStrategy shot = new StandardShot(weather);
         return shot.execute(target, targetGrid);
     }
 
+    /**
+     * {@inheritDoc}
+     * Recharges the ability of the captain, if the bot has one.
+     */
+    @Override
+    public void processTurnEnd() {
+        captain().ifPresent(Captain::processTurnEnd);
+    }
+
+    @Override
+    public boolean useAbility(final Position target, final Grid targetGrid) {
+        return captain().map(c -> c.useAbility(targetGrid, target)).orElse(false);
+    }
+
+    @Override
+    public int getAbilityCooldown() {
+        return captain().map(Captain::getCooldown).orElse(0);
+    }
+
+    @Override
+    public int getCurrentAbilityCooldown() {
+        return captain().map(Captain::getCurrentCooldown).orElse(0);
+    }
+
+    @Override
+    public boolean isAbilityReady() {
+        return captain().map(Captain::isAbilityRecharged).orElse(false);
+    }
+
+    @Override
+    public boolean abilityTargetsEnemyGrid() {
+        return captain().map(Captain::targetsEnemyGrid).orElse(false);
+    }
+
+    @Override
+    public boolean doesAbilityConsumeTurn() {
+        return captain().map(Captain::doesAbilityConsumeTurn).orElse(false);
+    }
+
     /**
      * Updates the Bot's current strategy.
      *
@@ -91,19 +172,54 @@ public final class Bot implements Player {
      */
     @Override
     public Optional<Position> generateTarget(final Grid enemyGrid) {
-        return Optional.ofNullable(this.strategy.selectTarget(enemyGrid));
+        final BotStrategy current = this.strategy;
+        synchronized (current) {
+            return Optional.ofNullable(current.selectTarget(enemyGrid));
+        }
+    }
+
+    /**
+     * Determines the next target position on a bot thread, within the given deadline.
+     * The strategy reads a snapshot of the enemy grid taken on the calling thread,
+     * so the grid can be changed as soon as the future completes.
+     *
+     * @param enemyGrid The opponent's {@link Grid}, used to analyze potential targets.
+     * @param deadline the instant by which the target is needed.
+     * @return The future target {@link Position}, empty if the strategy chose no valid target in time.
+     * @see BotStrategy#selectTargetAsync(it.unibo.jnavy.model.grid.GridView, Deadline)
+     */
+    @Override
+    public CompletableFuture<Optional<Position>> generateTargetAsync(final Grid enemyGrid, final Deadline deadline) {
+        return this.strategy.selectTargetAsync(enemyGrid.snapshot(), deadline).thenApply(Optional::ofNullable);
     }
 
     /**
      * Passes the result of the shot to the strategy so it can learn/update its state.
      * Crucial for advanced bots like ProBot and SniperBot.
+     * If a decision of the strategy that missed its deadline is still running, this waits for it to end.
      *
      * @param target the position targeted
      * @param result the outcome of the shot
      */
     @Override
     public void receiveFeedback(final Position target, final HitType result) {
-        this.strategy.lastShotFeedback(target, result);
+        final BotStrategy current = this.strategy;
+        synchronized (current) {
+            current.lastShotFeedback(target, result);
+        }
+    }
+
+    /**
+     * Passes the weather of the coming turn to the strategy.
+     *
+     * @param condition the current weather
+     */
+    @Override
+    public void receiveWeather(final WeatherCondition condition) {
+        final BotStrategy current = this.strategy;
+        synchronized (current) {
+            current.weatherUpdate(condition);
+        }
     }
 
     /**
@@ -113,4 +229,8 @@ public final class Bot implements Player {
     public String getProfileName() {
         return this.strategy.getStrategy();
     }
+
+    private Optional<Captain> captain() {
+        return Optional.ofNullable(this.captain);
+    }
 }
@@ -8,8 +8,10 @@ import it.unibo.jnavy.model.shots.HitStrategy;
 import it.unibo.jnavy.model.shots.StandardShot;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.Grids;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 /**
  * Represents a human player in the game.
@@ -31,7 +33,21 @@ public final class Human implements Player {
      * @param captain The {@link Captain} chosen by the player.
      */
     public Human(final Captain captain) {
-        this.grid = new GridImpl();
+        this(captain, Grids.create(GridImpl.DEFAULT_SIZE));
+    }
+
+    /**
+     * Constructs a new Human player with the selected captain, playing on the given grid.
+     *
+     * @param captain The {@link Captain} chosen by the player.
+     * @param grid The empty {@link Grid} the player's fleet will be placed on.
+     */
+    @SuppressFBWarnings(
+    value = "EI_EXPOSE_REP2",
+    justification = "The player owns the grid it is given, which is created empty for it by the caller."
+    )
+    public Human(final Captain captain, final Grid grid) {
+        this.grid = grid;
         this.captain = captain;
     }
 
@@ -52,8 +68,8 @@ public final class Human implements Player {
      * Applies weather effects to the shot before returning the result.
      */
     @Override
-    public List<ShotResult> createShot(final Position target, final Grid targetGrid) {
-        final HitStrategy shot = new StandardShot();
+    public List<ShotResult> createShot(final Position target, final Grid targetGrid, final WeatherManager weather) {
+        final HitStrategy shot = new StandardShot(weather);
         return shot.execute(target, targetGrid);
     }
 
@@ -94,6 +110,16 @@ public final class Human implements Player {
         return this.captain.getCurrentCooldown();
     }
 
+    /**
+     * Checks if the Captain's ability has recharged and can be used this turn.
+     *
+     * @return true if the ability is ready, false while it is still cooling down.
+     */
+    @Override
+    public boolean isAbilityReady() {
+        return this.captain.isAbilityRecharged();
+    }
+
     /**
      * Checks if the Captain's ability targets the enemy grid.
      *
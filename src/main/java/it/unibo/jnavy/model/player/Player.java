@@ -3,13 +3,17 @@ package it.unibo.jnavy.model.player;
 import java.io.Serial;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import it.unibo.jnavy.model.bots.Deadline;
 import it.unibo.jnavy.model.fleet.Fleet;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.observer.TurnObserver;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
 import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.weather.WeatherCondition;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 /**
  * Defines the contract for a participant in the game.
@@ -62,9 +66,10 @@ public interface Player extends TurnObserver {
      *
      * @param target The target {@link Position}.
      * @param targetGrid The grid {@link Grid}.
+     * @param weather The {@link WeatherManager} of the game, which may deflect the shot.
      * @return The {@link ShotResult} representing the list of generated shot outcomes.
      */
-    List<ShotResult> createShot(Position target, Grid targetGrid);
+    List<ShotResult> createShot(Position target, Grid targetGrid, WeatherManager weather);
 
     /**
      * {@inheritDoc}
@@ -112,6 +117,15 @@ public interface Player extends TurnObserver {
         return false;
     }
 
+    /**
+     * Checks whether the player has a special ability that is recharged and ready to be used.
+     *
+     * @return true if the ability can be used this turn, false otherwise or if the player has none.
+     */
+    default boolean isAbilityReady() {
+        return false;
+    }
+
     /**
      * Determines if using the special ability ends the player's current turn.
      *
@@ -132,6 +146,19 @@ public interface Player extends TurnObserver {
         return Optional.empty();
     }
 
+    /**
+     * Asks the player to generate a move without blocking the caller.
+     * The move is only chosen, not played: the caller applies it to the enemy grid on its own thread.
+     *
+     * @param enemyGrid The opponent's {@link Grid} used for targeting logic.
+     * @param deadline the instant by which the move is needed.
+     * @return a future {@link Optional} containing the {@link Position} if the player is a Bot and chose
+     *      a valid target in time, otherwise an {@link Optional#empty()}.
+     */
+    default CompletableFuture<Optional<Position>> generateTargetAsync(final Grid enemyGrid, final Deadline deadline) {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
     /**
      * Sends feedback to the player about the result of the last shot.
      *
@@ -140,6 +167,13 @@ public interface Player extends TurnObserver {
      */
     default void receiveFeedback(final Position target, final HitType result) { }
 
+    /**
+     * Informs the player about the weather of the coming turn.
+     *
+     * @param condition the current {@link WeatherCondition}.
+     */
+    default void receiveWeather(final WeatherCondition condition) { }
+
     /**
      * Retrieves the identification name of the player's profile.
      *
@@ -2,6 +2,7 @@ package it.unibo.jnavy.model.serialization;
 
 import it.unibo.jnavy.model.player.Player;
 import it.unibo.jnavy.model.weather.WeatherCondition;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 import java.io.Serializable;
 
@@ -9,17 +10,17 @@ import java.io.Serializable;
  * Represents the serializable state of a game session.
  * This class acts as a data carrier that captures all necessary information
  * to save and subsequently restore a match, including players' status,
- * turn progress, and environmental conditions.
+ * turn progress, and the weather manager of the match, which resumes its cycle where it was.
  */
 public final class GameState implements Serializable {
     @java.io.Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private final Player human;
     private final Player bot;
     private final int turnCounter;
     private final boolean isHumanTurn;
-    private final WeatherCondition weatherCondition;
+    private final WeatherManager weather;
 
     /**
      * Constructs a new GameState with the specified game parameters.
@@ -27,15 +28,15 @@ public final class GameState implements Serializable {
      * @param human the human player instance.
      * @param bot the bot player instance.
      * @param turnCounter the current value of the turn counter.
-     * @param weatherCondition the current weather condition affecting the game.
+     * @param weather the weather manager of the game.
      * @param isHumanTurn true if the game state is saved during the human player's turn.
      */
     public GameState(final Player human, final Player bot, final int turnCounter,
-                     final WeatherCondition weatherCondition, final boolean isHumanTurn) {
+                     final WeatherManager weather, final boolean isHumanTurn) {
         this.human = human;
         this.bot = bot;
         this.turnCounter = turnCounter;
-        this.weatherCondition = weatherCondition;
+        this.weather = weather;
         this.isHumanTurn = isHumanTurn;
     }
 
@@ -66,13 +67,22 @@ public final class GameState implements Serializable {
         return turnCounter;
     }
 
+    /**
+     * Retrieves the weather manager of the game, with the condition and the turns left before it changes.
+     *
+     * @return the weather manager.
+     */
+    public WeatherManager getWeather() {
+        return weather;
+    }
+
     /**
      * Retrieves the weather condition active during this game state.
      *
      * @return the weather condition.
      */
     public WeatherCondition getWeatherCondition() {
-        return weatherCondition;
+        return weather.getCurrentWeather();
     }
 
     /**
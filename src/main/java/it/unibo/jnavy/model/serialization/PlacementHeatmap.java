@@ -0,0 +1,35 @@
+package it.unibo.jnavy.model.serialization;
+
+import java.util.List;
+import java.util.Optional;
+
+import it.unibo.jnavy.model.utilities.Position;
+
+/**
+ * Persistent statistics of where the human player places the fleet, kept for one board size
+ * across games so that bots can start each game from a learned prior instead of a uniform one.
+ * Older games weigh less and less, so the heatmap follows a player who changes habits.
+ */
+public interface PlacementHeatmap {
+
+    /**
+     * @return the number of rows and columns of the boards described by this heatmap.
+     */
+    int getSize();
+
+    /**
+     * Adds the fleet placement of a new game to the heatmap, after decaying the previous games.
+     *
+     * @param occupied the positions occupied by the ships of the human player.
+     */
+    void record(List<Position> occupied);
+
+    /**
+     * Returns how much more often than average each cell hosted a ship in the recorded games.
+     * The weights are smoothed towards 1, so a few games only tilt them slightly.
+     *
+     * @return the weight of each cell in row-major order, with mean 1,
+     *         or an empty Optional if no game has been recorded yet.
+     */
+    Optional<double[]> weights();
+}
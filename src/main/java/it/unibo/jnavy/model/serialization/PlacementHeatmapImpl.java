@@ -0,0 +1,149 @@
+package it.unibo.jnavy.model.serialization;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.jnavy.model.utilities.Position;
+
+/**
+ * Implementation of the {@link PlacementHeatmap} interface backed by a small memory-mapped file per board size.
+ * The file holds a header (magic number, board size and decayed number of games) followed by
+ * the decayed number of games in which each cell was occupied, as floats in row-major order.
+ * Reads and updates go straight through the mapping, so loading the prior costs no parsing
+ * and recording a game only touches the pages of the board, which the operating system writes back lazily.
+ * A missing, truncated or foreign file is reset to an empty heatmap; I/O errors are logged
+ * and leave the bots without a prior, as if no game had been recorded.
+ */
+public final class PlacementHeatmapImpl implements PlacementHeatmap {
+
+    /**
+     * The factor by which the weight of every recorded game is multiplied when a new one is recorded.
+     */
+    public static final float DECAY = 0.9f;
+
+    private static final String FILE_PREFIX = "placement_heatmap_";
+    private static final String FILE_SUFFIX = ".dat";
+    private static final int MAGIC = 0x4A4E484D;
+    private static final int SIZE_OFFSET = Integer.BYTES;
+    private static final int GAMES_OFFSET = SIZE_OFFSET + Integer.BYTES;
+    private static final int HEADER_BYTES = GAMES_OFFSET + Float.BYTES;
+    private static final double PSEUDO_GAMES = 10;
+    private static final Logger LOGGER = Logger.getLogger(PlacementHeatmapImpl.class.getName());
+
+    private final int size;
+    private final Path file;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Creates the heatmap of the given board size, stored in the working directory.
+     *
+     * @param size the number of rows and columns of the board.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public PlacementHeatmapImpl(final int size) {
+        this(size, Path.of(""));
+    }
+
+    /**
+     * Creates the heatmap of the given board size, stored in the given directory.
+     *
+     * @param size the number of rows and columns of the board.
+     * @param directory the directory of the heatmap file.
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public PlacementHeatmapImpl(final int size, final Path directory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Board size must be positive: " + size);
+        }
+        this.size = size;
+        this.file = directory.resolve(FILE_PREFIX + size + FILE_SUFFIX);
+    }
+
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    @Override
+    public void record(final List<Position> occupied) {
+        final Optional<MappedByteBuffer> mapped = map();
+        if (mapped.isEmpty()) {
+            return;
+        }
+        final MappedByteBuffer map = mapped.get();
+        final int cells = this.size * this.size;
+        for (int cell = 0; cell < cells; cell++) {
+            map.putFloat(offset(cell), map.getFloat(offset(cell)) * DECAY);
+        }
+        for (final Position p : occupied) {
+            if (p.x() >= 0 && p.x() < this.size && p.y() >= 0 && p.y() < this.size) {
+                final int cell = p.index(this.size);
+                map.putFloat(offset(cell), map.getFloat(offset(cell)) + 1);
+            }
+        }
+        map.putFloat(GAMES_OFFSET, map.getFloat(GAMES_OFFSET) * DECAY + 1);
+    }
+
+    @Override
+    public Optional<double[]> weights() {
+        return map().flatMap(map -> {
+            final double games = map.getFloat(GAMES_OFFSET);
+            final int cells = this.size * this.size;
+            double total = 0;
+            for (int cell = 0; cell < cells; cell++) {
+                total += map.getFloat(offset(cell));
+            }
+            if (games <= 0 || total <= 0) {
+                return Optional.empty();
+            }
+            final double mean = total / (cells * games);
+            final double[] weights = new double[cells];
+            for (int cell = 0; cell < cells; cell++) {
+                weights[cell] = (map.getFloat(offset(cell)) + PSEUDO_GAMES * mean) / ((games + PSEUDO_GAMES) * mean);
+            }
+            return Optional.of(weights);
+        });
+    }
+
+    private static int offset(final int cell) {
+        return HEADER_BYTES + cell * Float.BYTES;
+    }
+
+    /**
+     * Maps the heatmap file on first use, resetting it if it does not describe a board of this size.
+     *
+     * @return the mapped file, or an empty Optional if it cannot be opened.
+     */
+    private Optional<MappedByteBuffer> map() {
+        if (this.buffer == null) {
+            final int bytes = offset(this.size * this.size);
+            try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final boolean valid = channel.size() == bytes;
+                if (channel.size() > bytes) {
+                    channel.truncate(bytes);
+                }
+                final MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                if (!valid || map.getInt(0) != MAGIC || map.getInt(SIZE_OFFSET) != this.size) {
+                    for (int i = 0; i < bytes; i += Integer.BYTES) {
+                        map.putInt(i, 0);
+                    }
+                    map.putInt(0, MAGIC);
+                    map.putInt(SIZE_OFFSET, this.size);
+                }
+                this.buffer = map;
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to open the placement heatmap " + this.file, e);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(this.buffer);
+    }
+}
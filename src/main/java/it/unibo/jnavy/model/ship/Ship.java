@@ -3,6 +3,8 @@ package it.unibo.jnavy.model.ship;
 import java.io.Serial;
 import java.io.Serializable;
 
+import it.unibo.jnavy.model.observer.ShipObserver;
+
 /**
  * Represents a ship entity in the game.
  * It defines the basic behavior of a ship, such as taking damage and checking its status.
@@ -50,4 +52,12 @@ public interface Ship extends Serializable {
      * @return true if the ship was actually repaired.
      */
     boolean repair();
+
+    /**
+     * Sets the observer notified whenever this ship is hit or repaired.
+     * A ship belongs to at most one fleet, so it keeps a single observer.
+     *
+     * @param observer the observer to notify, or null to stop notifying.
+     */
+    void setObserver(ShipObserver observer);
 }
@@ -3,6 +3,8 @@ package it.unibo.jnavy.model.ship;
 import java.util.Objects;
 import java.util.UUID;
 
+import it.unibo.jnavy.model.observer.ShipObserver;
+
 /**
  * Concrete implementation of the Ship interface.
  */
@@ -12,11 +14,13 @@ public final class ShipImpl implements Ship {
     private static final int MAX_SIZE = 5;
 
     @java.io.Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private final UUID id;
+    private final int hash;
     private final int size;
     private int health;
+    private ShipObserver observer;
 
     /**
      * Creates a new Ship with the specified size.
@@ -29,6 +33,7 @@ public final class ShipImpl implements Ship {
             throw new IllegalArgumentException("Ship size must be between " + MIN_SIZE + " and " + MAX_SIZE);
         }
         this.id = UUID.randomUUID();
+        this.hash = Objects.hash(this.id);
         this.size = size;
         this.health = size;
     }
@@ -39,6 +44,9 @@ public final class ShipImpl implements Ship {
             throw new IllegalStateException("Cannot hit a ship that is already sunk.");
         }
         this.health--;
+        if (this.observer != null) {
+            this.observer.onShipHit(this);
+        }
         return isSunk();
     }
 
@@ -61,11 +69,19 @@ public final class ShipImpl implements Ship {
     public boolean repair() {
         if (this.health < this.size && !isSunk()) {
             this.health++;
+            if (this.observer != null) {
+                this.observer.onShipRepaired(this);
+            }
             return true;
         }
         return false;
     }
 
+    @Override
+    public void setObserver(final ShipObserver observer) {
+        this.observer = observer;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -75,11 +91,11 @@ public final class ShipImpl implements Ship {
             return false;
         }
         final ShipImpl ship = (ShipImpl) o;
-        return id.equals(ship.id);
+        return this.hash == ship.hash && id.equals(ship.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return this.hash;
     }
 }
@@ -1,14 +1,13 @@
 package it.unibo.jnavy.model.shots;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.utilities.Position;
-import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 import it.unibo.jnavy.model.weather.WeatherCondition;
-import it.unibo.jnavy.model.weather.WeatherManagerImpl;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 /**
  * Represents an area attack strategy.
@@ -16,48 +15,54 @@ import java.util.Random;
  */
 public final class AreaShot implements HitStrategy {
 
-    private static final Random RANDOM = new Random();
+    private static final int AREA_CELLS = 4;
+
+    private final WeatherManager weather;
+    private final RandomSource random;
 
-    private final boolean ignoreWeather;
+    /**
+     * Constructs an AreaShot hit whose precision is not affected by the weather.
+     */
+    public AreaShot() {
+        this(null, null);
+    }
 
     /**
-     * Constructs an AreaShot hit.
+     * Constructs an AreaShot hit that fog may move by one cell, as decided by the given source.
      *
-     * @param ignoreWeather if true, weather conditions won't affect the shot's precision.
+     * @param weather the weather manager of the game, or null to ignore the weather.
+     * @param random the source of randomness of the shot.
      */
-    public AreaShot(final boolean ignoreWeather) {
-        this.ignoreWeather = ignoreWeather;
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The shot must read the live weather of its game."
+    )
+    public AreaShot(final WeatherManager weather, final RandomSource random) {
+        this.weather = weather;
+        this.random = random;
     }
 
     @Override
-    public List<ShotResult> execute(final Position target, final Grid grid) {
-        final List<ShotResult> results = new ArrayList<>();
-        Position effectiveTarget = target;
-        if (!ignoreWeather && WeatherManagerImpl.getInstance().getCurrentWeather() == WeatherCondition.FOG) {
-            final int offsetX = RANDOM.nextInt(3) - 1;
-            final int offsetY = RANDOM.nextInt(3) - 1;
-            final Position candidate = new Position(target.x() + offsetX, target.y() + offsetY);
-
-            if (grid.isPositionValid(candidate)) {
-                effectiveTarget = candidate;
+    public void execute(final Position target, final Grid grid, final ShotResultSink sink) {
+        int x = target.x();
+        int y = target.y();
+        if (this.weather != null && this.weather.getCurrentWeather() == WeatherCondition.FOG) {
+            final int offsetX = this.random.nextInt(3) - 1;
+            final int offsetY = this.random.nextInt(3) - 1;
+
+            if (grid.isPositionValid(Positions.of(x + offsetX, y + offsetY))) {
+                x += offsetX;
+                y += offsetY;
             }
         }
 
-        final int vetX = (effectiveTarget.x() == grid.getSize() - 1) ? -1 : 1;
-        final int vetY = (effectiveTarget.y() == grid.getSize() - 1) ? -1 : 1;
+        final int vetX = (x == grid.getSize() - 1) ? -1 : 1;
+        final int vetY = (y == grid.getSize() - 1) ? -1 : 1;
 
-        final List<Position> targets = List.of(
-                effectiveTarget,
-                new Position(effectiveTarget.x() + vetX, effectiveTarget.y()),
-                new Position(effectiveTarget.x(), effectiveTarget.y() + vetY),
-                new Position(effectiveTarget.x() + vetX, effectiveTarget.y() + vetY)
-        );
-
-        for (final Position pos : targets) {
-            if (grid.isTargetValid(pos)) {
-                results.add(grid.receiveShot(pos));
-            }
+        final int[] footprint = new int[AREA_CELLS];
+        for (int i = 0; i < AREA_CELLS; i++) {
+            footprint[i] = ShotResultSink.pack(x + (i % 2) * vetX, y + (i / 2) * vetY);
         }
-        return results;
+        grid.receiveShots(footprint, sink);
     }
 }
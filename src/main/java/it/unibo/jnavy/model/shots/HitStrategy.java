@@ -3,6 +3,8 @@ package it.unibo.jnavy.model.shots;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultBuffer;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
 import java.util.List;
 
@@ -21,6 +23,22 @@ public interface HitStrategy {
      * @param target The central coordinate aimed by the player.
      * @param grid The grid where the shot effects are applied.
      * @return A list of {@link ShotResult}, representing the outcome for each cell affected.
+     *      This is an adapter over {@link #execute(Position, Grid, ShotResultSink)}.
      */
-    List<ShotResult> execute(Position target, Grid grid);
+    default List<ShotResult> execute(final Position target, final Grid grid) {
+        final ShotResultBuffer buffer = new ShotResultBuffer();
+        execute(target, grid, buffer);
+        return buffer.toResults(grid);
+    }
+
+    /**
+     * Executes the shot logic on the provided grid, writing the outcome for each cell affected
+     * into a caller-supplied sink. Callers resolving many shots (e.g., headless simulations)
+     * can reuse a single {@link ShotResultBuffer} so that no result object is allocated.
+     *
+     * @param target The central coordinate aimed by the player.
+     * @param grid The grid where the shot effects are applied.
+     * @param sink The receiver of the outcomes.
+     */
+    void execute(Position target, Grid grid, ShotResultSink sink);
 }
@@ -3,19 +3,42 @@ package it.unibo.jnavy.model.shots;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
-import it.unibo.jnavy.model.weather.WeatherManagerImpl;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
+import it.unibo.jnavy.model.weather.WeatherManager;
 
 import java.util.List;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * Represents a standard attack that hits a single cell.
  * This is the default shot strategy.
  */
 public final class StandardShot implements HitStrategy {
 
+    private final WeatherManager weather;
+
+    /**
+     * Constructs a standard shot subject to the weather of its game.
+     *
+     * @param weather the weather manager of the game.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The shot must read and advance the live weather of its game."
+    )
+    public StandardShot(final WeatherManager weather) {
+        this.weather = weather;
+    }
+
     @Override
     public List<ShotResult> execute(final Position target, final Grid grid) {
-        final ShotResult result = WeatherManagerImpl.getInstance().applyWeatherEffects(target, grid);
+        final ShotResult result = this.weather.applyWeatherEffects(target, grid);
         return List.of(result);
     }
+
+    @Override
+    public void execute(final Position target, final Grid grid, final ShotResultSink sink) {
+        this.weather.applyWeatherEffects(target, grid, sink);
+    }
 }
@@ -10,4 +10,14 @@ import java.io.Serializable;
  * @param y the horizontal coordinate (represents the column index in the grid matrix).
  */
 public record Position(int x, int y) implements Serializable {
+
+    /**
+     * Computes the row-major index of this position on a square board.
+     *
+     * @param size the number of rows and columns of the board.
+     * @return the index of this position, {@code x * size + y}.
+     */
+    public int index(final int size) {
+        return this.x * size + this.y;
+    }
 }
@@ -0,0 +1,75 @@
+package it.unibo.jnavy.model.utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory of canonical {@link Position} instances.
+ * Positions of boards up to {@link #CACHED_SIZE} cells per side are created once, lazily,
+ * and then shared, so that hot paths (shots, scans, bots, grid refreshes) do not allocate.
+ * Per-board-size tables map a row-major cell index straight to its position.
+ * Coordinates outside the cached range still work, they simply get a fresh instance.
+ */
+public final class Positions {
+
+    /**
+     * The largest board side whose positions are cached.
+     */
+    public static final int CACHED_SIZE = 64;
+
+    private static final Map<Integer, Position[]> TABLES = new ConcurrentHashMap<>();
+
+    private Positions() {
+        // Utility classes should not be instantiated.
+    }
+
+    /**
+     * Retrieves the position with the given coordinates.
+     *
+     * @param x the row index.
+     * @param y the column index.
+     * @return the canonical position if the coordinates are in the cached range, a new one otherwise.
+     */
+    public static Position of(final int x, final int y) {
+        if (x >= 0 && x < CACHED_SIZE && y >= 0 && y < CACHED_SIZE) {
+            return Shared.POSITIONS[x * CACHED_SIZE + y];
+        }
+        return new Position(x, y);
+    }
+
+    /**
+     * Retrieves the position of a cell given its row-major index on a board of the given size.
+     *
+     * @param index the row-major index of the cell, as returned by {@link Position#index(int)}.
+     * @param size the number of rows and columns of the board.
+     * @return the position of the cell.
+     */
+    public static Position fromIndex(final int index, final int size) {
+        if (size > CACHED_SIZE) {
+            return new Position(index / size, index % size);
+        }
+        return TABLES.computeIfAbsent(size, Positions::buildTable)[index];
+    }
+
+    private static Position[] buildTable(final int size) {
+        final Position[] table = new Position[size * size];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = of(i / size, i % size);
+        }
+        return table;
+    }
+
+    /**
+     * Holder of the shared positions, built on first use.
+     */
+    private static final class Shared {
+
+        private static final Position[] POSITIONS = new Position[CACHED_SIZE * CACHED_SIZE];
+
+        static {
+            for (int i = 0; i < POSITIONS.length; i++) {
+                POSITIONS[i] = new Position(i / CACHED_SIZE, i % CACHED_SIZE);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package it.unibo.jnavy.model.utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import it.unibo.jnavy.model.grid.Grid;
+
+/**
+ * Reusable {@link ShotResultSink} that stores the outcomes it receives in primitive arrays.
+ * A caller can keep one buffer per match and {@link #clear()} it before each shot,
+ * so that resolving a shot does not allocate once the arrays have grown to the largest pattern.
+ */
+public final class ShotResultBuffer implements ShotResultSink {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final HitType[] HIT_TYPES = HitType.values();
+
+    private byte[] hitTypes = new byte[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] shipIds = new int[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void accept(final HitType hitType, final int packedPosition, final int shipId) {
+        if (this.size == this.positions.length) {
+            this.hitTypes = Arrays.copyOf(this.hitTypes, this.size * 2);
+            this.positions = Arrays.copyOf(this.positions, this.size * 2);
+            this.shipIds = Arrays.copyOf(this.shipIds, this.size * 2);
+        }
+        this.hitTypes[this.size] = (byte) hitType.ordinal();
+        this.positions[this.size] = packedPosition;
+        this.shipIds[this.size] = shipId;
+        this.size++;
+    }
+
+    /**
+     * Discards the stored outcomes, keeping the allocated arrays.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * @return the number of stored outcomes.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param i the index of the outcome.
+     * @return the hit type of the outcome.
+     */
+    public HitType hitType(final int i) {
+        return HIT_TYPES[this.hitTypes[checkIndex(i)]];
+    }
+
+    /**
+     * @param i the index of the outcome.
+     * @return the packed position of the outcome.
+     */
+    public int packedPosition(final int i) {
+        return this.positions[checkIndex(i)];
+    }
+
+    /**
+     * @param i the index of the outcome.
+     * @return the id of the ship involved in the outcome, or {@link ShotResultSink#NO_SHIP}.
+     */
+    public int shipId(final int i) {
+        return this.shipIds[checkIndex(i)];
+    }
+
+    /**
+     * @param i the index of the outcome.
+     * @return the position of the outcome.
+     */
+    public Position position(final int i) {
+        final int packed = packedPosition(i);
+        return Positions.of(ShotResultSink.unpackX(packed), ShotResultSink.unpackY(packed));
+    }
+
+    /**
+     * Converts the stored outcomes to the object-based representation.
+     *
+     * @param grid the grid the shots were fired at, used to resolve the ids of sunk ships.
+     * @return the list of {@link ShotResult}, in the order they were received.
+     */
+    public List<ShotResult> toResults(final Grid grid) {
+        final List<ShotResult> results = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            final HitType type = hitType(i);
+            if (type == HitType.SUNK) {
+                results.add(ShotResult.sunk(position(i), grid.getShipById(this.shipIds[i]).orElseThrow()));
+            } else {
+                results.add(new ShotResult(type, position(i), Optional.empty()));
+            }
+        }
+        return results;
+    }
+
+    private int checkIndex(final int i) {
+        if (i < 0 || i >= this.size) {
+            throw new IndexOutOfBoundsException("No shot result at index " + i);
+        }
+        return i;
+    }
+}
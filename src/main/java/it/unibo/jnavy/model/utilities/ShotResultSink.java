@@ -0,0 +1,61 @@
+package it.unibo.jnavy.model.utilities;
+
+/**
+ * Receiver of shot outcomes written by the allocation-free shot path
+ * (see {@link it.unibo.jnavy.model.grid.Grid#receiveShot(Position, ShotResultSink)}).
+ * Instead of building a {@link ShotResult} per cell, each outcome is passed as primitives:
+ * the hit type, the position packed into a single int and the id the grid gave to the ship involved.
+ */
+@FunctionalInterface
+public interface ShotResultSink {
+
+    /**
+     * The ship id reported when no ship is involved in the outcome.
+     */
+    int NO_SHIP = -1;
+
+    /**
+     * A sink that discards every outcome, for callers only interested in the effects on the grid.
+     */
+    ShotResultSink DISCARD = (hitType, packedPosition, shipId) -> { };
+
+    /**
+     * Receives the outcome of a shot on a single cell.
+     *
+     * @param hitType the outcome of the shot.
+     * @param packedPosition the position of the cell, as returned by {@link #pack(int, int)}.
+     * @param shipId the id of the ship hit or sunk in the target grid, or {@link #NO_SHIP}.
+     */
+    void accept(HitType hitType, int packedPosition, int shipId);
+
+    /**
+     * Packs a pair of coordinates into a single int (16 bits each).
+     * Each coordinate is kept as a signed 16-bit value, from {@link Short#MIN_VALUE} to {@link Short#MAX_VALUE}:
+     * this covers every cell of the largest grid, {@link it.unibo.jnavy.model.grid.GridImpl#MAX_SIZE},
+     * and the off-board cells just before its edges. A coordinate past {@link Short#MAX_VALUE}
+     * wraps to a negative one, which is still off the board.
+     *
+     * @param x the row index.
+     * @param y the column index.
+     * @return the packed position.
+     */
+    static int pack(final int x, final int y) {
+        return x << 16 | (y & 0xFFFF);
+    }
+
+    /**
+     * @param packedPosition a position returned by {@link #pack(int, int)}.
+     * @return the row index of the position.
+     */
+    static int unpackX(final int packedPosition) {
+        return packedPosition >> 16;
+    }
+
+    /**
+     * @param packedPosition a position returned by {@link #pack(int, int)}.
+     * @return the column index of the position.
+     */
+    static int unpackY(final int packedPosition) {
+        return (short) packedPosition;
+    }
+}
@@ -0,0 +1,140 @@
+package it.unibo.jnavy.model.weather;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Precomputed model of the deviation applied to shots in {@link WeatherCondition#FOG}:
+ * as {@link WeatherManagerImpl} does, a shot lands on a uniformly random cell, among those still
+ * open to shots, of the 3x3 neighbourhood of the aimed cell clipped to the board.
+ * For every cell of a square board the kernel stores its neighbourhood as row-major indexes,
+ * so that convolving a probability map with the deviation costs at most nine reads per cell.
+ * Kernels are immutable, built lazily on first use and shared by the whole JVM.
+ */
+public final class FogKernel {
+
+    /**
+     * The largest board size for which a kernel can be built.
+     */
+    public static final int MAX_SIZE = 64;
+
+    /**
+     * The value returned when no cell can be aimed at.
+     */
+    public static final int NONE = -1;
+
+    private static final int NEIGHBOURHOOD = 9;
+    private static final AtomicReferenceArray<FogKernel> KERNELS = new AtomicReferenceArray<>(MAX_SIZE + 1);
+
+    private final int size;
+    private final int[] start;
+    private final int[] neighbours;
+
+    private FogKernel(final int size) {
+        this.size = size;
+        this.start = new int[size * size + 1];
+        final int[] buffer = new int[size * size * NEIGHBOURHOOD];
+        int n = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                this.start[x * size + y] = n;
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        if (x + dx >= 0 && x + dx < size && y + dy >= 0 && y + dy < size) {
+                            buffer[n++] = (x + dx) * size + y + dy;
+                        }
+                    }
+                }
+            }
+        }
+        this.start[size * size] = n;
+        this.neighbours = Arrays.copyOf(buffer, n);
+    }
+
+    /**
+     * @param size the number of rows and columns of a board.
+     * @return true if a kernel can be built for boards of that size.
+     */
+    public static boolean isSupported(final int size) {
+        return size >= 1 && size <= MAX_SIZE;
+    }
+
+    /**
+     * Returns the shared kernel for boards of the given size.
+     *
+     * @param size the number of rows and columns of the board.
+     * @return the kernel of that size.
+     * @throws IllegalArgumentException if the size is not supported.
+     */
+    public static FogKernel of(final int size) {
+        if (!isSupported(size)) {
+            throw new IllegalArgumentException("Unsupported board size: " + size);
+        }
+        final FogKernel cached = KERNELS.get(size);
+        if (cached != null) {
+            return cached;
+        }
+        final FogKernel built = new FogKernel(size);
+        return KERNELS.compareAndSet(size, null, built) ? built : KERNELS.get(size);
+    }
+
+    /**
+     * @return the number of rows and columns of the board.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @param cell the row-major index of the aimed cell.
+     * @return the number of cells of its neighbourhood, itself included.
+     */
+    public int getNeighbourCount(final int cell) {
+        return this.start[cell + 1] - this.start[cell];
+    }
+
+    /**
+     * @param cell the row-major index of the aimed cell.
+     * @param k the index of the neighbour, from 0 to {@link #getNeighbourCount(int)} excluded.
+     * @return the row-major index of the neighbour.
+     */
+    public int getNeighbour(final int cell, final int k) {
+        return this.neighbours[this.start[cell] + k];
+    }
+
+    /**
+     * Finds the open cell to aim at in the fog so that the shot, once deviated,
+     * collects the largest expected weight: for each aim, the mean weight of the open cells
+     * of its neighbourhood, which is where the shot may land with equal probability.
+     *
+     * @param weight the weight of each cell, typically how likely it hides a ship.
+     * @param open tells whether a cell can still be shot.
+     * @return the row-major index of the best aim, or {@link #NONE} if no cell is open.
+     */
+    public int bestAim(final IntToLongFunction weight, final IntPredicate open) {
+        int best = NONE;
+        long bestSum = 0;
+        int bestCount = 1;
+        for (int aim = 0; aim < this.size * this.size; aim++) {
+            if (!open.test(aim)) {
+                continue;
+            }
+            long sum = 0;
+            int count = 0;
+            for (int k = this.start[aim]; k < this.start[aim + 1]; k++) {
+                if (open.test(this.neighbours[k])) {
+                    sum += weight.applyAsLong(this.neighbours[k]);
+                    count++;
+                }
+            }
+            if (best == NONE || sum * bestCount > bestSum * count) {
+                best = aim;
+                bestSum = sum;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+}
@@ -4,6 +4,7 @@ import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.observer.TurnObserver;
 import it.unibo.jnavy.model.utilities.Position;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
 /**
  * The manager responsible for handling the dynamic weather system.
@@ -33,6 +34,16 @@ public interface WeatherManager extends TurnObserver {
      */
     ShotResult applyWeatherEffects(Position target, Grid grid);
 
+    /**
+     * Applies the weather interference to a shot like {@link #applyWeatherEffects(Position, Grid)},
+     * writing the outcome into a sink instead of building a {@link ShotResult}.
+     *
+     * @param target The original position aimed by the player.
+     * @param grid The grid where the shot effects are applied.
+     * @param sink The receiver of the outcome.
+     */
+    void applyWeatherEffects(Position target, Grid grid, ShotResultSink sink);
+
     /**
      * Forces a specific weather condition.
      * Useful for testing and for loading saved games.
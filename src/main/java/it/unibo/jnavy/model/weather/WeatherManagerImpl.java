@@ -2,32 +2,27 @@ package it.unibo.jnavy.model.weather;
 
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
+import it.unibo.jnavy.model.utilities.RandomSource;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import java.io.ObjectStreamException;
-
 /**
- * Concrete implementation of the {@link WeatherManager} using the Singleton Pattern.
+ * Concrete implementation of the {@link WeatherManager}.
+ * Every game owns its own instance, which is saved along with the game state,
+ * so that any number of games can run side by side in the same process.
  * This class handles the logic for random weather transitions based on turn counters.
  * It determines:
  *    - When the weather changes (based on a fixed duration).
  *    - The alternating cycle between {@link WeatherCondition#SUNNY} and {@link WeatherCondition#FOG}.
  *    - The calculation of coordinate deviation when shooting in bad weather.
  */
-@SuppressFBWarnings(
-    value = "SING_SINGLETON_IMPLEMENTS_SERIALIZABLE",
-    justification = "The class correctly implements readResolve() to maintain Singleton uniqueness during serialization."
-)
 public final class WeatherManagerImpl implements WeatherManager {
 
-    private static WeatherManagerImpl instance;
     private static final int WEATHER_DURATION = 6;
 
     @java.io.Serial
@@ -35,53 +30,29 @@ public final class WeatherManagerImpl implements WeatherManager {
 
     private WeatherCondition condition;
     private final AtomicInteger turnCounter = new AtomicInteger(0);
-    private Random random;
+    private final RandomSource random;
 
     /**
-     * Initializes the weather manager.
+     * Initializes the weather manager of a new game with a source of randomness of its own.
      * Starts with {@link WeatherCondition#SUNNY} and a turn counter of 0.
      */
-    private WeatherManagerImpl() {
-        this.reset();
+    public WeatherManagerImpl() {
+        this(RandomSource.create());
     }
 
     /**
-     * Returns the single instance of the WeatherManager.
-     * If it doesn't exist, it creates it.
+     * Initializes the weather manager of a new game.
+     * Starts with {@link WeatherCondition#SUNNY} and a turn counter of 0.
      *
-     * @return The singleton instance.
+     * @param random the source of randomness of the weather, split for it from the seed of the game.
      */
     @SuppressFBWarnings(
-        value = "MS_EXPOSE_REP",
-        justification = "The Singleton design pattern inherently requires returning the mutable shared instance."
+        value = "EI_EXPOSE_REP2",
+        justification = "The source of randomness is split for the exclusive use of this manager by the caller."
     )
-    public static synchronized WeatherManagerImpl getInstance() {
-        if (instance == null) {
-            instance = new WeatherManagerImpl();
-        }
-        return instance;
-    }
-
-    /**
-     * Ensures the Singleton property is maintained during object deserialization.
-     * This method is invoked automatically by the serialization mechanism, replacing
-     * the newly deserialized instance with the canonical singleton instance.
-     *
-     * @return The single, active instance of {@link WeatherManagerImpl}.
-     * @throws ObjectStreamException if an error occurs during the resolution process.
-     */
-    @java.io.Serial
-    private Object readResolve() throws ObjectStreamException {
-        return getInstance();
-    }
-
-    /**
-     * Resets the weather manager to its initial state.
-     */
-    public void reset() {
+    public WeatherManagerImpl(final RandomSource random) {
         this.condition = WeatherCondition.SUNNY;
-        this.turnCounter.set(0);
-        this.random = new Random();
+        this.random = random;
     }
 
     @Override
@@ -91,24 +62,49 @@ public final class WeatherManagerImpl implements WeatherManager {
 
     @Override
     public ShotResult applyWeatherEffects(final Position target, final Grid grid) {
+        return grid.receiveShot(effectiveTarget(target, grid));
+    }
+
+    @Override
+    public void applyWeatherEffects(final Position target, final Grid grid, final ShotResultSink sink) {
+        grid.receiveShot(effectiveTarget(target, grid), sink);
+    }
+
+    /**
+     * Picks the cell actually hit when aiming at the target: the target itself when sunny,
+     * a random valid cell of its 3x3 neighbourhood when foggy.
+     * The neighbourhood is scanned twice (count, then pick) so that no list is built.
+     *
+     * @param target the position aimed by the player.
+     * @param grid the grid being shot.
+     * @return the position that will receive the shot.
+     */
+    private Position effectiveTarget(final Position target, final Grid grid) {
         if (this.condition == WeatherCondition.SUNNY) {
-            return grid.receiveShot(target);
+            return target;
         }
 
-        final List<Position> validPosition = new ArrayList<>();
+        int validPositions = 0;
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
-                final Position p = new Position(target.x() + dx, target.y() + dy);
-                if (grid.isTargetValid(p)) {
-                    validPosition.add(p);
+                if (grid.isTargetValid(Positions.of(target.x() + dx, target.y() + dy))) {
+                    validPositions++;
                 }
             }
         }
-        if (validPosition.isEmpty()) {
-            return grid.receiveShot(target);
+        if (validPositions == 0) {
+            return target;
+        }
+        int chosen = this.random.nextInt(validPositions);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                final Position p = Positions.of(target.x() + dx, target.y() + dy);
+                if (grid.isTargetValid(p) && chosen-- == 0) {
+                    return p;
+                }
+            }
         }
-        final Position chosenPosition = validPosition.get(this.random.nextInt(validPosition.size()));
-        return grid.receiveShot(chosenPosition);
+        return target;
     }
 
     @Override
@@ -13,8 +13,6 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.Insets;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -25,6 +23,7 @@ import javax.swing.SwingConstants;
 
 import it.unibo.jnavy.controller.utilities.CellCondition;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 
 /**
  * A UI component that visually represents a player's game board.
@@ -36,7 +35,7 @@ public final class GridPanel extends JPanel {
     private static final long serialVersionUID = 1L;
 
     private final int size;
-    private final Map<Position, JButton> buttons = new HashMap<>();
+    private final JButton[] buttons;
 
     /**
      * Constructs a new {@code GridPanel}.
@@ -49,6 +48,7 @@ public final class GridPanel extends JPanel {
     public GridPanel(final int size, final String title, final Consumer<Position> onClick) {
         super(new BorderLayout(0, 10));
         this.size = size;
+        this.buttons = new JButton[size * size];
 
         final JLabel label = new JLabel(title, SwingConstants.CENTER);
         label.setFont(new Font(FONT_FAMILY, Font.BOLD, 16));
@@ -87,10 +87,10 @@ public final class GridPanel extends JPanel {
      *      returns its current {@link CellCondition}.
      */
     public void refresh(final Function<Position, CellCondition> positionToCondition) {
-        buttons.forEach((pos, button) -> {
-            final CellCondition state = positionToCondition.apply(pos);
-            updateButtonAppearance(button, state);
-        });
+        for (int index = 0; index < this.buttons.length; index++) {
+            final CellCondition state = positionToCondition.apply(Positions.fromIndex(index, this.size));
+            updateButtonAppearance(this.buttons[index], state);
+        }
         this.repaint();
     }
 
@@ -121,7 +121,7 @@ public final class GridPanel extends JPanel {
         for (int row = 0; row < this.size; row++) {
             for (int col = 0; col < this.size; col++) {
                 final JButton cellButton = new JButton();
-                final Position pos = new Position(row, col);
+                final Position pos = Positions.of(row, col);
 
                 if (onClick != null) {
                     cellButton.addActionListener(e -> onClick.accept(pos));
@@ -132,7 +132,7 @@ public final class GridPanel extends JPanel {
                 cellButton.setBorderPainted(false);
                 cellButton.setOpaque(true);
 
-                this.buttons.put(pos, cellButton);
+                this.buttons[pos.index(this.size)] = cellButton;
                 grid.add(cellButton);
             }
         }
@@ -147,7 +147,10 @@ public final class GridPanel extends JPanel {
      * @return the corresponding button, or {@code null} if the position is invalid.
      */
     public JButton getButtonAt(final Position pos) {
-        return this.buttons.get(pos);
+        if (pos.x() < 0 || pos.x() >= this.size || pos.y() < 0 || pos.y() >= this.size) {
+            return null;
+        }
+        return this.buttons[pos.index(this.size)];
     }
 
     /**
@@ -157,7 +160,7 @@ public final class GridPanel extends JPanel {
      * @param state The cell's new condition.
      */
     public void refreshCell(final Position pos, final CellCondition state) {
-        final JButton button = this.buttons.get(pos);
+        final JButton button = getButtonAt(pos);
         if (button != null) {
             updateButtonAppearance(button, state);
             button.repaint();
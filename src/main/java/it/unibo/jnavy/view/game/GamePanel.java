@@ -11,6 +11,9 @@ import java.awt.Rectangle;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 
 import it.unibo.jnavy.controller.game.GameController;
 import it.unibo.jnavy.controller.utilities.CellCondition;
@@ -47,6 +50,7 @@ public final class GamePanel extends JPanel {
     private static final String GAME_SAVED = "Game saved successfully!";
     private static final String SAVE_ERROR = "Error saving the game.";
     private static final int PADDING = 20;
+    private static final long NOT_RENDERED = -1;
 
     @java.io.Serial
     private static final long serialVersionUID = 1L;
@@ -66,6 +70,8 @@ public final class GamePanel extends JPanel {
     private final WeatherNotificationOverlay weatherOverlay;
     private final GameOverPanel gameOverPanel;
     private String lastWeatherCondition;
+    private long humanGridVersion = NOT_RENDERED;
+    private long botGridVersion = NOT_RENDERED;
 
     /**
      * Constructs a new {@code GamePanel}.
@@ -144,11 +150,37 @@ public final class GamePanel extends JPanel {
         this.ambientSound.start();
     }
 
+    /**
+     * Refreshes only the cells changed since the last rendered version, or the whole grid
+     * when the changes are not available (first rendering or too many changes).
+     *
+     * @param panel the grid panel to refresh.
+     * @param renderedVersion the version of the grid last rendered by the panel.
+     * @param changesSince the function retrieving the changes since a version.
+     * @param stateOf the function mapping a position to its current condition.
+     */
+    private void refreshGrid(final GridPanel panel, final long renderedVersion,
+                             final LongFunction<Optional<List<Position>>> changesSince,
+                             final Function<Position, CellCondition> stateOf) {
+        final Optional<List<Position>> changes = renderedVersion == NOT_RENDERED
+                ? Optional.empty()
+                : changesSince.apply(renderedVersion);
+        changes.ifPresentOrElse(
+                positions -> positions.forEach(p -> panel.refreshCell(p, stateOf.apply(p))),
+                () -> panel.refresh(stateOf));
+    }
+
     private void updateDashboard() {
         final String currentCondition = this.controller.getWeatherConditionName();
         this.dashboardPanel.updateDashboard(controller.getCurrentCaptainCooldown(), currentCondition);
-        humanGridPanel.refresh(controller::getHumanCellState);
-        botGridPanel.refresh(controller::getBotCellState);
+        final long humanVersion = controller.getHumanGridVersion();
+        final long botVersion = controller.getBotGridVersion();
+        refreshGrid(humanGridPanel, this.humanGridVersion,
+                controller::getHumanGridChangesSince, controller::getHumanCellState);
+        refreshGrid(botGridPanel, this.botGridVersion,
+                controller::getBotGridChangesSince, controller::getBotCellState);
+        this.humanGridVersion = humanVersion;
+        this.botGridVersion = botVersion;
 
         if (!this.lastWeatherCondition.isEmpty() && !this.lastWeatherCondition.equals(currentCondition)) {
             this.weatherOverlay.showWeatherAlert(currentCondition);
@@ -167,26 +199,37 @@ public final class GamePanel extends JPanel {
     private void triggerBotTurn() {
         this.headerPanel.setStatus(BOT_TURN_TEXT, BOT_TURN_TEXT_COLOR);
 
-        final Timer botTimer = new Timer(1000, e -> {
-            final Position target = controller.playBotTurn();
-            if (target == null) {
-                return;
-            }
+        final Timer botTimer = new Timer(1000, e -> controller.selectBotTargetAsync().whenComplete((target, error) ->
+            SwingUtilities.invokeLater(() -> {
+                // The shot is played here on the EDT; a failed or late decision is replaced by the controller.
+                final Position chosen = error == null ? target.orElse(null) : null;
+                showBotShot(controller.playBotTurn(chosen));
+            })));
+        botTimer.setRepeats(false);
+        botTimer.start();
+    }
 
-            final Component targetButton = humanGridPanel.getButtonAt(target);
-            final CellCondition state = controller.getHumanCellState(target);
-            final boolean isHit = state == CellCondition.HIT_SHIP || state == CellCondition.SUNK_SHIP;
+    /**
+     * Animates the shot fired by the bot and gives the turn back to the player.
+     *
+     * @param target the position hit by the bot, or null if no shot was fired.
+     */
+    private void showBotShot(final Position target) {
+        if (target == null) {
+            return;
+        }
 
-            this.effectsPanel.startShot(List.of(targetButton), isHit,
-                    () -> humanGridPanel.refresh(controller::getHumanCellState),
-                    () -> {
-                this.updateDashboard();
-                this.inputBlocked = false;
-                this.headerPanel.setStatus(YOUR_TURN_TEXT, YOUR_TURN_TEXT_COLOR);
-            });
+        final Component targetButton = humanGridPanel.getButtonAt(target);
+        final CellCondition state = controller.getHumanCellState(target);
+        final boolean isHit = state == CellCondition.HIT_SHIP || state == CellCondition.SUNK_SHIP;
+
+        this.effectsPanel.startShot(List.of(targetButton), isHit,
+                () -> humanGridPanel.refresh(controller::getHumanCellState),
+                () -> {
+            this.updateDashboard();
+            this.inputBlocked = false;
+            this.headerPanel.setStatus(YOUR_TURN_TEXT, YOUR_TURN_TEXT_COLOR);
         });
-        botTimer.setRepeats(false);
-        botTimer.start();
     }
 
     /**
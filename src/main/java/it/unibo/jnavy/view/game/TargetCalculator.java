@@ -3,6 +3,7 @@ package it.unibo.jnavy.view.game;
 import it.unibo.jnavy.controller.game.GameController;
 import it.unibo.jnavy.controller.utilities.CellCondition;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 import java.util.Locale;
 
 import java.util.ArrayList;
@@ -29,7 +30,7 @@ public final class TargetCalculator {
         final int size = controller.getGridSize();
         for (int r = 0; r < size; r++) {
             for (int c = 0; c < size; c++) {
-                final Position pos = new Position(r, c);
+                final Position pos = Positions.of(r, c);
                 final CellCondition state = controller.getBotCellState(pos);
                 if (state == CellCondition.HIT_SHIP || state == CellCondition.SUNK_SHIP || state == CellCondition.HIT_WATER) {
                     hits.add(pos);
@@ -80,7 +81,7 @@ public final class TargetCalculator {
                     final int dist = Math.abs(r - p.x()) + Math.abs(c - p.y());
                     if (dist < minDistance) {
                         minDistance = dist;
-                        bestAnchor = new Position(r, c);
+                        bestAnchor = Positions.of(r, c);
                     }
                 }
             }
@@ -92,7 +93,7 @@ public final class TargetCalculator {
         final List<Position> area = new ArrayList<>();
         for (int r = 0; r < 2; r++) {
             for (int c = 0; c < 2; c++) {
-                final Position pos = new Position(p.x() + r, p.y() + c);
+                final Position pos = Positions.of(p.x() + r, p.y() + c);
                 if (pos.x() < gridSize && pos.y() < gridSize) {
                     area.add(pos);
                 }
@@ -233,6 +233,9 @@ public final class BotSelectionPanel extends JPanel {
     public enum BotLevel {
         BEGINNER("Beginner", "He shoots randomly at your grid, as if blindfolded", "/images/beginner.png"),
         PRO("Pro", "He learns with every shot he throws, he can become very strong", "/images/pro.png"),
+        EXPERT("Expert", "He weighs every possible layout of your fleet before each shot", "/images/pro.png"),
+        ADMIRAL("Admiral", "He imagines thousands of fleets like yours and aims where most of them are", "/images/pro.png"),
+        FLEET_ADMIRAL("Fleet Admiral", "He plans his next shots ahead, even through the fog", "/images/pro.png"),
         SNIPER("Sniper", "He knows the position of your ships, be smart", "/images/sniper.png");
 
         private final String label;
@@ -4,6 +4,7 @@ import it.unibo.jnavy.controller.setup.SetupController;
 import it.unibo.jnavy.controller.utilities.CellState;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 import it.unibo.jnavy.view.game.ToastNotification;
 
 import static it.unibo.jnavy.view.utilities.ViewConstants.BACKGROUND_COLOR;
@@ -21,8 +22,6 @@ import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.Toolkit;
-import java.util.HashMap;
-import java.util.Map;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -38,8 +37,6 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public final class SetupView extends JPanel {
 
-    private static final int GRID_SIZE = 10;
-
     private static final Color COLOR_SHIP = Color.BLACK;
     private static final Color COLOR_BORDER = Color.GRAY;
     private static final Color COLOR_BORDER_WATER = new Color(0, 80, 120);
@@ -64,7 +61,8 @@ public final class SetupView extends JPanel {
     private final transient Runnable gameStartCall;
     private final transient Runnable backCall;
 
-    private final Map<Position, JButton> gridButtons = new HashMap<>();
+    private final int gridSize;
+    private final JButton[] gridButtons;
     private CardinalDirection currentDirection = CardinalDirection.RIGHT;
 
     private JLabel infoLabel;
@@ -89,6 +87,8 @@ public final class SetupView extends JPanel {
         this.controller = controller;
         this.gameStartCall = gameStartCall;
         this.backCall = backCall;
+        this.gridSize = controller.getGridSize();
+        this.gridButtons = new JButton[this.gridSize * this.gridSize];
         this.initUI();
     }
 
@@ -117,14 +117,14 @@ public final class SetupView extends JPanel {
         topPanel.add(titleLabel, BorderLayout.CENTER);
         this.add(topPanel, BorderLayout.NORTH);
 
-        final JPanel gridPanel = new JPanel(new GridLayout(GRID_SIZE, GRID_SIZE));
+        final JPanel gridPanel = new JPanel(new GridLayout(gridSize, gridSize));
         gridPanel.setBackground(BACKGROUND_COLOR);
         gridPanel.setBorder(BorderFactory.createEmptyBorder(PADDING_20, PADDING_20, PADDING_20, PADDING_20));
 
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
                 final JButton button = new JButton();
-                final Position pos = new Position(i, j);
+                final Position pos = Positions.of(i, j);
 
                 button.setBackground(MENUBLUE);
                 button.setOpaque(true);
@@ -132,7 +132,7 @@ public final class SetupView extends JPanel {
 
                 button.addActionListener(e -> placeShipAt(pos));
 
-                gridButtons.put(pos, button);
+                gridButtons[pos.index(gridSize)] = button;
                 gridPanel.add(button);
             }
         }
@@ -241,10 +241,10 @@ public final class SetupView extends JPanel {
     }
 
     private void updateView() {
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                final Position pos = new Position(i, j);
-                final JButton button = gridButtons.get(pos);
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                final Position pos = Positions.of(i, j);
+                final JButton button = gridButtons[pos.index(gridSize)];
                 final CellState state = controller.getCellState(pos);
 
                 if (state.hasShip()) {
@@ -0,0 +1,95 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jnavy.controller.setup.RandomFleetPlacer;
+import it.unibo.jnavy.model.bots.BeginnerBot;
+import it.unibo.jnavy.model.bots.DensityBot;
+import it.unibo.jnavy.model.bots.ProBot;
+import it.unibo.jnavy.model.captains.Captain;
+import it.unibo.jnavy.model.captains.Engineer;
+import it.unibo.jnavy.model.captains.Gunner;
+import it.unibo.jnavy.model.captains.SonarOfficer;
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.player.Human;
+import it.unibo.jnavy.model.player.Player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link MatchEngine}.
+ * It verifies that headless matches between automated players are played to completion
+ * following the rules of the game, with and without captains.
+ */
+class MatchEngineTest {
+
+    private static final int GAMES = 20;
+    private static final int SMALL_SIZE = 8;
+
+    private MatchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        this.engine = new MatchEngineImpl();
+    }
+
+    @Test
+    void testMatchIsPlayedToCompletion() {
+        for (int i = 0; i < GAMES; i++) {
+            final Player first = this.engine.deploy(new DensityBot());
+            final Player second = this.engine.deploy(new BeginnerBot());
+            final MatchResult result = this.engine.play(first, second);
+
+            assertNotEquals(MatchResult.Winner.NONE, result.winner());
+            final Player loser = result.winner() == MatchResult.Winner.FIRST ? second : first;
+            final Player winner = result.winner() == MatchResult.Winner.FIRST ? first : second;
+            assertTrue(loser.getFleet().isDefeated());
+            assertFalse(winner.getFleet().isDefeated());
+            assertEquals(result.turns(), result.firstPlayerShots() + result.secondPlayerShots());
+            assertTrue(result.winnerShots() >= loser.getGrid().getOccupiedPositions().size());
+        }
+    }
+
+    @Test
+    void testBotsWithCaptains() {
+        final List<Supplier<Captain>> captains = List.of(Gunner::new, Engineer::new, SonarOfficer::new);
+        for (final Supplier<Captain> captain : captains) {
+            for (int i = 0; i < GAMES; i++) {
+                final MatchResult result = this.engine.play(
+                        this.engine.deploy(new ProBot(), captain.get()),
+                        this.engine.deploy(new DensityBot(), captain.get()));
+                assertNotEquals(MatchResult.Winner.NONE, result.winner());
+            }
+        }
+    }
+
+    @Test
+    void testPlayerWithoutTargetsPasses() {
+        final Player human = new Human(new Engineer(), new GridImpl(SMALL_SIZE));
+        new RandomFleetPlacer(new Random()).placeFleet(human.getGrid());
+        final MatchEngine small = new MatchEngineImpl(SMALL_SIZE);
+        final MatchResult result = small.play(human, small.deploy(new DensityBot()));
+
+        assertEquals(MatchResult.Winner.SECOND, result.winner());
+        assertEquals(0, result.firstPlayerShots());
+        assertTrue(human.getFleet().isDefeated());
+    }
+
+    @Test
+    void testInvalidMatches() {
+        final Player bot = this.engine.deploy(new BeginnerBot());
+        assertThrows(IllegalArgumentException.class, () -> this.engine.play(bot, bot));
+        assertThrows(IllegalArgumentException.class, () -> new MatchEngineImpl(0));
+        assertThrows(IllegalArgumentException.class, () -> MatchEngineImpl.maxTurns(0));
+        assertEquals(this.engine.getMaxTurns(), MatchEngineImpl.maxTurns(this.engine.getGridSize()));
+    }
+}
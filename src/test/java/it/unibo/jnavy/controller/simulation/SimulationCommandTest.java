@@ -0,0 +1,68 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link SimulationCommand}.
+ * It verifies that the options are read and that the standings are printed once the matches are over.
+ */
+class SimulationCommandTest {
+
+    private static final int GAMES = 6;
+
+    @Test
+    void testIsRequested() {
+        assertTrue(SimulationCommand.isRequested(new String[] {"--games", "5", SimulationCommand.FLAG}));
+        assertFalse(SimulationCommand.isRequested(new String[0]));
+    }
+
+    @Test
+    void testRunPrintsStandings() {
+        final SimulationCommand command = SimulationCommand.parse(new String[] {SimulationCommand.FLAG,
+            "--games", String.valueOf(GAMES), "--bot1", "beginner", "--bot2", "Sniper", "--threads", "1", "--seed", "7"});
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final TournamentStats stats;
+        try (PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8)) {
+            stats = command.run(out);
+        }
+
+        assertEquals(List.of("Beginner", "Sniper"), stats.getEntrants());
+        assertEquals(GAMES, stats.getGames());
+        final String[] lines = bytes.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertTrue(lines[0].contains("seed 7"));
+        assertTrue(lines[lines.length - 1].contains(GAMES + " games,"));
+        assertTrue(lines[lines.length - 1].contains("Sniper"));
+    }
+
+    @Test
+    void testMirrorMatchNamesBothSides() {
+        final TournamentStats stats = SimulationCommand.parse(new String[] {SimulationCommand.FLAG,
+            "--games", "2", "--bot1", "Beginner", "--bot2", "beginner", "--threads", "1"})
+                .run(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        assertEquals(List.of("Beginner #1", "Beginner #2"), stats.getEntrants());
+    }
+
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationCommand.parse(new String[] {SimulationCommand.FLAG, "--bot1", "Nobody"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationCommand.parse(new String[] {SimulationCommand.FLAG, "--games", "many"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationCommand.parse(new String[] {SimulationCommand.FLAG, "--games"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationCommand.parse(new String[] {SimulationCommand.FLAG, "--threads", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationCommand.parse(new String[] {SimulationCommand.FLAG, "--rounds", "3"}));
+    }
+}
@@ -0,0 +1,81 @@
+package it.unibo.jnavy.controller.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jnavy.model.captains.Gunner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link Tournament}.
+ * It verifies that every pairing plays its matches and that the standings add up.
+ */
+class TournamentTest {
+
+    private static final int GAMES = 10;
+    private static final int THREADS = 2;
+    private static final int GRID_SIZE = 10;
+    private static final double MEDIAN = 0.5;
+    private static final long SEED = 42;
+
+    @Test
+    void testRoundRobin() {
+        final List<Entrant> entrants = List.of(
+                Entrant.named("beginner").orElseThrow(),
+                Entrant.named("Expert").orElseThrow().withCaptain(Gunner::new),
+                Entrant.named("sniper").orElseThrow());
+        final TournamentStats stats = new TournamentImpl(entrants, GAMES, THREADS, GRID_SIZE, SEED).run();
+
+        assertEquals(List.of("Beginner", "Expert+Gunner", "Sniper"), stats.getEntrants());
+        assertEquals(3 * GAMES, stats.getGames());
+        long wins = 0;
+        for (int i = 0; i < entrants.size(); i++) {
+            assertEquals(2 * GAMES, stats.getGames(i));
+            assertEquals(0, stats.getWins(i, i));
+            wins += stats.getWins(i);
+        }
+        assertEquals(stats.getGames(), wins + stats.getDraws());
+        assertEquals(stats.getGames(), Arrays.stream(stats.getTurnsDistribution()).sum());
+
+        final int sniper = 2;
+        assertTrue(stats.getWinRate(sniper) > stats.getWinRate(0));
+        assertTrue(stats.getShotsToWinPercentile(sniper, MEDIAN) <= stats.getShotsToWinPercentile(sniper, 1));
+        assertTrue(stats.getMeanShotsToWin(sniper) <= stats.getShotsToWinPercentile(sniper, 1));
+    }
+
+    @Test
+    void testSeededTournamentsAreReproducible() {
+        final List<Entrant> entrants = List.of(
+                Entrant.named("beginner").orElseThrow(),
+                Entrant.named("sniper").orElseThrow());
+        final Tournament tournament = new TournamentImpl(entrants, GAMES, 1, GRID_SIZE, SEED);
+        final TournamentStats first = tournament.run();
+        final TournamentStats second = new TournamentImpl(entrants, GAMES, 1, GRID_SIZE, SEED).run();
+
+        assertEquals(SEED, tournament.getSeed());
+        assertArrayEquals(first.getTurnsDistribution(), second.getTurnsDistribution());
+        for (int i = 0; i < entrants.size(); i++) {
+            assertEquals(first.getWins(i), second.getWins(i));
+            assertEquals(first.getMeanShotsToWin(i), second.getMeanShotsToWin(i));
+        }
+    }
+
+    @Test
+    void testInvalidTournaments() {
+        final List<Entrant> entrants = Entrant.registered().subList(0, 2);
+        assertThrows(IllegalArgumentException.class, () -> new TournamentImpl(entrants.subList(0, 1), GAMES));
+        assertThrows(IllegalArgumentException.class, () -> new TournamentImpl(entrants, 0));
+
+        final Tournament tournament = new TournamentImpl(entrants, 1);
+        tournament.run();
+        assertThrows(IllegalStateException.class, tournament::start);
+        assertTrue(Entrant.named("nobody").isEmpty());
+        assertEquals("Fleet Admiral", Entrant.named("fleet-admiral").orElseThrow().name());
+    }
+}
@@ -0,0 +1,27 @@
+package it.unibo.jnavy.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jnavy.model.grid.BitboardGrid;
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.Grids;
+
+/**
+ * Test class for {@link BitboardGrid}.
+ * It runs the cases shared by every grid, so the bitboard implementation is held to the same behaviour
+ * as the standard one, including the cell views it exposes.
+ */
+final class BitboardGridTest extends GridTest {
+
+    @Override
+    Grid createGrid() {
+        return new BitboardGrid();
+    }
+
+    @Test
+    void testFactoryPicksBitboard() {
+        assertInstanceOf(BitboardGrid.class, Grids.create(BitboardGrid.SIZE));
+    }
+}
@@ -0,0 +1,94 @@
+package it.unibo.jnavy.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import it.unibo.jnavy.model.grid.Grid;
+import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.GridSnapshot;
+import it.unibo.jnavy.model.grid.Grids;
+import it.unibo.jnavy.model.ship.Ship;
+import it.unibo.jnavy.model.ship.ShipImpl;
+import it.unibo.jnavy.model.utilities.CardinalDirection;
+import it.unibo.jnavy.model.utilities.HitType;
+import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
+
+/**
+ * Test class for {@link GridImpl}.
+ * Besides the cases shared by every grid, it covers the boards of other sizes only this implementation supports.
+ */
+final class GridImplTest extends GridTest {
+
+    private static final int SHIP_SIZE_3 = 3;
+    private static final int COORD_ZERO = 0;
+    private static final int WIDE_SIZE = 20;
+    private static final int LARGE_SIZE = 1000;
+
+    @Override
+    Grid createGrid() {
+        return new GridImpl();
+    }
+
+    @Test
+    void testLargeBoard() {
+        final Grid large = new GridImpl(LARGE_SIZE);
+        final Ship ship = new ShipImpl(SHIP_SIZE_3);
+        final Position corner = new Position(LARGE_SIZE - 1, LARGE_SIZE - SHIP_SIZE_3);
+
+        assertEquals(LARGE_SIZE, large.getSize());
+        assertEquals(LARGE_SIZE * LARGE_SIZE, large.getAvailableTargetCount());
+        assertFalse(large.isPositionValid(new Position(LARGE_SIZE, COORD_ZERO)));
+
+        large.placeShip(ship, corner, CardinalDirection.RIGHT);
+        assertEquals(List.of(
+                corner,
+                new Position(LARGE_SIZE - 1, LARGE_SIZE - 2),
+                new Position(LARGE_SIZE - 1, LARGE_SIZE - 1)), large.getOccupiedPositions());
+        assertEquals(HitType.HIT, large.receiveShot(corner).hitType());
+        assertTrue(large.getCell(corner).get().isHit());
+
+        large.getCell(corner).get().setScanResult(true);
+        assertTrue(large.getCell(corner).get().getScanResult().get());
+        assertTrue(large.getCell(new Position(COORD_ZERO, COORD_ZERO)).get().getScanResult().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new GridImpl(COORD_ZERO));
+    }
+
+    @Test
+    void testLargestBoardFitsPacking() {
+        final int last = GridImpl.MAX_SIZE - 1;
+        assertEquals(last, ShotResultSink.unpackX(ShotResultSink.pack(last, last)));
+        assertEquals(last, ShotResultSink.unpackY(ShotResultSink.pack(last, last)));
+        assertTrue(ShotResultSink.unpackY(ShotResultSink.pack(last, GridImpl.MAX_SIZE)) < 0);
+        assertThrows(IllegalArgumentException.class, () -> new GridImpl(GridImpl.MAX_SIZE + 1));
+    }
+
+    @Test
+    void testLargeSnapshot() {
+        final Grid large = Grids.create(LARGE_SIZE);
+        final Position far = new Position(LARGE_SIZE - 1, LARGE_SIZE - 1);
+        final GridSnapshot largeShot = large.snapshot().withShot(far);
+
+        assertInstanceOf(GridImpl.class, large);
+        assertEquals(HitType.MISS, largeShot.getCellStatus(far));
+        assertEquals(HitType.NONE, largeShot.getCellStatus(new Position(COORD_ZERO, COORD_ZERO)));
+        assertTrue(large.isTargetValid(far));
+    }
+
+    @Test
+    void testChangeLogWraps() {
+        final Grid wide = new GridImpl(WIDE_SIZE);
+        final long initial = wide.getVersion();
+        for (final Position target : wide.getAvailableTargets()) {
+            wide.receiveShot(target);
+        }
+        assertTrue(wide.getChangesSince(initial).isEmpty());
+    }
+}
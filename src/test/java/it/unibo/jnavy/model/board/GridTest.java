@@ -1,23 +1,49 @@
 package it.unibo.jnavy.model.board;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
+import it.unibo.jnavy.model.cell.Cell;
 import it.unibo.jnavy.model.grid.Grid;
-import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.GridSnapshot;
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.grid.PlacementTable;
+import it.unibo.jnavy.model.shots.AreaShot;
 import it.unibo.jnavy.model.ship.Ship;
 import it.unibo.jnavy.model.ship.ShipImpl;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.Positions;
 import it.unibo.jnavy.model.utilities.ShotResult;
+import it.unibo.jnavy.model.utilities.ShotResultBuffer;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
 
-final class GridTest {
+/**
+ * Tests shared by every implementation of {@link Grid}.
+ * Each implementation has a subclass that supplies its empty grids, so all of them run the same cases.
+ */
+abstract class GridTest {
 
     private static final int SHIP_SIZE_2 = 2;
     private static final int SHIP_SIZE_3 = 3;
@@ -27,22 +53,34 @@ final class GridTest {
     private static final int COORD_ONE = 1;
     private static final int COORD_TWO = 2;
     private static final int COORD_THREE = 3;
+    private static final int COORD_FOUR = 4;
     private static final int COORD_FIVE = 5;
     private static final int COORD_SIX = 6;
+    private static final int COORD_SEVEN = 7;
     private static final int COORD_NINE = 9;
     private static final int COORD_TEN = 10;
 
     private static final int TOTAL_CELLS = 100;
     private static final int TARGETS_MINUS_ONE = 99;
+    private static final int BATCH_RESULTS = 3;
     private static final int EXPECTED_OCCUPIED = 2;
+    private static final int LARGE_SIZE = 1000;
+    private static final int SIZE_2_PLACEMENTS = 180;
+    private static final int CORNER_COVERING = 8;
+    private static final int ALLOCATION_GRIDS = 200;
 
     private Grid grid;
 
     @BeforeEach
     void setUp() {
-        this.grid = new GridImpl();
+        this.grid = createGrid();
     }
 
+    /**
+     * @return an empty standard 10x10 grid of the implementation under test.
+     */
+    abstract Grid createGrid();
+
     @Test
     void testValidPlacement() {
         final Ship ship = new ShipImpl(SHIP_SIZE_3);
@@ -97,6 +135,7 @@ final class GridTest {
 
         final ShotResult resultInvalid = grid.receiveShot(new Position(COORD_FIVE, COORD_FIVE));
         assertEquals(HitType.INVALID, resultInvalid.hitType());
+        assertEquals(HitType.INVALID, grid.receiveShot(new Position(COORD_TEN, COORD_ZERO)).hitType());
 
         final ShotResult resultSunk = grid.receiveShot(new Position(COORD_FIVE, COORD_SIX));
         assertEquals(HitType.SUNK, resultSunk.hitType());
@@ -110,6 +149,7 @@ final class GridTest {
         final Ship ship = new ShipImpl(SHIP_SIZE_3);
         final Position pos = new Position(COORD_ONE, COORD_ONE);
         grid.placeShip(ship, pos, CardinalDirection.RIGHT);
+        assertFalse(grid.repair(pos));
 
         grid.receiveShot(pos);
         final int healthAfterHit = ship.getHealth();
@@ -176,4 +216,363 @@ final class GridTest {
         assertEquals(TARGETS_MINUS_ONE, grid.getAvailableTargets().size());
         assertFalse(grid.getAvailableTargets().contains(new Position(COORD_ZERO, COORD_ZERO)));
     }
+
+    @Test
+    void testRandomAvailableTarget() {
+        final Random random = new Random();
+        for (int i = 0; i < TOTAL_CELLS; i++) {
+            final Position target = grid.getRandomAvailableTarget(random);
+            assertTrue(grid.isTargetValid(target));
+            grid.receiveShot(target);
+            assertEquals(TOTAL_CELLS - i - 1, grid.getAvailableTargetCount());
+        }
+        assertThrows(IllegalStateException.class, () -> grid.getRandomAvailableTarget(random));
+    }
+
+    @Test
+    void testRepairRestoresAvailableTarget() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_3);
+        final Position pos = new Position(COORD_ONE, COORD_ONE);
+        grid.placeShip(ship, pos, CardinalDirection.RIGHT);
+
+        grid.receiveShot(pos);
+        assertEquals(TARGETS_MINUS_ONE, grid.getAvailableTargetCount());
+
+        grid.repair(pos);
+        assertEquals(TOTAL_CELLS, grid.getAvailableTargetCount());
+        assertTrue(grid.getAvailableTargets().contains(pos));
+    }
+
+    @Test
+    void testShipPositions() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_3);
+        grid.placeShip(ship, new Position(COORD_TWO, COORD_FIVE), CardinalDirection.DOWN);
+
+        assertEquals(List.of(
+                new Position(COORD_TWO, COORD_FIVE),
+                new Position(COORD_THREE, COORD_FIVE),
+                new Position(COORD_FOUR, COORD_FIVE)), grid.getShipPositions(ship));
+        assertTrue(grid.getShipPositions(new ShipImpl(SHIP_SIZE_2)).isEmpty());
+
+        grid.removeShip(ship);
+        assertTrue(grid.getShipPositions(ship).isEmpty());
+        assertTrue(grid.getOccupiedPositions().isEmpty());
+    }
+
+    @Test
+    void testTargetsAcrossWords() {
+        final Position lastWord = new Position(COORD_NINE, COORD_SEVEN);
+        grid.receiveShot(lastWord);
+        assertFalse(grid.isTargetValid(lastWord));
+        assertEquals(TARGETS_MINUS_ONE, grid.getAvailableTargets().size());
+        assertFalse(grid.getAvailableTargets().contains(lastWord));
+    }
+
+    @Test
+    void testCellViews() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        final Cell cell = grid.getCell(new Position(COORD_SEVEN, COORD_SEVEN)).get();
+
+        assertTrue(cell.getScanResult().isEmpty());
+        cell.setShip(ship);
+        assertTrue(cell.isDetectable());
+        assertEquals(ship, cell.getShip().get());
+
+        cell.setScanResult(true);
+        assertTrue(cell.getScanResult().get());
+        cell.setScanResult(false);
+        assertFalse(cell.getScanResult().get());
+
+        assertEquals(HitType.HIT, cell.receiveShot());
+        assertFalse(cell.isDetectable());
+        assertThrows(IllegalStateException.class, cell::receiveShot);
+
+        cell.setShip(null);
+        assertFalse(cell.isOccupied());
+        assertTrue(cell.getShip().isEmpty());
+    }
+
+    @Test
+    void testCanonicalPositions() {
+        final Position pos = Positions.of(COORD_THREE, COORD_FIVE);
+        assertSame(pos, Positions.of(COORD_THREE, COORD_FIVE));
+        assertSame(pos, Positions.fromIndex(pos.index(grid.getSize()), grid.getSize()));
+        assertEquals(new Position(COORD_THREE, COORD_FIVE), pos);
+
+        for (final Position target : grid.getAvailableTargets()) {
+            assertSame(Positions.of(target.x(), target.y()), target);
+        }
+        assertEquals(new Position(LARGE_SIZE, COORD_MINUS_ONE), Positions.of(LARGE_SIZE, COORD_MINUS_ONE));
+        assertEquals(new Position(LARGE_SIZE - 1, COORD_ONE), Positions.fromIndex(
+                new Position(LARGE_SIZE - 1, COORD_ONE).index(LARGE_SIZE), LARGE_SIZE));
+    }
+
+    @Test
+    void testShotResultSink() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        grid.placeShip(ship, new Position(COORD_FIVE, COORD_FIVE), CardinalDirection.RIGHT);
+        final ShotResultBuffer buffer = new ShotResultBuffer();
+
+        grid.receiveShot(new Position(COORD_FIVE, COORD_FIVE), buffer);
+        grid.receiveShot(new Position(COORD_FIVE, COORD_FIVE), buffer);
+        assertEquals(HitType.HIT, buffer.hitType(0));
+        assertEquals(HitType.INVALID, buffer.hitType(1));
+        assertEquals(ShotResultSink.NO_SHIP, buffer.shipId(1));
+        assertEquals(ship, grid.getShipById(buffer.shipId(0)).get());
+
+        buffer.clear();
+        grid.receiveShot(new Position(COORD_FIVE, COORD_SIX), buffer);
+        assertEquals(1, buffer.size());
+        assertEquals(new Position(COORD_FIVE, COORD_SIX), buffer.position(0));
+        assertEquals(List.of(ShotResult.sunk(new Position(COORD_FIVE, COORD_SIX), ship)), buffer.toResults(grid));
+        assertEquals(new Position(COORD_MINUS_ONE, COORD_NINE), new Position(
+                ShotResultSink.unpackX(ShotResultSink.pack(COORD_MINUS_ONE, COORD_NINE)),
+                ShotResultSink.unpackY(ShotResultSink.pack(COORD_MINUS_ONE, COORD_NINE))));
+    }
+
+    @Test
+    void testAreaShotAdapter() {
+        final List<ShotResult> results = new AreaShot().execute(new Position(COORD_NINE, COORD_NINE), grid);
+
+        assertEquals(List.of(
+                ShotResult.miss(new Position(COORD_NINE, COORD_NINE)),
+                ShotResult.miss(new Position(COORD_NINE - 1, COORD_NINE)),
+                ShotResult.miss(new Position(COORD_NINE, COORD_NINE - 1)),
+                ShotResult.miss(new Position(COORD_NINE - 1, COORD_NINE - 1))), results);
+    }
+
+    @Test
+    void testBatchedShots() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        grid.placeShip(ship, new Position(COORD_ONE, COORD_ONE), CardinalDirection.RIGHT);
+        grid.receiveShot(new Position(COORD_TWO, COORD_TWO));
+        final ShotResultBuffer buffer = new ShotResultBuffer();
+
+        grid.receiveShots(new int[] {
+            ShotResultSink.pack(COORD_ONE, COORD_ONE),
+            ShotResultSink.pack(COORD_ONE, COORD_TWO),
+            ShotResultSink.pack(COORD_ONE, COORD_ONE),
+            ShotResultSink.pack(COORD_TWO, COORD_TWO),
+            ShotResultSink.pack(COORD_MINUS_ONE, COORD_ONE),
+            ShotResultSink.pack(COORD_TWO, COORD_ONE),
+        }, buffer);
+
+        assertEquals(BATCH_RESULTS, buffer.size());
+        assertEquals(HitType.HIT, buffer.hitType(0));
+        assertEquals(HitType.SUNK, buffer.hitType(1));
+        assertEquals(HitType.MISS, buffer.hitType(2));
+        assertEquals(new Position(COORD_TWO, COORD_ONE), buffer.position(2));
+        assertEquals(ship, grid.getShipById(buffer.shipId(1)).get());
+        assertTrue(grid.isDefeated());
+    }
+
+    @Test
+    void testChangeLog() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        final long initial = grid.getVersion();
+        grid.placeShip(ship, new Position(COORD_ONE, COORD_ONE), CardinalDirection.RIGHT);
+        final long placed = grid.getVersion();
+
+        assertTrue(placed > initial);
+        assertEquals(List.of(new Position(COORD_ONE, COORD_ONE), new Position(COORD_ONE, COORD_TWO)),
+                grid.getChangesSince(initial).get());
+        assertTrue(grid.getChangesSince(placed).get().isEmpty());
+
+        grid.receiveShot(new Position(COORD_ONE, COORD_TWO));
+        grid.getCell(new Position(COORD_FIVE, COORD_FIVE)).get().setScanResult(false);
+        assertEquals(List.of(new Position(COORD_ONE, COORD_TWO), new Position(COORD_FIVE, COORD_FIVE)),
+                grid.getChangesSince(placed).get());
+
+        final long beforeSunk = grid.getVersion();
+        grid.receiveShot(new Position(COORD_ONE, COORD_ONE));
+        assertTrue(grid.getChangesSince(beforeSunk).get().contains(new Position(COORD_ONE, COORD_TWO)));
+
+        assertThrows(IllegalArgumentException.class, () -> grid.getChangesSince(grid.getVersion() + 1));
+    }
+
+    @Test
+    void testSnapshots() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        grid.placeShip(ship, new Position(COORD_NINE, COORD_FIVE), CardinalDirection.RIGHT);
+        final GridSnapshot before = grid.snapshot();
+        final Position first = new Position(COORD_NINE, COORD_FIVE);
+        final Position second = new Position(COORD_NINE, COORD_SIX);
+
+        final GridSnapshot hit = before.withShot(first);
+        assertEquals(HitType.HIT, hit.getCellStatus(first));
+        assertEquals(HitType.NONE, before.getCellStatus(first));
+        assertEquals(HitType.SUNK, hit.withShot(second).getCellStatus(first));
+        assertTrue(hit.withShot(second).isDefeated());
+        assertEquals(TARGETS_MINUS_ONE, hit.getAvailableTargetCount());
+        assertThrows(IllegalArgumentException.class, () -> hit.withShot(first));
+        assertFalse(grid.isDefeated());
+        assertSame(before, grid.snapshot());
+
+        grid.receiveShot(first);
+        grid.receiveShot(new Position(COORD_ZERO, COORD_ZERO));
+        assertEquals(HitType.HIT, grid.snapshot().getCellStatus(first));
+        assertEquals(HitType.MISS, grid.snapshot().getCellStatus(new Position(COORD_ZERO, COORD_ZERO)));
+        assertEquals(1, grid.snapshot().getShipHealth(grid.snapshot().getShipId(second)));
+
+        grid.repair(first);
+        assertEquals(HitType.NONE, grid.snapshot().getCellStatus(first));
+        assertEquals(SHIP_SIZE_2, grid.snapshot().getShipHealth(grid.snapshot().getShipId(first)));
+
+        grid.removeShip(ship);
+        assertEquals(GridSnapshot.NO_SHIP, grid.snapshot().getShipId(first));
+        assertTrue(before.getShipId(first) != GridSnapshot.NO_SHIP);
+    }
+
+    /**
+     * Snapshots must find the cells of a sunk ship where the grid placed it last, also once derived by shooting.
+     */
+    @Test
+    void testSnapshotSunkShip() {
+        final Ship ship = new ShipImpl(SHIP_SIZE_2);
+        final Position first = new Position(COORD_ONE, COORD_ONE);
+        final Position second = new Position(COORD_TWO, COORD_ONE);
+        grid.placeShip(ship, new Position(COORD_ZERO, COORD_ZERO), CardinalDirection.RIGHT);
+        grid.snapshot();
+        grid.removeShip(ship);
+        grid.placeShip(ship, first, CardinalDirection.DOWN);
+
+        final GridSnapshot afloat = grid.snapshot();
+        final GridSnapshot sunk = afloat.withShot(first).withShot(second);
+        assertTrue(afloat.getSunkShipPositions(first).isEmpty());
+        assertEquals(List.of(first, second), sunk.getSunkShipPositions(second));
+        assertEquals(List.of(first, second), grid.getShipPositions(ship));
+    }
+
+    /**
+     * Live grids and their snapshots must answer the same as views of the board.
+     */
+    @Test
+    void testGridViews() {
+        final Position first = new Position(COORD_NINE, COORD_FIVE);
+        final Position second = new Position(COORD_NINE, COORD_SIX);
+        grid.placeShip(new ShipImpl(SHIP_SIZE_2), first, CardinalDirection.RIGHT);
+        grid.receiveShot(first);
+        assertEquals(HitType.HIT, grid.getCellStatus(first));
+        assertTrue(grid.getSunkShipPositions(first).isEmpty());
+        assertEquals(0, grid.getSunkShipCells(first, new int[SHIP_SIZE_2]));
+        grid.receiveShot(second);
+
+        for (final GridView view : List.of(grid, grid.snapshot())) {
+            assertEquals(HitType.SUNK, view.getCellStatus(first));
+            assertEquals(HitType.NONE, view.getCellStatus(new Position(COORD_ZERO, COORD_ZERO)));
+            assertEquals(HitType.INVALID, view.getCellStatus(new Position(COORD_MINUS_ONE, COORD_ZERO)));
+            assertEquals(List.of(first, second), view.getSunkShipPositions(second));
+            final int[] cells = new int[SHIP_SIZE_2];
+            assertEquals(SHIP_SIZE_2, view.getSunkShipCells(second, cells));
+            assertArrayEquals(new int[] {first.index(view.getSize()), second.index(view.getSize())}, cells);
+        }
+        for (final Position target : grid.getAvailableTargets()) {
+            if (!target.equals(new Position(COORD_ZERO, COORD_ZERO))) {
+                grid.receiveShot(target);
+            }
+        }
+        assertEquals(new Position(COORD_ZERO, COORD_ZERO), grid.snapshot().getRandomAvailableTarget(new Random()));
+    }
+
+    /**
+     * Shooting through a sink must not allocate, also on grids whose snapshot has been taken:
+     * the snapshot is only brought up to date when it is asked for again.
+     */
+    @Test
+    void testSinkShotsDoNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported());
+        final ThreadMXBean allocations = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final List<Position> targets = grid.getAvailableTargets();
+
+        shootAll(fleetGrids(ALLOCATION_GRIDS), targets);
+        final List<Grid> grids = fleetGrids(ALLOCATION_GRIDS);
+        final long before = allocations.getCurrentThreadAllocatedBytes();
+        shootAll(grids, targets);
+        final long allocated = allocations.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < (long) ALLOCATION_GRIDS * TOTAL_CELLS, allocated + " bytes allocated");
+        assertTrue(grids.get(0).isDefeated());
+        assertTrue(grids.get(0).snapshot().isDefeated());
+    }
+
+    private List<Grid> fleetGrids(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            final Grid fleet = createGrid();
+            fleet.placeShip(new ShipImpl(SHIP_SIZE_3), new Position(COORD_ZERO, COORD_ZERO), CardinalDirection.RIGHT);
+            fleet.placeShip(new ShipImpl(SHIP_SIZE_2), new Position(COORD_FIVE, COORD_FIVE), CardinalDirection.DOWN);
+            fleet.snapshot();
+            return fleet;
+        }).toList();
+    }
+
+    private static void shootAll(final List<Grid> grids, final List<Position> targets) {
+        for (final Grid fleet : grids) {
+            for (final Position target : targets) {
+                fleet.receiveShot(target, ShotResultSink.DISCARD);
+            }
+        }
+    }
+
+    /**
+     * A grid read back from its serialized form must still find its ships and keep its snapshots up to date.
+     */
+    @Test
+    void testSerialization() throws IOException, ClassNotFoundException {
+        final Position first = new Position(COORD_ONE, COORD_ONE);
+        final Position second = new Position(COORD_ONE, COORD_TWO);
+        grid.placeShip(new ShipImpl(SHIP_SIZE_2), first, CardinalDirection.RIGHT);
+        grid.receiveShot(first);
+        grid.snapshot();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(grid);
+        }
+        final Grid restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (Grid) in.readObject();
+        }
+
+        final Ship ship = restored.getFleet().getShips().get(0);
+        assertEquals(List.of(first, second), restored.getShipPositions(ship));
+        assertEquals(HitType.HIT, restored.snapshot().getCellStatus(first));
+        assertEquals(HitType.SUNK, restored.receiveShot(second).hitType());
+        assertTrue(restored.snapshot().isDefeated());
+        restored.removeShip(ship);
+        assertTrue(restored.getOccupiedPositions().isEmpty());
+    }
+
+    @Test
+    void testPlacementTable() {
+        final PlacementTable table = PlacementTable.of(COORD_TEN);
+        assertSame(table, PlacementTable.of(COORD_TEN));
+        assertEquals(SIZE_2_PLACEMENTS, table.getPlacementCount(SHIP_SIZE_2));
+        assertEquals(CORNER_COVERING, table.getCoveringCount(COORD_ZERO));
+
+        final int down = table.find(SHIP_SIZE_3, new Position(COORD_ONE, COORD_FOUR), CardinalDirection.DOWN);
+        assertEquals(down, table.find(SHIP_SIZE_3, new Position(COORD_THREE, COORD_FOUR), CardinalDirection.UP));
+        assertEquals(new Position(COORD_ONE, COORD_FOUR), table.getStart(down));
+        assertEquals(CardinalDirection.DOWN, table.getDirection(down));
+        assertEquals(PlacementTable.NONE,
+                table.find(SHIP_SIZE_3, new Position(COORD_NINE, COORD_NINE), CardinalDirection.RIGHT));
+
+        final long[] occupied = table.newBitset();
+        table.occupyCell(occupied, new Position(COORD_TWO, COORD_FOUR).index(COORD_TEN));
+        assertFalse(table.fits(occupied, down));
+        grid.placeShip(new ShipImpl(SHIP_SIZE_2), new Position(COORD_TWO, COORD_FOUR), CardinalDirection.LEFT);
+        assertFalse(grid.isPlacementValid(new ShipImpl(SHIP_SIZE_3), new Position(COORD_ONE, COORD_FOUR),
+                CardinalDirection.DOWN));
+        assertTrue(grid.isPlacementValid(new ShipImpl(SHIP_SIZE_3), new Position(COORD_THREE, COORD_FOUR),
+                CardinalDirection.DOWN));
+
+        final Random random = new Random(COORD_SIX);
+        for (int i = 0; i < COORD_TEN; i++) {
+            final int placement = table.randomPlacement(occupied, SHIP_SIZE_3, random);
+            assertTrue(table.fits(occupied, placement));
+            table.occupy(occupied, placement);
+        }
+        assertThrows(IllegalArgumentException.class, () -> PlacementTable.of(LARGE_SIZE));
+        assertFalse(PlacementTable.isSupported(LARGE_SIZE));
+    }
 }
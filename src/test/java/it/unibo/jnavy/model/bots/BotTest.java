@@ -1,29 +1,51 @@
 package it.unibo.jnavy.model.bots;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import it.unibo.jnavy.model.cell.Cell;
 import it.unibo.jnavy.model.grid.Grid;
 import it.unibo.jnavy.model.grid.GridImpl;
+import it.unibo.jnavy.model.grid.GridView;
+import it.unibo.jnavy.model.player.Bot;
 import it.unibo.jnavy.model.ship.Ship;
 import it.unibo.jnavy.model.ship.ShipImpl;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.HitType;
 import it.unibo.jnavy.model.utilities.Position;
+import it.unibo.jnavy.model.utilities.RandomSource;
+import it.unibo.jnavy.model.utilities.ShotResultSink;
+import it.unibo.jnavy.model.weather.WeatherCondition;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Test class for {@link BotStrategy}
  * This class verifies the behavior of the different bot strategies.
- * It covers BeginnerBot, ProBot and SniperBot logics.
+ * It covers the BeginnerBot, ProBot, DensityBot, MonteCarloBot, TreeSearchBot and SniperBot logics,
+ * as well as the EndgameSolver, the transposition cache, the placement prior and the asynchronous selection.
  */
 class BotTest {
 
@@ -35,11 +57,26 @@ class BotTest {
     private static final int COORD_FIVE = 5;
     private static final int COORD_SIX = 6;
     private static final int COORD_SEVEN = 7;
+    private static final int COORD_EIGHT = 8;
+    private static final int COORD_NINE = 9;
 
     private static final int SHIP_SIZE = 3;
+    private static final int FLAGSHIP_SIZE = 5;
     private static final int MAX_ITERATIONS = 100;
     private static final int MIN_HITS = 50;
     private static final int ADJACENT_DISTANCE = 1;
+    private static final int MAX_SHOTS = 60;
+    private static final int CHASE_SHOTS = 7;
+    private static final int HUNTING_TURNS = 40;
+    private static final Duration SAMPLING_BUDGET = Duration.ofMillis(20);
+    private static final int SAMPLES = 2000;
+    private static final Duration SLOW_BUDGET = Duration.ofSeconds(30);
+    private static final Duration ASYNC_DEADLINE = Duration.ofMillis(50);
+    private static final long ASYNC_TIMEOUT_SECONDS = 5;
+    private static final long RELEASE_MILLIS = 200;
+    private static final int CACHE_CAPACITY = 16;
+    private static final int CACHE_ENTRIES = 100;
+    private static final double PRIOR_WEIGHT = 100;
 
     private Grid grid;
 
@@ -76,6 +113,33 @@ class BotTest {
         assertTrue(this.grid.isPositionValid(randomTarget));
     }
 
+    /**
+     * Test for {@link ProBot} HUNTING phase on a live grid.
+     * Once the bot has warmed up, a hunting turn, including the check of its endgame solver, allocates nothing.
+     */
+    @Test
+    void testProBotHuntingDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported());
+        final ThreadMXBean allocations = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final BotStrategy bot = new ProBot();
+
+        hunt(bot, HUNTING_TURNS);
+        final long before = allocations.getCurrentThreadAllocatedBytes();
+        hunt(bot, HUNTING_TURNS);
+        final long allocated = allocations.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < HUNTING_TURNS, allocated + " bytes allocated");
+    }
+
+    private void hunt(final BotStrategy bot, final int turns) {
+        for (int i = 0; i < turns; i++) {
+            final Position target = bot.selectTarget(this.grid);
+            this.grid.receiveShot(target, ShotResultSink.DISCARD);
+            bot.lastShotFeedback(target, HitType.MISS);
+        }
+    }
+
     /**
      * Test for {@link ProBot} SEEKING phase.
      * After a HIT, the bot should target an adjacent cell.
@@ -151,6 +215,372 @@ class BotTest {
         assertEquals(new Position(COORD_FIVE, COORD_FOUR), reverseTarget);
     }
 
+    /**
+     * Test for {@link ProBot} in the fog.
+     * A hit deviated away from the aimed cell must not set the direction of the chase.
+     */
+    @Test
+    void testProBotDeviatedHit() {
+        final BotStrategy bot = new ProBot();
+
+        final Position firstHit = new Position(COORD_FIVE, COORD_FIVE);
+        this.grid.receiveShot(firstHit);
+        bot.lastShotFeedback(firstHit, HitType.HIT);
+
+        final Position aimed = bot.selectTarget(this.grid);
+        final Position deviated = new Position(COORD_SEVEN, COORD_SEVEN);
+        this.grid.receiveShot(deviated);
+        bot.lastShotFeedback(deviated, HitType.HIT);
+        assertEquals(aimed, bot.selectTarget(this.grid));
+    }
+
+    /**
+     * Test for {@link ProBot} frontier.
+     * A second ship hit while chasing the first one should be chased as soon as the first sinks.
+     */
+    @Test
+    void testProBotChasesPendingHit() {
+        final BotStrategy bot = new ProBot();
+        this.grid.placeShip(new ShipImpl(COORD_TWO), new Position(COORD_TWO, COORD_TWO), CardinalDirection.RIGHT);
+        this.grid.placeShip(new ShipImpl(SHIP_SIZE), new Position(COORD_SIX, COORD_SIX), CardinalDirection.DOWN);
+
+        final Position firstHit = new Position(COORD_TWO, COORD_TWO);
+        bot.lastShotFeedback(firstHit, this.grid.receiveShot(firstHit).hitType());
+        bot.selectTarget(this.grid);
+        final Position otherShip = new Position(COORD_SIX, COORD_SIX);
+        bot.lastShotFeedback(otherShip, this.grid.receiveShot(otherShip).hitType());
+        final Position lastHit = new Position(COORD_TWO, COORD_THREE);
+        bot.lastShotFeedback(lastHit, this.grid.receiveShot(lastHit).hitType());
+
+        int shots = 0;
+        HitType result = HitType.NONE;
+        while (result != HitType.SUNK && shots < CHASE_SHOTS) {
+            final Position target = bot.selectTarget(this.grid);
+            assertTrue(this.grid.isTargetValid(target));
+            result = this.grid.receiveShot(target).hitType();
+            bot.lastShotFeedback(target, result);
+            shots++;
+        }
+        assertEquals(HitType.SUNK, this.grid.getCellStatus(otherShip));
+    }
+
+    /**
+     * Test for {@link ProBot} frontier cleanup.
+     * When the ship being chased is sunk by a shot deviated by the fog, the bot should forget it
+     * together with its hits, and move on to the other ship it hit.
+     */
+    @Test
+    void testProBotForgetsSunkHits() {
+        final BotStrategy bot = new ProBot();
+        this.grid.placeShip(new ShipImpl(COORD_TWO), new Position(COORD_TWO, COORD_TWO), CardinalDirection.RIGHT);
+        this.grid.placeShip(new ShipImpl(SHIP_SIZE), new Position(COORD_SIX, COORD_SIX), CardinalDirection.DOWN);
+
+        final Position firstHit = new Position(COORD_TWO, COORD_TWO);
+        bot.lastShotFeedback(firstHit, this.grid.receiveShot(firstHit).hitType());
+        bot.selectTarget(this.grid);
+        final Position otherShip = new Position(COORD_SIX, COORD_SIX);
+        bot.lastShotFeedback(otherShip, this.grid.receiveShot(otherShip).hitType());
+
+        final Position aimed = bot.selectTarget(this.grid);
+        final Position deviated = new Position(COORD_TWO, COORD_THREE);
+        assertNotEquals(aimed, deviated);
+        final HitType result = this.grid.receiveShot(deviated).hitType();
+        assertEquals(HitType.SUNK, result);
+        bot.lastShotFeedback(deviated, result);
+
+        assertTrue(isNear(otherShip, bot.selectTarget(this.grid)));
+    }
+
+    /**
+     * Test for {@link DensityBot}.
+     * After a hit it should look for the rest of the ship around it,
+     * and its placement counts should sink a hidden ship without ever repeating a target.
+     */
+    @Test
+    void testDensityBot() {
+        final BotStrategy bot = new DensityBot();
+        final Position firstHit = new Position(COORD_FIVE, COORD_FIVE);
+        bot.selectTarget(this.grid);
+        this.grid.receiveShot(firstHit);
+        bot.lastShotFeedback(firstHit, HitType.HIT);
+        assertTrue(isNear(firstHit, bot.selectTarget(this.grid)));
+
+        assertSinksHiddenShip(new DensityBot(), new Position(COORD_TWO, COORD_SEVEN), CardinalDirection.DOWN);
+    }
+
+    /**
+     * Test for {@link DensityBot#placementPrior(double[])}.
+     * A cell the opponent used far more often than the others should be the first hunting shot,
+     * even in a corner where few placements fit.
+     */
+    @Test
+    void testDensityBotPrior() {
+        final double[] weights = new double[this.grid.getSize() * this.grid.getSize()];
+        Arrays.fill(weights, 1);
+        weights[0] = PRIOR_WEIGHT;
+        final BotStrategy bot = new DensityBot();
+        bot.placementPrior(weights);
+        assertEquals(new Position(COORD_ZERO, COORD_ZERO), bot.selectTarget(this.grid));
+    }
+
+    /**
+     * Test for {@link MonteCarloBot}.
+     * Sampled layouts must explain the hit, so the next shot is next to it,
+     * and the bot should sink a hidden ship without ever repeating a target.
+     */
+    @Test
+    void testMonteCarloBot() {
+        final BotStrategy bot = new MonteCarloBot(SAMPLING_BUDGET, SAMPLES);
+        final Position firstHit = new Position(COORD_FIVE, COORD_FIVE);
+        bot.selectTarget(this.grid);
+        this.grid.receiveShot(firstHit);
+        bot.lastShotFeedback(firstHit, HitType.HIT);
+        assertTrue(isNear(firstHit, bot.selectTarget(this.grid)));
+
+        assertSinksHiddenShip(new MonteCarloBot(SAMPLING_BUDGET, SAMPLES),
+                new Position(COORD_SIX, COORD_ONE), CardinalDirection.RIGHT);
+    }
+
+    /**
+     * Test for {@link TreeSearchBot}.
+     * The search should chase a hit, also in the fog, and sink a hidden ship without repeating a target.
+     */
+    @Test
+    void testTreeSearchBot() {
+        final BotStrategy bot = new TreeSearchBot(SAMPLING_BUDGET, SAMPLES);
+        final Position firstHit = new Position(COORD_FIVE, COORD_FIVE);
+        bot.weatherUpdate(WeatherCondition.FOG);
+        bot.selectTarget(this.grid);
+        this.grid.receiveShot(firstHit);
+        bot.lastShotFeedback(firstHit, HitType.HIT);
+        final Position next = bot.selectTarget(this.grid);
+        assertTrue(Math.abs(next.x() - COORD_FIVE) <= ADJACENT_DISTANCE
+                && Math.abs(next.y() - COORD_FIVE) <= ADJACENT_DISTANCE);
+
+        assertSinksHiddenShip(new TreeSearchBot(SAMPLING_BUDGET, SAMPLES),
+                new Position(COORD_THREE, COORD_ZERO), CardinalDirection.DOWN);
+    }
+
+    /**
+     * Test for {@link EndgameSolver}.
+     * An open board is left to the bot, while the last ship hidden in a corner
+     * of an otherwise explored board is sunk by the solver alone.
+     */
+    @Test
+    void testEndgameSolver() {
+        final Grid enemyGrid = new GridImpl();
+        enemyGrid.placeShip(new ShipImpl(FLAGSHIP_SIZE), new Position(COORD_ZERO, COORD_ZERO), CardinalDirection.RIGHT);
+        enemyGrid.placeShip(new ShipImpl(COORD_FOUR), new Position(COORD_TWO, COORD_SIX), CardinalDirection.DOWN);
+        enemyGrid.placeShip(new ShipImpl(SHIP_SIZE), new Position(COORD_SEVEN, COORD_ONE), CardinalDirection.RIGHT);
+        enemyGrid.placeShip(new ShipImpl(SHIP_SIZE), new Position(COORD_FOUR, COORD_TWO), CardinalDirection.DOWN);
+        enemyGrid.placeShip(new ShipImpl(COORD_TWO), new Position(COORD_NINE, COORD_EIGHT), CardinalDirection.RIGHT);
+        final EndgameSolver solver = new EndgameSolver();
+        assertTrue(solver.bestShot(enemyGrid).isEmpty());
+
+        for (int x = 0; x < enemyGrid.getSize(); x++) {
+            for (int y = 0; y < enemyGrid.getSize(); y++) {
+                if (x < COORD_NINE || y < COORD_FIVE) {
+                    final Position target = new Position(x, y);
+                    solver.record(target, enemyGrid.receiveShot(target).hitType());
+                }
+            }
+        }
+        int shots = 0;
+        HitType result = HitType.NONE;
+        while (result != HitType.SUNK && shots < COORD_FOUR) {
+            final Optional<Position> target = solver.bestShot(enemyGrid);
+            assertTrue(target.isPresent());
+            assertTrue(enemyGrid.isTargetValid(target.get()));
+            result = enemyGrid.receiveShot(target.get()).hitType();
+            solver.record(target.get(), result);
+            shots++;
+        }
+        assertEquals(HitType.SUNK, result);
+    }
+
+    /**
+     * Test for {@link BotStrategy#isolateCaches()}.
+     * Seeded bots with isolated caches make the same choice whatever other bots have cached for the same state.
+     */
+    @Test
+    void testIsolatedCachesAreReproducible() {
+        final BotStrategy other = new MonteCarloBot(SLOW_BUDGET, SAMPLES);
+        other.setRandomSource(RandomSource.of(CACHE_ENTRIES));
+        other.selectTarget(this.grid);
+
+        assertEquals(seededMonteCarlo().selectTarget(this.grid), seededMonteCarlo().selectTarget(this.grid));
+    }
+
+    private static BotStrategy seededMonteCarlo() {
+        final BotStrategy bot = new MonteCarloBot(SLOW_BUDGET, SAMPLES);
+        bot.setRandomSource(RandomSource.of(CACHE_CAPACITY));
+        bot.isolateCaches();
+        return bot;
+    }
+
+    /**
+     * Test for {@link BotStrategy#selectTargetAsync(GridView, Deadline)}.
+     * A search with a long budget must stop at the deadline. A strategy that ignores the interruption
+     * or dies with an error must give no target, leaving the replacement to the caller, in time all the same.
+     *
+     * @throws ExecutionException if the selection fails.
+     * @throws InterruptedException if the test is interrupted while waiting.
+     * @throws TimeoutException if the selection does not respect the deadline.
+     */
+    @Test
+    void testAsyncSelection() throws ExecutionException, InterruptedException, TimeoutException {
+        final BotStrategy searcher = new MonteCarloBot(SLOW_BUDGET, Integer.MAX_VALUE);
+        final CompletableFuture<Position> searched = searcher.selectTargetAsync(this.grid.snapshot(),
+                Deadline.after(ASYNC_DEADLINE));
+        assertTrue(this.grid.isTargetValid(searched.get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final BotStrategy stubborn = decider(enemyGrid -> {
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (final InterruptedException ex) {
+                    continue;
+                }
+            }
+        });
+        final CompletableFuture<Position> late = stubborn.selectTargetAsync(this.grid.snapshot(),
+                Deadline.after(ASYNC_DEADLINE));
+        assertNull(late.get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        release.countDown();
+
+        final BotStrategy broken = decider(enemyGrid -> {
+            throw new StackOverflowError();
+        });
+        final CompletableFuture<Position> recovered = broken.selectTargetAsync(this.grid.snapshot(),
+                Deadline.after(SLOW_BUDGET));
+        assertNull(recovered.get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test for {@link BotExecutor} seen through a {@link Bot}.
+     * A decision still running after a replacement shot has been played must not see feedback or another decision
+     * of the same strategy until it ends.
+     *
+     * @throws ExecutionException if the selection fails.
+     * @throws InterruptedException if the test is interrupted while waiting.
+     * @throws TimeoutException if the selection does not respect the deadline.
+     */
+    @Test
+    void testLateDecisionIsNotOverlapped() throws ExecutionException, InterruptedException, TimeoutException {
+        final SlowStrategy slow = new SlowStrategy();
+        final Bot bot = new Bot(slow);
+        final Optional<Position> late = bot.generateTargetAsync(this.grid, Deadline.after(ASYNC_DEADLINE))
+                .get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(late.isEmpty());
+        final Position replacement = this.grid.getRandomAvailableTarget(new SplittableRandom(RELEASE_MILLIS));
+
+        CompletableFuture.runAsync(slow.release::countDown,
+                CompletableFuture.delayedExecutor(RELEASE_MILLIS, TimeUnit.MILLISECONDS));
+        bot.receiveFeedback(replacement, this.grid.receiveShot(replacement).hitType());
+        assertEquals(1, slow.feedbacks.get());
+        final Optional<Position> next = bot.generateTargetAsync(this.grid, Deadline.after(SLOW_BUDGET))
+                .get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(next.isPresent() && this.grid.isTargetValid(next.get()));
+        assertEquals(0, slow.overlaps.get());
+    }
+
+    /**
+     * A strategy whose decisions ignore interruptions and only end once released,
+     * counting the calls that reach it while a decision is running.
+     */
+    private static final class SlowStrategy extends AbstractBotStrategy {
+
+        @java.io.Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient CountDownLatch release = new CountDownLatch(1);
+        private final transient AtomicBoolean deciding = new AtomicBoolean();
+        private final transient AtomicInteger overlaps = new AtomicInteger();
+        private final transient AtomicInteger feedbacks = new AtomicInteger();
+
+        @Override
+        public Position selectTarget(final GridView enemyGrid) {
+            if (this.deciding.getAndSet(true)) {
+                this.overlaps.incrementAndGet();
+            }
+            boolean released = false;
+            while (!released) {
+                try {
+                    released = this.release.await(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    continue;
+                }
+            }
+            this.deciding.set(false);
+            return getRandomValidPosition(enemyGrid);
+        }
+
+        @Override
+        public void lastShotFeedback(final Position target, final HitType result) {
+            if (this.deciding.get()) {
+                this.overlaps.incrementAndGet();
+            }
+            this.feedbacks.incrementAndGet();
+        }
+
+        @Override
+        protected String getStrategyName() {
+            return "Slow";
+        }
+    }
+
+    private static BotStrategy decider(final Function<GridView, Position> decision) {
+        return new BotStrategy() {
+            @java.io.Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Position selectTarget(final GridView enemyGrid) {
+                return decision.apply(enemyGrid);
+            }
+
+            @Override
+            public String getStrategy() {
+                return "Test";
+            }
+        };
+    }
+
+    /**
+     * Test for {@link ShotKnowledge#hash()} and {@link TranspositionCache}.
+     * The same knowledge reached through shots in a different order must have the same hash,
+     * and the cache must keep the latest entries within its capacity.
+     */
+    @Test
+    void testTranspositionCache() {
+        final Position miss = new Position(COORD_ONE, COORD_TWO);
+        final Position hit = new Position(COORD_SIX, COORD_THREE);
+        final ShotKnowledge first = new ShotKnowledge();
+        first.sync(this.grid);
+        first.record(miss, HitType.MISS);
+        first.record(hit, HitType.HIT);
+        final ShotKnowledge second = new ShotKnowledge();
+        second.sync(this.grid);
+        second.record(hit, HitType.HIT);
+        final long partial = second.hash();
+        second.record(miss, HitType.MISS);
+        assertEquals(first.hash(), second.hash());
+        assertNotEquals(partial, second.hash());
+
+        final TranspositionCache<Long> cache = new TranspositionCache<>(CACHE_CAPACITY);
+        final SplittableRandom random = new SplittableRandom(CACHE_ENTRIES);
+        long last = 0;
+        for (int i = 0; i < CACHE_ENTRIES; i++) {
+            last = random.nextLong();
+            cache.put(last, last);
+        }
+        assertEquals(CACHE_CAPACITY, cache.size());
+        assertEquals(Optional.of(last), cache.get(last));
+        assertEquals(Optional.empty(), cache.get(partial));
+    }
+
     /**
      * Test for {@link SniperBot}.
      * SniperBot has an 18% chance to miss.
@@ -185,6 +615,30 @@ class BotTest {
      * @param second position to use for distance calcs.
      * @return true if the two positions are adjacent.
      */
+    /**
+     * Hides a single ship on an empty grid and lets a bot hunt it.
+     * The bot must sink it within {@link #MAX_SHOTS} shots without ever choosing an invalid target.
+     *
+     * @param hunter the bot under test
+     * @param start the first cell of the ship
+     * @param direction the direction the ship extends towards
+     */
+    private static void assertSinksHiddenShip(final BotStrategy hunter, final Position start,
+                                              final CardinalDirection direction) {
+        final Grid enemyGrid = new GridImpl();
+        enemyGrid.placeShip(new ShipImpl(SHIP_SIZE), start, direction);
+        int shots = 0;
+        HitType result = HitType.NONE;
+        while (result != HitType.SUNK && shots < MAX_SHOTS) {
+            final Position target = hunter.selectTarget(enemyGrid);
+            assertTrue(enemyGrid.isTargetValid(target));
+            result = enemyGrid.receiveShot(target).hitType();
+            hunter.lastShotFeedback(target, result);
+            shots++;
+        }
+        assertEquals(HitType.SUNK, result);
+    }
+
     private boolean isNear(final Position first, final Position second) {
         final int distanceX = Math.abs(first.x() - second.x());
         final int distanceY = Math.abs(first.y() - second.y());
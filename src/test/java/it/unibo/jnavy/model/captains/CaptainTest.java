@@ -13,7 +13,6 @@ import it.unibo.jnavy.model.grid.GridImpl;
 import it.unibo.jnavy.model.ship.ShipImpl;
 import it.unibo.jnavy.model.utilities.CardinalDirection;
 import it.unibo.jnavy.model.utilities.Position;
-import it.unibo.jnavy.model.weather.WeatherManagerImpl;
 
 /**
  * Test class for {@link Captain}
@@ -43,7 +42,6 @@ class CaptainTest {
     void setUp() {
         this.grid = new GridImpl();
         this.grid.placeShip(new ShipImpl(SHIP_SIZE), position, CardinalDirection.DOWN);
-        WeatherManagerImpl.getInstance().reset();
         this.captain = new Engineer();
     }
 
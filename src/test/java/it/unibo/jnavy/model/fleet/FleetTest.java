@@ -120,4 +120,31 @@ class FleetTest {
         assertFalse(fleet.getShips().contains(ship), "Fleet should not contain the ship after removal");
         assertEquals(ZERO_SHIPS, fleet.getShips().size(), "Fleet should be empty after removing the only ship");
     }
+
+    @Test
+    void testStatsFollowShipStatus() {
+        final ShipImpl small = new ShipImpl(SHIP_SIZE_2);
+        final ShipImpl big = new ShipImpl(SHIP_SIZE_5);
+        fleet.addShip(small);
+        fleet.addShip(big);
+        final FleetStats stats = fleet.getStats();
+
+        assertEquals(SHIP_SIZE_2 + SHIP_SIZE_5, stats.getRemainingHullPoints());
+        assertEquals(ONE_SHIP, stats.getShipCount(SHIP_SIZE_2));
+
+        small.hit();
+        assertEquals(SHIP_SIZE_2 + SHIP_SIZE_5 - 1, stats.getRemainingHullPoints());
+        small.repair();
+        small.hit();
+        small.hit();
+
+        assertEquals(ONE_SHIP, stats.getShipsAlive());
+        assertEquals(ONE_SHIP, stats.getShipsSunk());
+        assertEquals(ZERO_SHIPS, stats.getShipsAlive(SHIP_SIZE_2));
+        assertEquals(SHIP_SIZE_5, stats.getRemainingHullPoints());
+
+        fleet.removeShip(big);
+        assertEquals(ZERO_SHIPS, stats.getShipsAlive());
+        assertTrue(fleet.isDefeated(), "The fleet should be defeated once the last ship afloat is removed");
+    }
 }
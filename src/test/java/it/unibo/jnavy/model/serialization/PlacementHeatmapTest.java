@@ -0,0 +1,69 @@
+package it.unibo.jnavy.model.serialization;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.jnavy.model.utilities.Position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link PlacementHeatmapImpl}.
+ */
+final class PlacementHeatmapTest {
+
+    private static final int GRID_SIZE = 10;
+    private static final int GAMES = 5;
+    private static final int CELLS = GRID_SIZE * GRID_SIZE;
+    private static final double TOLERANCE = 1e-6;
+
+    private static final List<Position> FLEET = List.of(
+            new Position(0, 0), new Position(0, 1), new Position(0, 2));
+
+    /**
+     * An empty heatmap gives no prior, while recorded games are kept on disk
+     * and favour the cells the fleet occupied, with weights of mean 1.
+     *
+     * @param directory the directory of the heatmap file.
+     */
+    @Test
+    void testRecordAndReload(@TempDir final Path directory) {
+        final PlacementHeatmap heatmap = new PlacementHeatmapImpl(GRID_SIZE, directory);
+        assertEquals(Optional.empty(), heatmap.weights());
+        for (int i = 0; i < GAMES; i++) {
+            heatmap.record(FLEET);
+        }
+
+        final double[] weights = new PlacementHeatmapImpl(GRID_SIZE, directory).weights().orElseThrow();
+        assertEquals(CELLS, weights.length);
+        double total = 0;
+        for (final double weight : weights) {
+            total += weight;
+        }
+        assertEquals(CELLS, total, TOLERANCE * CELLS);
+        assertTrue(weights[0] > 1);
+        assertTrue(weights[CELLS - 1] < 1);
+    }
+
+    /**
+     * A file that does not describe a heatmap of the board is reset instead of being trusted.
+     *
+     * @param directory the directory of the heatmap file.
+     * @throws IOException if the file cannot be written.
+     */
+    @Test
+    void testCorruptedFile(@TempDir final Path directory) throws IOException {
+        Files.write(directory.resolve("placement_heatmap_" + GRID_SIZE + ".dat"), new byte[CELLS]);
+        final PlacementHeatmap heatmap = new PlacementHeatmapImpl(GRID_SIZE, directory);
+        assertEquals(Optional.empty(), heatmap.weights());
+        heatmap.record(FLEET);
+        assertTrue(heatmap.weights().isPresent());
+    }
+}
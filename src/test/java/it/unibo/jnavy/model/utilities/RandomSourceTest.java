@@ -0,0 +1,79 @@
+package it.unibo.jnavy.model.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link RandomSource}.
+ * It verifies that sources are reproducible by seed, that splits are independent
+ * and that a serialized source resumes its sequence.
+ */
+class RandomSourceTest {
+
+    private static final long SEED = 42;
+    private static final int DRAWS = 1000;
+    private static final int BOUND = 10;
+
+    @Test
+    void testSameSeedSameSequence() {
+        final RandomSource first = RandomSource.of(SEED);
+        final RandomSource second = RandomSource.of(SEED);
+        for (int i = 0; i < DRAWS; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertNotEquals(RandomSource.of(SEED).nextLong(), RandomSource.of(SEED + 1).nextLong());
+    }
+
+    @Test
+    void testSplitsAreIndependent() {
+        final RandomSource parent = RandomSource.of(SEED);
+        final RandomSource child = parent.split();
+        final RandomSource sibling = parent.split();
+        int equal = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            final long value = child.nextLong();
+            if (value == parent.nextLong() || value == sibling.nextLong()) {
+                equal++;
+            }
+        }
+        assertEquals(0, equal);
+
+        assertEquals(RandomSource.of(SEED, BOUND).nextLong(), RandomSource.of(SEED, BOUND).nextLong());
+        assertNotEquals(RandomSource.of(SEED, 0).nextLong(), RandomSource.of(SEED, 1).nextLong());
+    }
+
+    @Test
+    void testBoundedDraws() {
+        final RandomSource random = RandomSource.create();
+        final int[] counts = new int[BOUND];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[random.nextInt(BOUND)]++;
+        }
+        for (final int count : counts) {
+            assertTrue(count > 0);
+        }
+    }
+
+    @Test
+    void testSerializationResumesSequence() throws IOException, ClassNotFoundException {
+        final RandomSource random = RandomSource.of(SEED);
+        random.nextLong();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(random);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final RandomSource copy = (RandomSource) in.readObject();
+            assertEquals(random.nextLong(), copy.nextLong());
+        }
+    }
+}
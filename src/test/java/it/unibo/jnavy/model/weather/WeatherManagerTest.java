@@ -1,5 +1,11 @@
 package it.unibo.jnavy.model.weather;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import it.unibo.jnavy.model.grid.Grid;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +17,8 @@ import it.unibo.jnavy.model.utilities.ShotResult;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test class for {@link WeatherManagerImpl}.
@@ -28,19 +36,20 @@ final class WeatherManagerTest {
     private static final int COORD_TWO = 2;
     private static final int COORD_THREE = 3;
     private static final int COORD_FIVE = 5;
+    private static final int GRID_SIZE = 10;
+    private static final int CORNER_NEIGHBOURHOOD = 4;
+    private static final int FULL_NEIGHBOURHOOD = 9;
 
     private WeatherManager weatherManager;
 
     /**
      * Sets up the test environment before each test.
-     * Retries the WeatherManager singleton instance and resets its internal state.
-     * This ensures that every test starts with a clean state
+     * Creates the weather manager of a new game, so that every test starts with a clean state
      * (SUNNY weather, turn counter at 0).
      */
     @BeforeEach
     void setUp() {
-        this.weatherManager = WeatherManagerImpl.getInstance();
-        ((WeatherManagerImpl) this.weatherManager).reset();
+        this.weatherManager = new WeatherManagerImpl();
     }
 
     /**
@@ -170,10 +179,64 @@ final class WeatherManagerTest {
         assertEquals(new Position(COORD_ONE, COORD_ONE), shotResult.position());
     }
 
+    /**
+     * Verifies that the {@link FogKernel} clips neighbourhoods to the board and aims where
+     * a deviated shot is most likely to land on weighted cells, counting only open cells.
+     */
     @Test
-    void testReset() {
+    void testFogKernel() {
+        final FogKernel kernel = FogKernel.of(GRID_SIZE);
+        final int corner = 0;
+        final int centre = COORD_FIVE * GRID_SIZE + COORD_FIVE;
+        assertEquals(CORNER_NEIGHBOURHOOD, kernel.getNeighbourCount(corner));
+        assertEquals(FULL_NEIGHBOURHOOD, kernel.getNeighbourCount(centre));
+        assertSame(kernel, FogKernel.of(GRID_SIZE));
+
+        final int target = COORD_ONE * GRID_SIZE + COORD_ONE;
+        assertEquals(corner, kernel.bestAim(cell -> cell / GRID_SIZE <= COORD_ONE && cell % GRID_SIZE <= COORD_ONE
+                ? 1 : 0, cell -> true));
+        final int aim = kernel.bestAim(cell -> cell == target ? 1 : 0,
+                cell -> cell != corner && cell != COORD_ONE && cell != GRID_SIZE);
+        assertTrue(Math.abs(aim / GRID_SIZE - COORD_ONE) <= MAX_DEVIATION
+                && Math.abs(aim % GRID_SIZE - COORD_ONE) <= MAX_DEVIATION);
+        assertTrue(aim != target);
+    }
+
+    /**
+     * Verifies that the weather of a game does not leak into the weather of another one.
+     */
+    @Test
+    void testGamesHaveIndependentWeather() {
+        final WeatherManager other = new WeatherManagerImpl();
         this.weatherManager.setCondition(WeatherCondition.FOG);
-        ((WeatherManagerImpl) this.weatherManager).reset();
-        assertEquals(WeatherCondition.SUNNY, this.weatherManager.getCurrentWeather());
+        assertEquals(WeatherCondition.SUNNY, other.getCurrentWeather());
+        for (int i = 0; i < DURATION; i++) {
+            other.processTurnEnd();
+        }
+        assertEquals(WeatherCondition.FOG, this.weatherManager.getCurrentWeather());
+    }
+
+    /**
+     * Verifies that a saved weather manager is restored with its condition and turn counter.
+     */
+    @Test
+    void testSerializationKeepsState() throws IOException, ClassNotFoundException {
+        this.weatherManager.setCondition(WeatherCondition.FOG);
+        for (int i = 0; i < DURATION - 1; i++) {
+            this.weatherManager.processTurnEnd();
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(this.weatherManager);
+        }
+        final WeatherManager restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (WeatherManager) in.readObject();
+        }
+        assertNotSame(this.weatherManager, restored);
+        assertEquals(WeatherCondition.FOG, restored.getCurrentWeather());
+        restored.processTurnEnd();
+        this.weatherManager.processTurnEnd();
+        assertEquals(this.weatherManager.getCurrentWeather(), restored.getCurrentWeather());
     }
 }